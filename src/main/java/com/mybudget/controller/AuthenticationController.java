@@ -1,10 +1,13 @@
 package com.mybudget.controller;
 
+import com.mybudget.domain.service.RefreshTokenService;
 import com.mybudget.domain.user.User;
 import com.mybudget.domain.user.UserAuthentication;
 import com.mybudget.infra.exception.InvalidCredentialsException;
+import com.mybudget.infra.monitoring.MonitoringConfiguration;
+import com.mybudget.infra.security.DadosRefreshToken;
 import com.mybudget.infra.security.DadosTokenJWT;
-import com.mybudget.infra.security.TokenService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +17,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.*;
 
+@Timed(MonitoringConfiguration.CONTROLLER_TIMER)
 @RestController
 @RequestMapping("/mybudget")
 public class AuthenticationController {
@@ -22,7 +26,7 @@ public class AuthenticationController {
     private AuthenticationManager manager;
 
     @Autowired
-    private TokenService tokenService;
+    private RefreshTokenService refreshTokenService;
 
     @PostMapping("/login")
     public ResponseEntity<DadosTokenJWT> login(@RequestBody @Valid UserAuthentication dados) {
@@ -30,12 +34,25 @@ public class AuthenticationController {
         try {
             var authenticationToken = new UsernamePasswordAuthenticationToken(dados.email(), dados.password());
             var authentication = manager.authenticate(authenticationToken);
-            var tokenJWT = tokenService.generateToken((User) authentication.getPrincipal());
+            var tokens = refreshTokenService.login((User) authentication.getPrincipal());
 
-            return ResponseEntity.status(HttpServletResponse.SC_OK).body(new DadosTokenJWT(tokenJWT));
+            return ResponseEntity.status(HttpServletResponse.SC_OK).body(tokens);
         }
         catch (AuthenticationException e) {
             throw new InvalidCredentialsException("Credenciais inválidas fornecidas. Verifique email e password e tente novamente.");
         }
     }
+
+    @PostMapping("/token/refresh")
+    public ResponseEntity<DadosTokenJWT> refresh(@RequestBody @Valid DadosRefreshToken dados) {
+
+        return ResponseEntity.status(HttpServletResponse.SC_OK).body(refreshTokenService.refresh(dados.refreshToken()));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody @Valid DadosRefreshToken dados) {
+
+        refreshTokenService.logout(dados.refreshToken());
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
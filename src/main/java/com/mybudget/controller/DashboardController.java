@@ -0,0 +1,57 @@
+package com.mybudget.controller;
+
+import com.mybudget.domain.dto.ExpenseArchiveRunDto;
+import com.mybudget.domain.dto.ExpenseSearchRebuildDto;
+import com.mybudget.domain.dto.ExpenseSummaryMismatchDto;
+import com.mybudget.domain.dto.ExpenseSummaryRebuildDto;
+import com.mybudget.domain.service.ExpenseArchiveScheduler;
+import com.mybudget.domain.service.ExpenseSearchService;
+import com.mybudget.domain.service.UserExpenseSummaryService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/mybudget/dashboard")
+public class DashboardController {
+
+    @Autowired
+    private UserExpenseSummaryService userExpenseSummaryService;
+
+    @Autowired
+    private ExpenseArchiveScheduler expenseArchiveScheduler;
+
+    @Autowired
+    private ExpenseSearchService expenseSearchService;
+
+    @PostMapping("/expense-summary/rebuild")
+    public ResponseEntity<ExpenseSummaryRebuildDto> rebuildExpenseSummary(@RequestParam(required = false) Long userId) {
+
+        ExpenseSummaryRebuildDto rebuild = userExpenseSummaryService.rebuild(userId);
+        return ResponseEntity.status(HttpServletResponse.SC_OK).body(rebuild);
+    }
+
+    @PostMapping("/expense-archive/run")
+    public ResponseEntity<ExpenseArchiveRunDto> runExpenseArchive() {
+
+        ExpenseArchiveRunDto run = expenseArchiveScheduler.run();
+        return ResponseEntity.status(HttpServletResponse.SC_OK).body(run);
+    }
+
+    @PostMapping("/expense-search/rebuild")
+    public ResponseEntity<ExpenseSearchRebuildDto> rebuildExpenseSearch(@RequestParam(required = false) Long userId) {
+
+        ExpenseSearchRebuildDto rebuild = expenseSearchService.rebuild(userId);
+        return ResponseEntity.status(HttpServletResponse.SC_OK).body(rebuild);
+    }
+
+    @GetMapping("/expense-summary/check")
+    public ResponseEntity<List<ExpenseSummaryMismatchDto>> checkExpenseSummary(@RequestParam(required = false) Long userId) {
+
+        List<ExpenseSummaryMismatchDto> mismatches = userExpenseSummaryService.check(userId);
+        return ResponseEntity.status(HttpServletResponse.SC_OK).body(mismatches);
+    }
+}
\ No newline at end of file
@@ -1,17 +1,44 @@
 package com.mybudget.controller;
 
+import com.mybudget.domain.dto.ExpenseDeleteResultDto;
 import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.ExpenseFilterDto;
+import com.mybudget.domain.dto.ExpensePageDto;
+import com.mybudget.domain.dto.ExpenseStatusBatchDto;
+import com.mybudget.domain.dto.ExpenseStatusBatchResultDto;
+import com.mybudget.domain.dto.ExpenseSummaryDto;
+import com.mybudget.domain.dto.ExpenseSyncDto;
 import com.mybudget.domain.dto.UpdateExpenseDto;
+import com.mybudget.domain.dto.VersionedExpenseDto;
+import com.mybudget.domain.service.ExpenseArchiveService;
+import com.mybudget.domain.service.ExpenseSearchService;
 import com.mybudget.domain.service.ExpenseService;
+import com.mybudget.domain.service.ExpenseSummaryService;
+import com.mybudget.domain.service.ExpenseSyncService;
+import com.mybudget.domain.service.ExpenseVersionService;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.exception.InvalidRequestException;
+import com.mybudget.infra.idempotency.IdempotencyService;
+import com.mybudget.infra.idempotency.IdempotentResult;
+import com.mybudget.infra.monitoring.MonitoringConfiguration;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
+@Timed(MonitoringConfiguration.CONTROLLER_TIMER)
 @RestController
 @RequestMapping("/mybudget/expense")
 public class ExpenseController {
@@ -19,49 +46,189 @@ public class ExpenseController {
     @Autowired
     private ExpenseService expenseService;
 
+    @Autowired
+    private ExpenseSummaryService expenseSummaryService;
+
+    @Autowired
+    private ExpenseSyncService expenseSyncService;
+
+    @Autowired
+    private ExpenseSearchService expenseSearchService;
+
+    @Autowired
+    private ExpenseArchiveService expenseArchiveService;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private ExpenseVersionService expenseVersionService;
+
     @PostMapping("/register")
-    public ResponseEntity<ExpenseDto> registerExpense(@RequestHeader("Authorization") String token,
+    public ResponseEntity<ExpenseDto> registerExpense(@AuthenticationPrincipal User user,
+                                                      @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
                                                       @RequestBody ExpenseDto expenseDto) {
 
-        ExpenseDto newExpenses = expenseService.newExpense(token, expenseDto);
-        return ResponseEntity.status(HttpServletResponse.SC_CREATED).body(newExpenses);
+        IdempotentResult<ExpenseDto> newExpense = idempotencyService.execute(user, "register", idempotencyKey, expenseDto,
+                () -> expenseService.newExpense(user, expenseDto));
+        return ResponseEntity.status(HttpServletResponse.SC_CREATED).headers(newExpense.headers()).body(newExpense.value());
+    }
+
+    @PostMapping("/register/batch")
+    public ResponseEntity<List<ExpenseDto>> registerExpenses(@AuthenticationPrincipal User user,
+                                                             @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+                                                             @RequestBody List<ExpenseDto> expenseDtos) {
+
+        IdempotentResult<List<ExpenseDto>> newExpenses = idempotencyService.execute(user, "register-batch", idempotencyKey, expenseDtos,
+                () -> expenseService.newExpenses(user, expenseDtos));
+        return ResponseEntity.status(HttpServletResponse.SC_CREATED).headers(newExpenses.headers()).body(newExpenses.value());
     }
 
     @PutMapping("/update/{id}")
-    public ResponseEntity<ExpenseDto> updateExpense(@RequestHeader("Authorization") String token,
+    public ResponseEntity<ExpenseDto> updateExpense(@AuthenticationPrincipal User user,
                                                     @PathVariable UUID id,
+                                                    @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                     @RequestBody UpdateExpenseDto expenseDto) {
 
-        ExpenseDto updatedExpense = expenseService.updateExpense(token, id, expenseDto);
-        return ResponseEntity.ok(updatedExpense);
+        Long expectedVersion = parseIfMatch(ifMatch);
+        IdempotentResult<VersionedExpenseDto> updatedExpense = idempotencyService.execute(user, "update:" + id, idempotencyKey, expenseDto,
+                () -> expenseService.updateExpense(user, id, expenseDto, expectedVersion));
+        return ResponseEntity.ok()
+                .eTag(Long.toString(updatedExpense.value().version()))
+                .headers(updatedExpense.headers())
+                .body(updatedExpense.value().expense());
+    }
+
+    @PutMapping("/update/batch")
+    public ResponseEntity<ExpenseStatusBatchResultDto> updateExpenseStatuses(@AuthenticationPrincipal User user,
+                                                                             @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+                                                                             @RequestBody ExpenseStatusBatchDto batch) {
+
+        IdempotentResult<ExpenseStatusBatchResultDto> updatedExpenses = idempotencyService.execute(user, "update-batch", idempotencyKey, batch,
+                () -> expenseService.updateStatuses(user, batch));
+        return ResponseEntity.status(HttpServletResponse.SC_OK).headers(updatedExpenses.headers()).body(updatedExpenses.value());
     }
 
     @GetMapping("/list-all")
-    public ResponseEntity<List<ExpenseDto>> getExpenseList(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<ExpensePageDto> getExpenseList(@AuthenticationPrincipal User user,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer size,
+                                                         ExpenseFilterDto filter,
+                                                         WebRequest request) {
 
-        List<ExpenseDto> expense = expenseService.getExpenses(token);
-        return ResponseEntity.status(HttpServletResponse.SC_OK).body(expense);
+        return conditionalPage(user, request, () -> expenseService.getExpenses(user, filter, cursor, size));
     }
 
     @GetMapping("/pending")
-    public ResponseEntity<List<ExpenseDto>> getExpensePending(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<ExpensePageDto> getExpensePending(@AuthenticationPrincipal User user,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(required = false) Integer size,
+                                                            ExpenseFilterDto filter,
+                                                            WebRequest request) {
 
-        List<ExpenseDto> expense = expenseService.getExpensesPending(token);
-        return ResponseEntity.status(HttpServletResponse.SC_OK).body(expense);
+        return conditionalPage(user, request, () -> expenseService.getExpensesPending(user, filter, cursor, size));
     }
 
     @GetMapping("/paid")
-    public ResponseEntity<List<ExpenseDto>> getExpensePaid(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<ExpensePageDto> getExpensePaid(@AuthenticationPrincipal User user,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer size,
+                                                         ExpenseFilterDto filter,
+                                                         WebRequest request) {
+
+        return conditionalPage(user, request, () -> expenseService.getExpensesPaid(user, filter, cursor, size));
+    }
 
-        List<ExpenseDto> expense = expenseService.getExpensesPaid(token);
-        return ResponseEntity.status(HttpServletResponse.SC_OK).body(expense);
+    @GetMapping("/archived")
+    public ResponseEntity<ExpensePageDto> getArchivedExpenseList(@AuthenticationPrincipal User user,
+                                                                 @RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer size) {
+
+        ExpensePageDto archived = expenseArchiveService.getArchivedExpenses(user, cursor, size);
+        return ResponseEntity.status(HttpServletResponse.SC_OK).body(archived);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ExpensePageDto> searchExpenses(@AuthenticationPrincipal User user,
+                                                         @RequestParam String q,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer size,
+                                                         WebRequest request) {
+
+        return conditionalPage(user, request, () -> expenseSearchService.search(user, q, cursor, size));
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<ExpenseSummaryDto> getExpenseSummary(@AuthenticationPrincipal User user,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                               @RequestParam(required = false) Integer top) {
+
+        ExpenseSummaryDto summary = expenseSummaryService.getSummary(user, from, to, top);
+        return ResponseEntity.status(HttpServletResponse.SC_OK).body(summary);
+    }
+
+    @GetMapping("/sync")
+    public ResponseEntity<ExpenseSyncDto> getExpenseChanges(@AuthenticationPrincipal User user,
+                                                            @RequestParam(required = false) String since,
+                                                            @RequestParam(required = false) Integer size) {
+
+        ExpenseSyncDto changes = expenseSyncService.getChanges(user, since, size);
+        return ResponseEntity.status(HttpServletResponse.SC_OK).body(changes);
     }
 
     @DeleteMapping("/delete/{id}")
-    public ResponseEntity<Void> deleteExpense(@RequestHeader("Authorization") String token,
+    public ResponseEntity<Void> deleteExpense(@AuthenticationPrincipal User user,
                                               @PathVariable UUID id) {
 
-        expenseService.deleteExpense(token, id);
+        expenseService.deleteExpense(user, id);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
+
+    @PostMapping("/delete/batch")
+    public ResponseEntity<List<ExpenseDeleteResultDto>> deleteExpenses(@AuthenticationPrincipal User user,
+                                                                       @RequestBody List<UUID> ids) {
+
+        List<ExpenseDeleteResultDto> results = expenseService.deleteExpenses(user, ids);
+        return ResponseEntity.status(HttpServletResponse.SC_OK).body(results);
+    }
+
+    /**
+     * If-Match da atualização: a versão da despesa recebida no ETag de uma atualização anterior ou na sincronização.
+     * Ausente ou {@code *}, a atualização não depende da versão.
+     */
+    private static Long parseIfMatch(String ifMatch) {
+
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String value = ifMatch.trim();
+        if (value.length() > 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("If-Match inválido. Informe o ETag recebido para a despesa.");
+        }
+    }
+
+    /**
+     * Responde {@code 304 Not Modified} quando o {@code If-None-Match} corresponde à versão atual das despesas do
+     * usuário, sem executar a consulta.
+     */
+    private ResponseEntity<ExpensePageDto> conditionalPage(User user, WebRequest request, Supplier<ExpensePageDto> page) {
+
+        String eTag = expenseVersionService.getETag(user);
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+
+        return ResponseEntity.status(HttpServletResponse.SC_OK).eTag(eTag).cacheControl(cacheControl).body(page.get());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.mybudget.controller;
+
+import com.mybudget.domain.expense.ExportFormat;
+import com.mybudget.domain.service.ExpenseExportService;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.monitoring.MonitoringConfiguration;
+import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@Timed(MonitoringConfiguration.CONTROLLER_TIMER)
+@RestController
+@RequestMapping("/mybudget/expense")
+public class ExpenseExportController {
+
+    @Autowired
+    private ExpenseExportService expenseExportService;
+
+    @GetMapping("/export")
+    public void exportExpenses(@AuthenticationPrincipal User user,
+                               @RequestParam(defaultValue = "ndjson") String format,
+                               HttpServletResponse response) throws IOException {
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("despesas." + exportFormat.getExtension())
+                .build()
+                .toString());
+
+        expenseExportService.export(user, exportFormat, response.getOutputStream());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.mybudget.controller;
+
+import com.mybudget.domain.dto.RecurringExpenseDto;
+import com.mybudget.domain.service.RecurringExpenseService;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.monitoring.MonitoringConfiguration;
+import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Timed(MonitoringConfiguration.CONTROLLER_TIMER)
+@RestController
+@RequestMapping("/mybudget/expense/recurring")
+public class RecurringExpenseController {
+
+    @Autowired
+    private RecurringExpenseService recurringExpenseService;
+
+    @PostMapping("/register")
+    public ResponseEntity<RecurringExpenseDto> registerRecurringExpense(@AuthenticationPrincipal User user,
+                                                                        @RequestBody RecurringExpenseDto recurringExpenseDto) {
+
+        RecurringExpenseDto recurringExpense = recurringExpenseService.newRecurringExpense(user, recurringExpenseDto);
+        return ResponseEntity.status(HttpServletResponse.SC_CREATED).body(recurringExpense);
+    }
+
+    @GetMapping("/list-all")
+    public ResponseEntity<List<RecurringExpenseDto>> getRecurringExpenseList(@AuthenticationPrincipal User user) {
+
+        List<RecurringExpenseDto> recurringExpenses = recurringExpenseService.getRecurringExpenses(user);
+        return ResponseEntity.status(HttpServletResponse.SC_OK).body(recurringExpenses);
+    }
+
+    @DeleteMapping("/delete/{id}")
+    public ResponseEntity<Void> deleteRecurringExpense(@AuthenticationPrincipal User user,
+                                                       @PathVariable UUID id) {
+
+        recurringExpenseService.deleteRecurringExpense(user, id);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
\ No newline at end of file
@@ -1,17 +1,28 @@
 package com.mybudget.controller;
 
 import com.mybudget.infra.exception.*;
+import com.mybudget.infra.monitoring.MonitoringConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import java.sql.SQLTransientConnectionException;
+
 @ControllerAdvice
 public class ResourceExceptionHandler {
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @ExceptionHandler(InvalidCredentialsException.class)
     public ResponseEntity<ErrorResponse> handleInvalidCredentialsException(InvalidCredentialsException exception) {
 
+        countException(exception);
         ErrorResponse errorResponse = new ErrorResponse(exception.getMessage());
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
     }
@@ -19,6 +30,7 @@ public class ResourceExceptionHandler {
     @ExceptionHandler(UserRegisterException.class)
     public ResponseEntity<ErrorResponse> handleUserRegisterException(UserRegisterException exception) {
 
+        countException(exception);
         ErrorResponse errorResponse = new ErrorResponse(exception.getMessage());
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
     }
@@ -27,6 +39,7 @@ public class ResourceExceptionHandler {
     @ExceptionHandler(ExpenseProcessingException.class)
     public ResponseEntity<ErrorResponse> handleExpenseProcessingException(ExpenseProcessingException exception) {
 
+        countException(exception);
         ErrorResponse errorResponse = new ErrorResponse(exception.getMessage());
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
     }
@@ -34,6 +47,7 @@ public class ResourceExceptionHandler {
     @ExceptionHandler(ExpenseNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleExpenseNotFoundException(ExpenseNotFoundException exception) {
 
+        countException(exception);
         ErrorResponse errorResponse = new ErrorResponse(exception.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
@@ -41,7 +55,99 @@ public class ResourceExceptionHandler {
     @ExceptionHandler(UnauthorizedAccessException.class)
     public ResponseEntity<ErrorResponse> handleUnauthorizedAccessException(UnauthorizedAccessException exception) {
 
+        countException(exception);
         ErrorResponse errorResponse = new ErrorResponse(exception.getMessage());
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
     }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequestException(InvalidRequestException exception) {
+
+        countException(exception);
+        ErrorResponse errorResponse = new ErrorResponse(exception.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(ExpenseBatchException.class)
+    public ResponseEntity<BatchErrorResponse> handleExpenseBatchException(ExpenseBatchException exception) {
+
+        countException(exception);
+        BatchErrorResponse errorResponse = new BatchErrorResponse(exception.getMessage(), exception.getErrors());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyConflictException(IdempotencyKeyConflictException exception) {
+
+        countException(exception);
+        ErrorResponse errorResponse = new ErrorResponse(exception.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler(RecurringExpenseLockedException.class)
+    public ResponseEntity<ErrorResponse> handleRecurringExpenseLockedException(RecurringExpenseLockedException exception) {
+
+        countException(exception);
+        ErrorResponse errorResponse = new ErrorResponse(exception.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException exception) {
+
+        countException(exception);
+        ErrorResponse errorResponse = new ErrorResponse(exception.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException exception) {
+
+        countException(exception);
+        ErrorResponse errorResponse = new ErrorResponse("A despesa foi alterada por outra requisição. Tente novamente.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailableException(PasswordHashingUnavailableException exception) {
+
+        countException(exception);
+        ErrorResponse errorResponse = new ErrorResponse(exception.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1").body(errorResponse);
+    }
+
+    /**
+     * Só o tempo esgotado esperando uma conexão livre do pool é "servidor ocupado" com {@code Retry-After}: o Hikari
+     * sinaliza com SQLTransientConnectionException sem causa. Quando o banco recusa conexões, a mesma exceção traz a
+     * falha original como causa e a resposta é um 503 sem a sugestão de repetir em instantes.
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ErrorResponse> handleCannotCreateTransactionException(CannotCreateTransactionException exception) {
+
+        countException(exception);
+
+        if (isPoolTimeout(exception)) {
+            ErrorResponse errorResponse = new ErrorResponse("Servidor ocupado. Tente novamente em instantes.");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1").body(errorResponse);
+        }
+
+        ErrorResponse errorResponse = new ErrorResponse("Banco de dados indisponível.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    private boolean isPoolTimeout(Throwable exception) {
+
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return cause.getCause() == null;
+            }
+        }
+
+        return false;
+    }
+
+    private void countException(RuntimeException exception) {
+        meterRegistry.counter(MonitoringConfiguration.EXCEPTIONS_COUNTER,
+                "exception", exception.getClass().getSimpleName()).increment();
+    }
 }
\ No newline at end of file
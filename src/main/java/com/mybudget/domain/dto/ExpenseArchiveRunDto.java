@@ -0,0 +1,5 @@
+package com.mybudget.domain.dto;
+
+public record ExpenseArchiveRunDto(int archived,
+                                   boolean hasMore) {
+}
\ No newline at end of file
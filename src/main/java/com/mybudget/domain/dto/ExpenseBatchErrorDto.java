@@ -0,0 +1,5 @@
+package com.mybudget.domain.dto;
+
+public record ExpenseBatchErrorDto(int index,
+                                   String message) {
+}
\ No newline at end of file
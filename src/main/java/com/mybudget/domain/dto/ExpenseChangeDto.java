@@ -0,0 +1,18 @@
+package com.mybudget.domain.dto;
+
+import com.mybudget.domain.expense.Status;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record ExpenseChangeDto(UUID id,
+                               String description,
+                               BigDecimal amount,
+                               Status status,
+                               LocalDate date,
+                               Instant createdAt,
+                               Instant updatedAt,
+                               Long version) {
+}
\ No newline at end of file
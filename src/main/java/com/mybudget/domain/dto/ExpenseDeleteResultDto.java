@@ -0,0 +1,9 @@
+package com.mybudget.domain.dto;
+
+import com.mybudget.domain.expense.DeleteOutcome;
+
+import java.util.UUID;
+
+public record ExpenseDeleteResultDto(UUID id,
+                                     DeleteOutcome outcome) {
+}
\ No newline at end of file
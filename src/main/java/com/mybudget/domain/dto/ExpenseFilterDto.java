@@ -0,0 +1,30 @@
+package com.mybudget.domain.dto;
+
+import com.mybudget.domain.expense.Status;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Filtros opcionais das listagens. Todos os informados são combinados (AND) e aplicados no banco.
+ */
+public record ExpenseFilterDto(@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                               @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                               BigDecimal minAmount,
+                               BigDecimal maxAmount,
+                               Set<Status> status,
+                               String description) {
+
+    public static final ExpenseFilterDto NONE = new ExpenseFilterDto(null, null, null, null, null, null);
+
+    public boolean isEmpty() {
+        return from == null && to == null && minAmount == null && maxAmount == null
+                && (status == null || status.isEmpty()) && (description == null || description.isBlank());
+    }
+
+    public ExpenseFilterDto withStatus(Status fixedStatus) {
+        return new ExpenseFilterDto(from, to, minAmount, maxAmount, Set.of(fixedStatus), description);
+    }
+}
\ No newline at end of file
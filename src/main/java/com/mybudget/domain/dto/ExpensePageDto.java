@@ -0,0 +1,7 @@
+package com.mybudget.domain.dto;
+
+import java.util.List;
+
+public record ExpensePageDto(List<ExpenseDto> expenses,
+                             String nextCursor) {
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.mybudget.domain.dto;
+
+public record ExpenseSearchRebuildDto(Long userId,
+                                     int expenses,
+                                     int terms) {
+}
\ No newline at end of file
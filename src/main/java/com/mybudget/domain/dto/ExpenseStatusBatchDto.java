@@ -0,0 +1,16 @@
+package com.mybudget.domain.dto;
+
+import com.mybudget.domain.expense.Status;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Alteração de status em lote: as despesas de {@code ids} ou, com {@code before}, todas as despesas do usuário
+ * com outro status e data anterior a {@code before}.
+ */
+public record ExpenseStatusBatchDto(List<UUID> ids,
+                                    LocalDate before,
+                                    Status status) {
+}
\ No newline at end of file
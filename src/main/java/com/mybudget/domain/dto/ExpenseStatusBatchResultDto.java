@@ -0,0 +1,7 @@
+package com.mybudget.domain.dto;
+
+import java.util.List;
+
+public record ExpenseStatusBatchResultDto(List<ExpenseStatusResultDto> results,
+                                          boolean hasMore) {
+}
\ No newline at end of file
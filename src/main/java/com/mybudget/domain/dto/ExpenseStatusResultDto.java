@@ -0,0 +1,10 @@
+package com.mybudget.domain.dto;
+
+import com.mybudget.domain.expense.StatusChangeOutcome;
+
+import java.util.UUID;
+
+public record ExpenseStatusResultDto(UUID id,
+                                     StatusChangeOutcome outcome,
+                                     Long version) {
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.mybudget.domain.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ExpenseSummaryDto(LocalDate from,
+                                LocalDate to,
+                                List<StatusSummaryDto> statuses,
+                                List<MonthlySummaryDto> months,
+                                List<ExpenseDto> topExpenses) {
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.mybudget.domain.dto;
+
+import java.math.BigDecimal;
+
+public record ExpenseSummaryMismatchDto(Long userId,
+                                        int year,
+                                        int month,
+                                        String status,
+                                        BigDecimal expectedTotal,
+                                        long expectedCount,
+                                        BigDecimal actualTotal,
+                                        long actualCount) {
+}
\ No newline at end of file
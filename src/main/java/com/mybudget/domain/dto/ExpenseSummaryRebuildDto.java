@@ -0,0 +1,5 @@
+package com.mybudget.domain.dto;
+
+public record ExpenseSummaryRebuildDto(Long userId,
+                                       int rows) {
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.mybudget.domain.dto;
+
+import java.util.List;
+
+public record ExpenseSyncDto(List<ExpenseChangeDto> changed,
+                             List<ExpenseTombstoneDto> deleted,
+                             String watermark,
+                             boolean hasMore) {
+}
\ No newline at end of file
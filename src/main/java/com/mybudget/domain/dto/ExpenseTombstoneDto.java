@@ -0,0 +1,8 @@
+package com.mybudget.domain.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ExpenseTombstoneDto(UUID id,
+                                  Instant deletedAt) {
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.mybudget.domain.dto;
+
+import com.mybudget.domain.expense.Status;
+
+import java.math.BigDecimal;
+
+public record MonthlySummaryDto(int year,
+                                int month,
+                                Status status,
+                                BigDecimal total,
+                                long count) {
+}
\ No newline at end of file
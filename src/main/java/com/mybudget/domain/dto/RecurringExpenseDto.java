@@ -0,0 +1,27 @@
+package com.mybudget.domain.dto;
+
+import com.mybudget.domain.expense.Frequency;
+import com.mybudget.domain.expense.RecurringExpense;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record RecurringExpenseDto(UUID id,
+                                  String description,
+                                  BigDecimal amount,
+                                  Frequency frequency,
+                                  String cron,
+                                  LocalDate startDate,
+                                  LocalDate nextDate) {
+
+    public RecurringExpenseDto(RecurringExpense recurringExpense) {
+        this(recurringExpense.getId(),
+                recurringExpense.getDescription(),
+                recurringExpense.getAmount(),
+                recurringExpense.getFrequency(),
+                recurringExpense.getCronExpression(),
+                recurringExpense.getStartDate(),
+                recurringExpense.getNextDate());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.mybudget.domain.dto;
+
+import com.mybudget.domain.expense.Status;
+
+import java.math.BigDecimal;
+
+public record StatusSummaryDto(Status status,
+                               BigDecimal total,
+                               long count) {
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.mybudget.domain.dto;
+
+import com.mybudget.domain.expense.Status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record VersionedExpenseDto(ExpenseDto expense,
+                                  Long userId,
+                                  long version) {
+
+    public VersionedExpenseDto(UUID id, String description, BigDecimal amount, Status status, LocalDate date,
+                               Long userId, long version) {
+        this(new ExpenseDto(id, description, amount, status, date), userId, version);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.mybudget.domain.expense;
+
+public enum DeleteOutcome {
+
+    DELETED,
+    NOT_PAID,
+    NOT_FOUND
+}
\ No newline at end of file
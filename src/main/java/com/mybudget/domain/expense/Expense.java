@@ -2,24 +2,33 @@ package com.mybudget.domain.expense;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.mybudget.domain.user.User;
+import com.mybudget.infra.persistence.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity(name = "Expense")
-@Table(name = "tb_expense")
+@Table(name = "tb_expense", indexes = {
+        @Index(name = "idx_expense_user_date", columnList = "user_id, date, id"),
+        @Index(name = "idx_expense_user_status_date", columnList = "user_id, status, date, id"),
+        @Index(name = "idx_expense_user_updated", columnList = "user_id, updated_at, id"),
+        @Index(name = "idx_expense_user_amount", columnList = "user_id, amount, id"),
+        @Index(name = "idx_expense_status_date", columnList = "status, date, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 @EqualsAndHashCode(of = "id")
 public class Expense {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7
     private UUID id;
 
     private String description;
@@ -36,4 +45,24 @@ public class Expense {
     @Column(name = "status")
     @Enumerated(EnumType.STRING)
     private Status status;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Version
+    private Long version;
+
+    public Expense(UUID id, String description, BigDecimal amount, LocalDate date, User user, Status status) {
+        this.id = id;
+        this.description = description;
+        this.amount = amount;
+        this.date = date;
+        this.user = user;
+        this.status = status;
+    }
 }
\ No newline at end of file
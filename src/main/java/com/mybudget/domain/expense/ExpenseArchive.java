@@ -0,0 +1,50 @@
+package com.mybudget.domain.expense;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Despesa paga movida de tb_expense para tb_expense_archive pelo arquivamento (ver ExpenseArchiveService).
+ * As linhas são copiadas com INSERT ... SELECT, então a entidade só é usada para leitura e exclusão.
+ */
+@Entity(name = "ExpenseArchive")
+@Table(name = "tb_expense_archive", indexes = {
+        @Index(name = "idx_expense_archive_user_date", columnList = "user_id, date, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class ExpenseArchive {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    private String description;
+
+    private BigDecimal amount;
+
+    private LocalDate date;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    private Long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.mybudget.domain.expense;
+
+import com.mybudget.domain.dto.ExpenseDto;
+
+import java.util.List;
+
+/**
+ * Publicado pelo ExpenseArchiveService, dentro da transação do arquivamento, com as despesas do usuário movidas
+ * para tb_expense_archive. Não é uma exclusão: os totais continuam contando as despesas e a sincronização não
+ * gera tombstones; só as listagens, e por isso o ETag delas, mudam.
+ */
+public record ExpenseArchivedEvent(Long userId,
+                                   List<ExpenseDto> expenses) {
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.mybudget.domain.expense;
+
+import com.mybudget.domain.dto.ExpenseDto;
+
+import java.util.List;
+
+/**
+ * Publicado pelo ExpenseService, dentro da transação da gravação, com o estado das despesas
+ * antes (removed) e depois (added) da alteração.
+ */
+public record ExpenseChangedEvent(Long userId,
+                                  List<ExpenseDto> removed,
+                                  List<ExpenseDto> added) {
+
+    public static ExpenseChangedEvent created(Long userId, List<ExpenseDto> expenses) {
+        return new ExpenseChangedEvent(userId, List.of(), expenses);
+    }
+
+    public static ExpenseChangedEvent updated(Long userId, ExpenseDto before, ExpenseDto after) {
+        return new ExpenseChangedEvent(userId, List.of(before), List.of(after));
+    }
+
+    public static ExpenseChangedEvent updated(Long userId, List<ExpenseDto> before, List<ExpenseDto> after) {
+        return new ExpenseChangedEvent(userId, before, after);
+    }
+
+    public static ExpenseChangedEvent deleted(Long userId, ExpenseDto expense) {
+        return new ExpenseChangedEvent(userId, List.of(expense), List.of());
+    }
+
+    public static ExpenseChangedEvent deleted(Long userId, List<ExpenseDto> expenses) {
+        return new ExpenseChangedEvent(userId, expenses, List.of());
+    }
+}
\ No newline at end of file
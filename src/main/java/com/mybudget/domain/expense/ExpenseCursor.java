@@ -0,0 +1,45 @@
+package com.mybudget.domain.expense;
+
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.infra.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição da última despesa retornada em uma página, ordenada por (date, id).
+ * Trafega para o cliente como uma string opaca em Base64 URL-safe.
+ */
+public record ExpenseCursor(LocalDate date, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static ExpenseCursor of(ExpenseDto expense) {
+        return new ExpenseCursor(expense.date(), expense.id());
+    }
+
+    public static ExpenseCursor decode(String cursor) {
+
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+
+            return new ExpenseCursor(LocalDate.parse(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Cursor de paginação inválido.");
+        }
+    }
+
+    public String encode() {
+
+        String value = date + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
\ No newline at end of file
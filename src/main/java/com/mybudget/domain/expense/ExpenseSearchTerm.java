@@ -0,0 +1,33 @@
+package com.mybudget.domain.expense;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Uma linha do índice de busca: o termo de uma despesa do usuário. A chave (user_id, term, expense_id) é a ordem da
+ * busca, que lê apenas os termos do próprio usuário. Os termos só são inseridos ou excluídos, então {@link #isNew()}
+ * evita o SELECT que o merge faria antes do INSERT.
+ */
+@Entity(name = "ExpenseSearchTerm")
+@Table(name = "tb_expense_search_term", indexes = {
+        @Index(name = "idx_expense_search_term_user_expense", columnList = "user_id, expense_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class ExpenseSearchTerm implements Persistable<ExpenseSearchTermId> {
+
+    @EmbeddedId
+    private ExpenseSearchTermId id;
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.mybudget.domain.expense;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ExpenseSearchTermId implements Serializable {
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "term")
+    private String term;
+
+    @Column(name = "expense_id")
+    private UUID expenseId;
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.mybudget.domain.expense;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Termos de busca de uma descrição, gravados em tb_expense_search_term: palavras sem acentos, em minúsculas, com
+ * pelo menos {@link #MIN_LENGTH} caracteres e fora das stopwords. A mesma regra é aplicada ao texto buscado, então
+ * "Farmácia" encontra "farmacia".
+ */
+public final class ExpenseSearchTerms {
+
+    public static final int MIN_LENGTH = 2;
+
+    // Tamanho da coluna term; palavras maiores são gravadas e buscadas pelo prefixo.
+    public static final int MAX_LENGTH = 64;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "de", "da", "do", "das", "dos", "e", "a", "o", "as", "os", "em", "no", "na", "nos", "nas",
+            "para", "por", "com", "um", "uma");
+
+    private ExpenseSearchTerms() {
+    }
+
+    public static Set<String> of(String text) {
+
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+
+        String normalized = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        for (String word : SEPARATORS.split(normalized)) {
+            if (word.length() >= MIN_LENGTH && !STOPWORDS.contains(word)) {
+                terms.add(word.length() > MAX_LENGTH ? word.substring(0, MAX_LENGTH) : word);
+            }
+        }
+
+        return terms;
+    }
+}
\ No newline at end of file
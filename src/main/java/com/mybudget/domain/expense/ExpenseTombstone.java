@@ -0,0 +1,38 @@
+package com.mybudget.domain.expense;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Registro de uma despesa excluída, mantido para que a sincronização informe a exclusão aos clientes.
+ * O id é o da própria despesa, então {@link #isNew()} evita o SELECT que o merge faria antes do INSERT.
+ */
+@Entity(name = "ExpenseTombstone")
+@Table(name = "tb_expense_tombstone", indexes = {
+        @Index(name = "idx_expense_tombstone_user_deleted", columnList = "user_id, deleted_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class ExpenseTombstone implements Persistable<UUID> {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.mybudget.domain.expense;
+
+import com.mybudget.infra.exception.InvalidRequestException;
+
+import java.util.Locale;
+
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat from(String format) {
+
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Formato de exportação inválido. Use ndjson ou csv.");
+        }
+    }
+}
\ No newline at end of file
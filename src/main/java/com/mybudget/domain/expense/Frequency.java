@@ -0,0 +1,8 @@
+package com.mybudget.domain.expense;
+
+public enum Frequency {
+
+    WEEKLY,
+    MONTHLY,
+    CRON
+}
\ No newline at end of file
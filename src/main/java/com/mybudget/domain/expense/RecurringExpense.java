@@ -0,0 +1,61 @@
+package com.mybudget.domain.expense;
+
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.persistence.UuidV7;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Modelo de despesa recorrente. next_date é a próxima ocorrência a ser lançada em tb_expense (nula quando a
+ * recorrência terminou) e serve de ponto de retomada: é avançada na mesma transação que grava as despesas.
+ * lease_token e lease_until marcam o nó que reservou o modelo (ver RecurringExpenseService).
+ */
+@Entity(name = "RecurringExpense")
+@Table(name = "tb_recurring_expense", indexes = {
+        @Index(name = "idx_recurring_expense_user", columnList = "user_id, id"),
+        @Index(name = "idx_recurring_expense_next", columnList = "next_date, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class RecurringExpense {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    private String description;
+
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    private Frequency frequency;
+
+    @Column(name = "cron_expression")
+    private String cronExpression;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "next_date")
+    private LocalDate nextDate;
+
+    @Column(name = "lease_token")
+    private UUID leaseToken;
+
+    @Column(name = "lease_until")
+    private Instant leaseUntil;
+
+    @Version
+    private Long version;
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.mybudget.domain.expense;
+
+public enum StatusChangeOutcome {
+
+    UPDATED,
+    UNCHANGED,
+    NOT_FOUND
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.mybudget.domain.expense;
+
+import com.mybudget.infra.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Posição da última alteração entregue na sincronização, ordenada por (changedAt, id).
+ * Trafega para o cliente como uma string opaca em Base64 URL-safe.
+ */
+public record SyncWatermark(Instant changedAt, UUID id) implements Comparable<SyncWatermark> {
+
+    public static final SyncWatermark START = new SyncWatermark(Instant.EPOCH, new UUID(0, 0));
+
+    // Mesma ordem do banco para ids binary(16): bytes sem sinal, do mais significativo ao menos significativo.
+    private static final Comparator<UUID> ID_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    private static final Comparator<SyncWatermark> ORDER = Comparator
+            .comparing(SyncWatermark::changedAt)
+            .thenComparing(SyncWatermark::id, ID_ORDER);
+
+    private static final String SEPARATOR = "|";
+
+    public static SyncWatermark decode(String watermark) {
+
+        if (watermark == null || watermark.isBlank()) {
+            return START;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(watermark), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+
+            return new SyncWatermark(Instant.parse(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Marca de sincronização inválida.");
+        }
+    }
+
+    public String encode() {
+
+        String value = changedAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int compareTo(SyncWatermark other) {
+        return ORDER.compare(this, other);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.mybudget.domain.expense;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Entity(name = "UserExpenseSummary")
+@Table(name = "tb_user_expense_summary")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class UserExpenseSummary {
+
+    @EmbeddedId
+    private UserExpenseSummaryId id;
+
+    @Column(name = "total_amount")
+    private BigDecimal totalAmount;
+
+    @Column(name = "expense_count")
+    private long expenseCount;
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.mybudget.domain.expense;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class UserExpenseSummaryId implements Serializable {
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "expense_year")
+    private int year;
+
+    @Column(name = "expense_month")
+    private int month;
+
+    @Column(name = "status")
+    @Enumerated(EnumType.STRING)
+    private Status status;
+}
\ No newline at end of file
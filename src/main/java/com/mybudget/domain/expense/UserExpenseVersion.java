@@ -0,0 +1,24 @@
+package com.mybudget.domain.expense;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+@Entity(name = "UserExpenseVersion")
+@Table(name = "tb_user_expense_version")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "userId")
+public class UserExpenseVersion {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "version")
+    private long version;
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.mybudget.domain.repository;
+
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.MonthlySummaryDto;
+import com.mybudget.domain.dto.StatusSummaryDto;
+import com.mybudget.domain.expense.ExpenseArchive;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface ExpenseArchiveRepository extends JpaRepository<ExpenseArchive, UUID> {
+
+    // Arquivamento: copia as despesas de tb_expense no servidor, sem trazê-las para a aplicação.
+    @Modifying
+    @Query(value = """
+            INSERT INTO tb_expense_archive (`id`, `user_id`, `description`, `amount`, `date`, `status`, `created_at`, `updated_at`, `version`, `archived_at`)
+            SELECT e.`id`, e.`user_id`, e.`description`, e.`amount`, e.`date`, e.`status`, e.`created_at`, e.`updated_at`, e.`version`, :archivedAt
+            FROM tb_expense e
+            WHERE e.`id` IN (:ids)""", nativeQuery = true)
+    int copyFromExpenses(@Param("ids") Collection<UUID> ids, @Param("archivedAt") Instant archivedAt);
+
+    // Listagem do arquivo, na mesma ordem e com o mesmo cursor das listagens de tb_expense.
+    @Query("""
+            SELECT new com.mybudget.domain.dto.ExpenseDto(a.id, a.description, a.amount, a.status, a.date)
+            FROM ExpenseArchive a
+            WHERE a.userId = :user
+            ORDER BY a.userId, a.date, a.id""")
+    List<ExpenseDto> findPageByUser(@Param("user") Long user, Limit limit);
+
+    @Query("""
+            SELECT new com.mybudget.domain.dto.ExpenseDto(a.id, a.description, a.amount, a.status, a.date)
+            FROM ExpenseArchive a
+            WHERE a.userId = :user
+              AND (a.date > :date OR (a.date = :date AND a.id > :id))
+            ORDER BY a.userId, a.date, a.id""")
+    List<ExpenseDto> findPageByUserAfter(@Param("user") Long user,
+                                         @Param("date") LocalDate date,
+                                         @Param("id") UUID id,
+                                         Limit limit);
+
+    // Exclusão em lote: as linhas arquivadas ainda contam nos totais, então são lidas bloqueadas para o delta.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT new com.mybudget.domain.dto.ExpenseDto(a.id, a.description, a.amount, a.status, a.date)
+            FROM ExpenseArchive a
+            WHERE a.userId = :user AND a.id IN :ids""")
+    List<ExpenseDto> findForDelete(@Param("user") Long user, @Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("DELETE FROM ExpenseArchive a WHERE a.userId = :user AND a.id IN :ids")
+    int deleteByUserAndIds(@Param("user") Long user, @Param("ids") Collection<UUID> ids);
+
+    // Exportação e resumo: as mesmas consultas de ExpenseRepository, sobre idx_expense_archive_user_date; o
+    // ExpenseExportService e o ExpenseSummaryService combinam os dois resultados.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new com.mybudget.domain.dto.ExpenseDto(a.id, a.description, a.amount, a.status, a.date)
+            FROM ExpenseArchive a
+            WHERE a.userId = :user
+            ORDER BY a.userId, a.date, a.id""")
+    Stream<ExpenseDto> streamByUser(@Param("user") Long user);
+
+    @Query("""
+            SELECT new com.mybudget.domain.dto.MonthlySummaryDto(YEAR(a.date), MONTH(a.date), a.status, SUM(a.amount), COUNT(a))
+            FROM ExpenseArchive a
+            WHERE a.userId = :user AND a.date >= :from AND a.date <= :to
+            GROUP BY YEAR(a.date), MONTH(a.date), a.status""")
+    List<MonthlySummaryDto> summarizeByMonth(@Param("user") Long user,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT new com.mybudget.domain.dto.StatusSummaryDto(a.status, SUM(a.amount), COUNT(a))
+            FROM ExpenseArchive a
+            WHERE a.userId = :user AND a.date >= :from AND a.date <= :to
+            GROUP BY a.status""")
+    List<StatusSummaryDto> summarizeByStatus(@Param("user") Long user,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT new com.mybudget.domain.dto.ExpenseDto(a.id, a.description, a.amount, a.status, a.date)
+            FROM ExpenseArchive a
+            WHERE a.userId = :user AND a.date >= :from AND a.date <= :to
+            ORDER BY a.amount DESC, a.id""")
+    List<ExpenseDto> findTopByAmount(@Param("user") Long user,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to,
+                                     Limit limit);
+}
\ No newline at end of file
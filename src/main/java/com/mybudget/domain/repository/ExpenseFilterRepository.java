@@ -0,0 +1,13 @@
+package com.mybudget.domain.repository;
+
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.ExpenseFilterDto;
+import com.mybudget.domain.expense.ExpenseCursor;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+public interface ExpenseFilterRepository {
+
+    List<ExpenseDto> findFilteredPage(Long user, ExpenseFilterDto filter, ExpenseCursor after, Limit limit);
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.mybudget.domain.repository;
+
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.ExpenseFilterDto;
+import com.mybudget.domain.expense.Expense;
+import com.mybudget.domain.expense.ExpenseCursor;
+import com.mybudget.domain.expense.Status;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Listagem filtrada montada com Criteria, apenas com os predicados informados. A ordem continua sendo a do
+ * cursor (date, id), então período e status usam os índices de listagem já ordenados; sem período, a faixa de
+ * valor usa idx_expense_user_amount. A busca por trecho da descrição é apenas um filtro residual sobre as linhas
+ * do usuário.
+ */
+public class ExpenseFilterRepositoryImpl implements ExpenseFilterRepository {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ExpenseDto> findFilteredPage(Long user, ExpenseFilterDto filter, ExpenseCursor after, Limit limit) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ExpenseDto> query = cb.createQuery(ExpenseDto.class);
+        Root<Expense> expense = query.from(Expense.class);
+
+        Path<Long> userId = expense.get("user").get("id");
+        Path<UUID> id = expense.get("id");
+        Path<LocalDate> date = expense.get("date");
+        Path<BigDecimal> amount = expense.get("amount");
+        Path<Status> status = expense.get("status");
+        Path<String> description = expense.get("description");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(userId, user));
+
+        if (filter.status() != null && !filter.status().isEmpty()) {
+            predicates.add(filter.status().size() == 1
+                    ? cb.equal(status, filter.status().iterator().next())
+                    : status.in(filter.status()));
+        }
+        if (filter.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(date, filter.from()));
+        }
+        if (filter.to() != null) {
+            predicates.add(cb.lessThanOrEqualTo(date, filter.to()));
+        }
+        if (filter.minAmount() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(amount, filter.minAmount()));
+        }
+        if (filter.maxAmount() != null) {
+            predicates.add(cb.lessThanOrEqualTo(amount, filter.maxAmount()));
+        }
+        if (filter.description() != null && !filter.description().isBlank()) {
+            predicates.add(cb.like(cb.lower(description), "%" + escapeLike(filter.description().trim()) + "%", LIKE_ESCAPE));
+        }
+        if (after != null) {
+            predicates.add(cb.or(cb.greaterThan(date, after.date()),
+                    cb.and(cb.equal(date, after.date()), cb.greaterThan(id, after.id()))));
+        }
+
+        List<Order> order = new ArrayList<>();
+        order.add(cb.asc(userId));
+        if (filter.status() != null && filter.status().size() == 1) {
+            order.add(cb.asc(status));
+        }
+        order.add(cb.asc(date));
+        order.add(cb.asc(id));
+
+        query.select(cb.construct(ExpenseDto.class, id, description, amount, status, date))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(order);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit.max())
+                .getResultList();
+    }
+
+    private static String escapeLike(String value) {
+
+        return value.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
\ No newline at end of file
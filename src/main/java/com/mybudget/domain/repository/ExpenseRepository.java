@@ -1,20 +1,214 @@
 package com.mybudget.domain.repository;
 
+import com.mybudget.domain.dto.ExpenseChangeDto;
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.MonthlySummaryDto;
+import com.mybudget.domain.dto.StatusSummaryDto;
+import com.mybudget.domain.dto.VersionedExpenseDto;
 import com.mybudget.domain.expense.Expense;
 import com.mybudget.domain.expense.Status;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
+public interface ExpenseRepository extends JpaRepository<Expense, UUID>, ExpenseFilterRepository {
 
-    @Query("SELECT e FROM Expense e WHERE e.user.id = :user")
-    List<Expense> findByUserInvolved(@Param("user") Long user);
+    // As listagens projetam direto em ExpenseDto (sem montar entidades nem carregar o User) e ordenam pela
+    // chave completa de idx_expense_user_date / idx_expense_user_status_date, evitando filesort.
+    @Query("""
+            SELECT new com.mybudget.domain.dto.ExpenseDto(e.id, e.description, e.amount, e.status, e.date)
+            FROM Expense e
+            WHERE e.user.id = :user
+            ORDER BY e.user.id, e.date, e.id""")
+    List<ExpenseDto> findPageByUserInvolved(@Param("user") Long user, Limit limit);
 
+    @Query("""
+            SELECT new com.mybudget.domain.dto.ExpenseDto(e.id, e.description, e.amount, e.status, e.date)
+            FROM Expense e
+            WHERE e.user.id = :user
+              AND (e.date > :date OR (e.date = :date AND e.id > :id))
+            ORDER BY e.user.id, e.date, e.id""")
+    List<ExpenseDto> findPageByUserInvolvedAfter(@Param("user") Long user,
+                                                 @Param("date") LocalDate date,
+                                                 @Param("id") UUID id,
+                                                 Limit limit);
 
-    @Query("SELECT e FROM Expense e WHERE e.user.id = :id AND e.status = :status")
-    List<Expense> findByUserInvolvedAndStatus(Long id, Status status);
+    @Query("""
+            SELECT new com.mybudget.domain.dto.ExpenseDto(e.id, e.description, e.amount, e.status, e.date)
+            FROM Expense e
+            WHERE e.user.id = :user AND e.status = :status
+            ORDER BY e.user.id, e.status, e.date, e.id""")
+    List<ExpenseDto> findPageByUserInvolvedAndStatus(@Param("user") Long user,
+                                                     @Param("status") Status status,
+                                                     Limit limit);
+
+    @Query("""
+            SELECT new com.mybudget.domain.dto.ExpenseDto(e.id, e.description, e.amount, e.status, e.date)
+            FROM Expense e
+            WHERE e.user.id = :user AND e.status = :status
+              AND (e.date > :date OR (e.date = :date AND e.id > :id))
+            ORDER BY e.user.id, e.status, e.date, e.id""")
+    List<ExpenseDto> findPageByUserInvolvedAndStatusAfter(@Param("user") Long user,
+                                                          @Param("status") Status status,
+                                                          @Param("date") LocalDate date,
+                                                          @Param("id") UUID id,
+                                                          Limit limit);
+
+    // Atualização: estado atual, dono e versão pela chave primária, sem carregar a entidade nem o User.
+    @Query("""
+            SELECT new com.mybudget.domain.dto.VersionedExpenseDto(e.id, e.description, e.amount, e.status, e.date, e.user.id, e.version)
+            FROM Expense e
+            WHERE e.id = :id""")
+    Optional<VersionedExpenseDto> findVersionedById(@Param("id") UUID id);
+
+    // Grava apenas os campos informados (nulos mantêm o valor atual) se a despesa ainda for do usuário e estiver
+    // na versão lida. Retorna 0 quando outra requisição alterou a despesa antes.
+    @Modifying
+    @Query("""
+            UPDATE Expense e
+            SET e.amount = COALESCE(:amount, e.amount),
+                e.description = COALESCE(:description, e.description),
+                e.status = COALESCE(:status, e.status),
+                e.updatedAt = :updatedAt,
+                e.version = e.version + 1
+            WHERE e.id = :id AND e.user.id = :user AND e.version = :version""")
+    int updateIfVersion(@Param("id") UUID id,
+                        @Param("user") Long user,
+                        @Param("version") long version,
+                        @Param("amount") BigDecimal amount,
+                        @Param("description") String description,
+                        @Param("status") Status status,
+                        @Param("updatedAt") Instant updatedAt);
+
+    // Gravações em lote: lê e bloqueia as despesas do usuário antes do UPDATE/DELETE, para que os totais
+    // calculados a partir do estado anterior não sejam afetados por gravações concorrentes.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT new com.mybudget.domain.dto.VersionedExpenseDto(e.id, e.description, e.amount, e.status, e.date, e.user.id, e.version)
+            FROM Expense e
+            WHERE e.user.id = :user AND e.id IN :ids""")
+    List<VersionedExpenseDto> findForUpdate(@Param("user") Long user, @Param("ids") Collection<UUID> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT new com.mybudget.domain.dto.VersionedExpenseDto(e.id, e.description, e.amount, e.status, e.date, e.user.id, e.version)
+            FROM Expense e
+            WHERE e.user.id = :user AND e.status <> :status AND e.date < :before
+            ORDER BY e.user.id, e.date, e.id""")
+    List<VersionedExpenseDto> findForStatusChangeBefore(@Param("user") Long user,
+                                                        @Param("status") Status status,
+                                                        @Param("before") LocalDate before,
+                                                        Limit limit);
+
+    @Modifying
+    @Query("""
+            UPDATE Expense e
+            SET e.status = :status,
+                e.updatedAt = :updatedAt,
+                e.version = e.version + 1
+            WHERE e.user.id = :user AND e.id IN :ids""")
+    int updateStatus(@Param("user") Long user,
+                     @Param("ids") Collection<UUID> ids,
+                     @Param("status") Status status,
+                     @Param("updatedAt") Instant updatedAt);
+
+    @Modifying
+    @Query("DELETE FROM Expense e WHERE e.user.id = :user AND e.id IN :ids")
+    int deleteByUserAndIds(@Param("user") Long user, @Param("ids") Collection<UUID> ids);
+
+    // Arquivamento: despesas de todos os usuários com o status e data anterior a :before, por idx_expense_status_date,
+    // bloqueadas até a cópia para tb_expense_archive e a exclusão.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT new com.mybudget.domain.dto.VersionedExpenseDto(e.id, e.description, e.amount, e.status, e.date, e.user.id, e.version)
+            FROM Expense e
+            WHERE e.status = :status AND e.date < :before
+            ORDER BY e.status, e.date, e.id""")
+    List<VersionedExpenseDto> findForArchive(@Param("status") Status status,
+                                             @Param("before") LocalDate before,
+                                             Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM Expense e WHERE e.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+
+    // Sincronização: percorre idx_expense_user_updated a partir da marca (updated_at, id), até o limite :until.
+    @Query("""
+            SELECT new com.mybudget.domain.dto.ExpenseChangeDto(e.id, e.description, e.amount, e.status, e.date, e.createdAt, e.updatedAt, e.version)
+            FROM Expense e
+            WHERE e.user.id = :user
+              AND (e.updatedAt > :at OR (e.updatedAt = :at AND e.id > :id))
+              AND e.updatedAt < :until
+            ORDER BY e.user.id, e.updatedAt, e.id""")
+    List<ExpenseChangeDto> findChangedSince(@Param("user") Long user,
+                                            @Param("at") Instant at,
+                                            @Param("id") UUID id,
+                                            @Param("until") Instant until,
+                                            Limit limit);
+
+    // Reconstrução do índice de busca: percorre as descrições em lotes de 1000, como a exportação.
+    // user = 0 abrange todos os usuários.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT e.user.id, e.id, e.description
+            FROM Expense e
+            WHERE e.user.id IS NOT NULL AND (:user = 0 OR e.user.id = :user)""")
+    Stream<Object[]> streamDescriptions(@Param("user") Long user);
+
+    // Exportação do histórico completo: as linhas são lidas do cursor JDBC em lotes de 1000 e consumidas uma a uma.
+    // No MySQL o fetch size só é respeitado com useCursorFetch=true na URL de conexão.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new com.mybudget.domain.dto.ExpenseDto(e.id, e.description, e.amount, e.status, e.date)
+            FROM Expense e
+            WHERE e.user.id = :user
+            ORDER BY e.user.id, e.date, e.id""")
+    Stream<ExpenseDto> streamByUserInvolved(@Param("user") Long user);
+
+    // Resumo: as somas são feitas no banco sobre o intervalo (user_id, date) de idx_expense_user_date.
+    @Query("""
+            SELECT new com.mybudget.domain.dto.MonthlySummaryDto(YEAR(e.date), MONTH(e.date), e.status, SUM(e.amount), COUNT(e))
+            FROM Expense e
+            WHERE e.user.id = :user AND e.date >= :from AND e.date <= :to
+            GROUP BY YEAR(e.date), MONTH(e.date), e.status
+            ORDER BY YEAR(e.date), MONTH(e.date), e.status""")
+    List<MonthlySummaryDto> summarizeByMonth(@Param("user") Long user,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT new com.mybudget.domain.dto.StatusSummaryDto(e.status, SUM(e.amount), COUNT(e))
+            FROM Expense e
+            WHERE e.user.id = :user AND e.date >= :from AND e.date <= :to
+            GROUP BY e.status
+            ORDER BY e.status""")
+    List<StatusSummaryDto> summarizeByStatus(@Param("user") Long user,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT new com.mybudget.domain.dto.ExpenseDto(e.id, e.description, e.amount, e.status, e.date)
+            FROM Expense e
+            WHERE e.user.id = :user AND e.date >= :from AND e.date <= :to
+            ORDER BY e.amount DESC, e.id""")
+    List<ExpenseDto> findTopByAmount(@Param("user") Long user,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to,
+                                     Limit limit);
 }
\ No newline at end of file
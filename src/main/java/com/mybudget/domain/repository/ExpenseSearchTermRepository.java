@@ -0,0 +1,42 @@
+package com.mybudget.domain.repository;
+
+import com.mybudget.domain.expense.ExpenseSearchTerm;
+import com.mybudget.domain.expense.ExpenseSearchTermId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ExpenseSearchTermRepository extends JpaRepository<ExpenseSearchTerm, ExpenseSearchTermId> {
+
+    // Busca textual: percorre a chave (user_id, term, expense_id) apenas nos termos buscados do usuário. A relevância
+    // é a quantidade de termos encontrados em cada despesa; o JOIN confirma que a despesa ainda é do usuário.
+    @Query(value = """
+            SELECT e.id, e.description, e.amount, e.status, e.date
+            FROM (SELECT t.expense_id, COUNT(*) AS score
+                  FROM tb_expense_search_term t
+                  WHERE t.user_id = :user AND t.term IN (:terms)
+                  GROUP BY t.expense_id) m
+            JOIN tb_expense e ON e.id = m.expense_id AND e.user_id = :user
+            ORDER BY m.score DESC, e.date DESC, e.id
+            LIMIT :limit OFFSET :offset""", nativeQuery = true)
+    List<Object[]> search(@Param("user") Long user,
+                          @Param("terms") Collection<String> terms,
+                          @Param("limit") int limit,
+                          @Param("offset") int offset);
+
+    // Usa idx_expense_search_term_user_expense.
+    @Modifying
+    @Query("DELETE FROM ExpenseSearchTerm t WHERE t.id.userId = :user AND t.id.expenseId IN :ids")
+    int deleteByExpenseIds(@Param("user") Long user,
+                           @Param("ids") Collection<UUID> ids);
+
+    // Reconstrução: user = 0 abrange todos os usuários.
+    @Modifying
+    @Query(value = "DELETE FROM tb_expense_search_term WHERE (:user = 0 OR user_id = :user)", nativeQuery = true)
+    int deleteByUser(@Param("user") Long user);
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.mybudget.domain.repository;
+
+import com.mybudget.domain.dto.ExpenseTombstoneDto;
+import com.mybudget.domain.expense.ExpenseTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface ExpenseTombstoneRepository extends JpaRepository<ExpenseTombstone, UUID> {
+
+    // Sincronização: percorre idx_expense_tombstone_user_deleted a partir da marca (deleted_at, id).
+    @Query("""
+            SELECT new com.mybudget.domain.dto.ExpenseTombstoneDto(t.id, t.deletedAt)
+            FROM ExpenseTombstone t
+            WHERE t.userId = :user
+              AND (t.deletedAt > :at OR (t.deletedAt = :at AND t.id > :id))
+              AND t.deletedAt < :until
+            ORDER BY t.userId, t.deletedAt, t.id""")
+    List<ExpenseTombstoneDto> findDeletedSince(@Param("user") Long user,
+                                               @Param("at") Instant at,
+                                               @Param("id") UUID id,
+                                               @Param("until") Instant until,
+                                               Limit limit);
+}
\ No newline at end of file
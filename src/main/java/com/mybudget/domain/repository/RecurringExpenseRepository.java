@@ -0,0 +1,61 @@
+package com.mybudget.domain.repository;
+
+import com.mybudget.domain.expense.RecurringExpense;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface RecurringExpenseRepository extends JpaRepository<RecurringExpense, UUID> {
+
+    @Query("SELECT r FROM RecurringExpense r WHERE r.user.id = :user ORDER BY r.id")
+    List<RecurringExpense> findByUser(@Param("user") Long user);
+
+    @Query("SELECT COUNT(r) FROM RecurringExpense r WHERE r.user.id = :user")
+    long countByUser(@Param("user") Long user);
+
+    @Query("SELECT COUNT(r) > 0 FROM RecurringExpense r WHERE r.id = :id AND r.user.id = :user")
+    boolean existsByIdAndUser(@Param("id") UUID id, @Param("user") Long user);
+
+    // Só exclui modelos sem reserva válida: o bloco que está lançando o modelo não encontraria mais a linha ao
+    // gravar next_date e seria desfeito inteiro.
+    @Modifying
+    @Query("""
+            DELETE FROM RecurringExpense r
+            WHERE r.id = :id AND r.user.id = :user
+              AND (r.leaseUntil IS NULL OR r.leaseUntil < :now)""")
+    int deleteUnclaimed(@Param("id") UUID id, @Param("user") Long user, @Param("now") Instant now);
+
+    // Modelos vencidos e sem reserva válida, percorrendo idx_recurring_expense_next.
+    @Query("""
+            SELECT r.id FROM RecurringExpense r
+            WHERE r.nextDate <= :today
+              AND (r.leaseUntil IS NULL OR r.leaseUntil < :now)
+            ORDER BY r.nextDate, r.id""")
+    List<UUID> findDueIds(@Param("today") LocalDate today, @Param("now") Instant now, Limit limit);
+
+    // Reserva condicional: entre nós concorrentes, só um consegue reservar cada modelo. A versão é incrementada
+    // para que um nó cuja reserva expirou não consiga mais gravar o modelo.
+    @Modifying
+    @Query("""
+            UPDATE RecurringExpense r
+            SET r.leaseToken = :token, r.leaseUntil = :until, r.version = r.version + 1
+            WHERE r.id IN :ids
+              AND r.nextDate <= :today
+              AND (r.leaseUntil IS NULL OR r.leaseUntil < :now)""")
+    int claim(@Param("ids") Collection<UUID> ids,
+              @Param("token") UUID token,
+              @Param("until") Instant until,
+              @Param("today") LocalDate today,
+              @Param("now") Instant now);
+
+    @Query("SELECT r FROM RecurringExpense r WHERE r.leaseToken = :token ORDER BY r.id")
+    List<RecurringExpense> findByLeaseToken(@Param("token") UUID token);
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.mybudget.domain.repository;
+
+import com.mybudget.domain.user.RefreshToken;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+
+    // Revogação condicional: só uma rotação concorrente do mesmo token consegue alterar a linha.
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revoked = true WHERE t.id = :id AND t.revoked = false")
+    int revoke(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revoked = true WHERE t.familyId = :familyId AND t.revoked = false")
+    int revokeFamily(@Param("familyId") UUID familyId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.userId = :userId AND t.expiresAt < :now")
+    int deleteExpiredByUser(@Param("userId") Long userId, @Param("now") Instant now);
+
+    // Limpeza agendada: percorre idx_refresh_token_expires. Tokens revogados continuam até expirar, para que a
+    // reutilização de um token rotacionado ainda revogue a família.
+    @Query("SELECT t.id FROM RefreshToken t WHERE t.expiresAt < :now ORDER BY t.expiresAt, t.id")
+    List<UUID> findExpiredIds(@Param("now") Instant now, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+}
\ No newline at end of file
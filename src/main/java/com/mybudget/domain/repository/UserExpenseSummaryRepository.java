@@ -0,0 +1,94 @@
+package com.mybudget.domain.repository;
+
+import com.mybudget.domain.dto.MonthlySummaryDto;
+import com.mybudget.domain.dto.StatusSummaryDto;
+import com.mybudget.domain.expense.UserExpenseSummary;
+import com.mybudget.domain.expense.UserExpenseSummaryId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface UserExpenseSummaryRepository extends JpaRepository<UserExpenseSummary, UserExpenseSummaryId> {
+
+    // Soma o delta na linha (user_id, ano, mês, status), criando-a se ainda não existir.
+    @Modifying
+    @Query(value = """
+            INSERT INTO tb_user_expense_summary (user_id, expense_year, expense_month, status, total_amount, expense_count)
+            VALUES (:user, :year, :month, :status, :amount, :count)
+            ON DUPLICATE KEY UPDATE total_amount = total_amount + VALUES(total_amount),
+                                    expense_count = expense_count + VALUES(expense_count)""", nativeQuery = true)
+    void addToSummary(@Param("user") Long user,
+                      @Param("year") int year,
+                      @Param("month") int month,
+                      @Param("status") String status,
+                      @Param("amount") BigDecimal amount,
+                      @Param("count") long count);
+
+    @Query("""
+            SELECT new com.mybudget.domain.dto.MonthlySummaryDto(s.id.year, s.id.month, s.id.status, s.totalAmount, s.expenseCount)
+            FROM UserExpenseSummary s
+            WHERE s.id.userId = :user AND s.expenseCount > 0
+            ORDER BY s.id.year, s.id.month, s.id.status""")
+    List<MonthlySummaryDto> findMonthsByUser(@Param("user") Long user);
+
+    @Query("""
+            SELECT new com.mybudget.domain.dto.StatusSummaryDto(s.id.status, SUM(s.totalAmount), SUM(s.expenseCount))
+            FROM UserExpenseSummary s
+            WHERE s.id.userId = :user AND s.expenseCount > 0
+            GROUP BY s.id.status
+            ORDER BY s.id.status""")
+    List<StatusSummaryDto> findStatusesByUser(@Param("user") Long user);
+
+    // Reconstrução e conferência a partir de tb_expense e tb_expense_archive. user = 0 abrange todos os usuários.
+    @Modifying
+    @Query(value = "DELETE FROM tb_user_expense_summary WHERE (:user = 0 OR user_id = :user)", nativeQuery = true)
+    int deleteByUser(@Param("user") Long user);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO tb_user_expense_summary (user_id, expense_year, expense_month, status, total_amount, expense_count)
+            SELECT user_id, YEAR(date), MONTH(date), status, SUM(amount), COUNT(*)
+            FROM (SELECT user_id, date, status, amount FROM tb_expense
+                  WHERE user_id IS NOT NULL AND (:user = 0 OR user_id = :user)
+                  UNION ALL
+                  SELECT user_id, date, status, amount FROM tb_expense_archive
+                  WHERE (:user = 0 OR user_id = :user)) e
+            GROUP BY user_id, YEAR(date), MONTH(date), status""", nativeQuery = true)
+    int rebuildByUser(@Param("user") Long user);
+
+    @Query(value = """
+            SELECT r.user_id, r.expense_year, r.expense_month, r.status,
+                   r.total_amount, r.expense_count, s.total_amount, s.expense_count
+            FROM (SELECT user_id, YEAR(date) AS expense_year, MONTH(date) AS expense_month, status,
+                         SUM(amount) AS total_amount, COUNT(*) AS expense_count
+                  FROM (SELECT user_id, date, status, amount FROM tb_expense
+                        WHERE user_id IS NOT NULL AND (:user = 0 OR user_id = :user)
+                        UNION ALL
+                        SELECT user_id, date, status, amount FROM tb_expense_archive
+                        WHERE (:user = 0 OR user_id = :user)) e
+                  GROUP BY user_id, YEAR(date), MONTH(date), status) r
+            LEFT JOIN tb_user_expense_summary s
+                   ON s.user_id = r.user_id AND s.expense_year = r.expense_year
+                  AND s.expense_month = r.expense_month AND s.status = r.status
+            WHERE s.user_id IS NULL OR s.total_amount <> r.total_amount OR s.expense_count <> r.expense_count
+            UNION ALL
+            SELECT s.user_id, s.expense_year, s.expense_month, s.status,
+                   NULL, NULL, s.total_amount, s.expense_count
+            FROM tb_user_expense_summary s
+            LEFT JOIN (SELECT user_id, YEAR(date) AS expense_year, MONTH(date) AS expense_month, status
+                       FROM (SELECT user_id, date, status, amount FROM tb_expense
+                             WHERE user_id IS NOT NULL AND (:user = 0 OR user_id = :user)
+                             UNION ALL
+                             SELECT user_id, date, status, amount FROM tb_expense_archive
+                             WHERE (:user = 0 OR user_id = :user)) e
+                       GROUP BY user_id, YEAR(date), MONTH(date), status) r
+                   ON r.user_id = s.user_id AND r.expense_year = s.expense_year
+                  AND r.expense_month = s.expense_month AND r.status = s.status
+            WHERE (:user = 0 OR s.user_id = :user) AND r.user_id IS NULL
+              AND (s.expense_count <> 0 OR s.total_amount <> 0)""", nativeQuery = true)
+    List<Object[]> findMismatches(@Param("user") Long user);
+}
\ No newline at end of file
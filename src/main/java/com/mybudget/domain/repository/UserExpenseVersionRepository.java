@@ -0,0 +1,23 @@
+package com.mybudget.domain.repository;
+
+import com.mybudget.domain.expense.UserExpenseVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface UserExpenseVersionRepository extends JpaRepository<UserExpenseVersion, Long> {
+
+    // Incrementa a versão do usuário, criando a linha na primeira gravação.
+    @Modifying
+    @Query(value = """
+            INSERT INTO tb_user_expense_version (user_id, version)
+            VALUES (:user, 1)
+            ON DUPLICATE KEY UPDATE version = version + 1""", nativeQuery = true)
+    void increment(@Param("user") Long user);
+
+    @Query("SELECT v.version FROM UserExpenseVersion v WHERE v.userId = :user")
+    Optional<Long> findVersion(@Param("user") Long user);
+}
\ No newline at end of file
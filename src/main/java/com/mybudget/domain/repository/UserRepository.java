@@ -1,6 +1,8 @@
 package com.mybudget.domain.repository;
 
 import com.mybudget.domain.user.User;
+import com.mybudget.infra.cache.CacheConfiguration;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,4 +16,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT u FROM User u WHERE u.email = :email")
     Optional<User> existingEmail(@Param("email") String email);
+
+    @Override
+    @CacheEvict(value = CacheConfiguration.USERS, key = "#p0.id", condition = "#p0.id != null")
+    <S extends User> S save(S user);
+
+    @Override
+    @CacheEvict(value = CacheConfiguration.USERS, key = "#p0.id")
+    void delete(User user);
+
+    @Override
+    @CacheEvict(value = CacheConfiguration.USERS, key = "#p0")
+    void deleteById(Long id);
 }
\ No newline at end of file
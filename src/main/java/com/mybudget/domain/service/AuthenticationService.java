@@ -1,14 +1,18 @@
 package com.mybudget.domain.service;
 
 import com.mybudget.domain.repository.UserRepository;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.cache.CacheConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class AuthenticationService implements UserDetailsService {
+public class AuthenticationService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository repository;
@@ -18,4 +22,27 @@ public class AuthenticationService implements UserDetailsService {
 
         return repository.findByEmail(username);
     }
+
+    /**
+     * Carrega o usuário autenticado pelo id contido no token. O resultado fica em cache
+     * e é removido sempre que o usuário é salvo ou excluído pelo {@link UserRepository}.
+     */
+    @Cacheable(value = CacheConfiguration.USERS, key = "#id")
+    public User loadUserById(Long id) throws UsernameNotFoundException {
+
+        return repository.findById(id)
+                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
+    }
+
+    /**
+     * Chamado pelo Spring Security após um login bem-sucedido cujo hash precisa ser atualizado (encoder ou
+     * força diferentes da configuração atual), com a senha já codificada no formato novo.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+
+        User user = (User) userDetails;
+        user.setPassword(newPassword);
+        return repository.save(user);
+    }
 }
\ No newline at end of file
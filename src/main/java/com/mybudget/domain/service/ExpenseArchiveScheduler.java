@@ -0,0 +1,50 @@
+package com.mybudget.domain.service;
+
+import com.mybudget.domain.dto.ExpenseArchiveRunDto;
+import com.mybudget.infra.scheduling.ChunkedRun;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Arquiva as despesas pagas com mais de {@code maxAge}. Cada execução processa no máximo {@code maxChunks} blocos
+ * de {@code chunkSize} despesas, com uma pausa entre eles; o que sobrar fica para a próxima execução.
+ */
+@Component
+public class ExpenseArchiveScheduler {
+
+    @Autowired
+    private ExpenseArchiveService expenseArchiveService;
+
+    @Value("${api.archive.max-age:365d}")
+    private Duration maxAge;
+
+    @Value("${api.archive.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${api.archive.max-chunks-per-run:100}")
+    private int maxChunks;
+
+    @Value("${api.archive.chunk-pause:100ms}")
+    private Duration chunkPause;
+
+    @Scheduled(cron = "${api.archive.cron:0 30 3 * * *}")
+    public ExpenseArchiveRunDto run() {
+
+        LocalDate before = LocalDate.now().minusDays(maxAge.toDays());
+        AtomicInteger archived = new AtomicInteger();
+
+        boolean hasMore = ChunkedRun.run(maxChunks, chunkPause, () -> {
+            int chunkArchived = expenseArchiveService.archiveChunk(before, chunkSize);
+            archived.addAndGet(chunkArchived);
+            return chunkArchived == chunkSize;
+        });
+
+        return new ExpenseArchiveRunDto(archived.get(), hasMore);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.mybudget.domain.service;
+
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.ExpensePageDto;
+import com.mybudget.domain.dto.VersionedExpenseDto;
+import com.mybudget.domain.expense.ExpenseArchivedEvent;
+import com.mybudget.domain.expense.ExpenseChangedEvent;
+import com.mybudget.domain.expense.ExpenseCursor;
+import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.repository.ExpenseArchiveRepository;
+import com.mybudget.domain.repository.ExpenseRepository;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.exception.ExpenseNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Move despesas pagas antigas de tb_expense para tb_expense_archive, deixando as listagens sobre uma tabela
+ * menor. Só as listagens deixam de ver as despesas arquivadas: o resumo, a exportação e tb_user_expense_summary
+ * também leem o arquivo, e a sincronização não as trata como excluídas. Por isso é publicado um
+ * {@link ExpenseArchivedEvent} por usuário, e não um {@link ExpenseChangedEvent} de exclusão.
+ */
+@Service
+public class ExpenseArchiveService {
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private ExpenseArchiveRepository expenseArchiveRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Arquiva até {@code size} despesas pagas com data anterior a {@code before}, em uma transação: as linhas são
+     * bloqueadas, copiadas com INSERT ... SELECT e excluídas de tb_expense.
+     *
+     * @return quantidade de despesas arquivadas
+     */
+    @Transactional
+    public int archiveChunk(LocalDate before, int size) {
+
+        List<VersionedExpenseDto> expenses = expenseRepository.findForArchive(Status.PAID, before, Limit.of(size));
+
+        if (expenses.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> ids = expenses.stream().map(expense -> expense.expense().id()).toList();
+
+        expenseArchiveRepository.copyFromExpenses(ids, Instant.now().truncatedTo(ChronoUnit.MICROS));
+        expenseRepository.deleteByIds(ids);
+
+        Map<Long, List<ExpenseDto>> archivedByUser = new TreeMap<>();
+        expenses.forEach(expense -> archivedByUser.computeIfAbsent(expense.userId(), user -> new ArrayList<>()).add(expense.expense()));
+        archivedByUser.forEach((userId, archived) -> eventPublisher.publishEvent(new ExpenseArchivedEvent(userId, archived)));
+
+        return expenses.size();
+    }
+
+    @Transactional(readOnly = true)
+    public ExpensePageDto getArchivedExpenses(User user, String cursor, Integer size) {
+
+        int pageSize = ExpenseService.pageSize(size);
+        ExpenseCursor after = ExpenseCursor.decode(cursor);
+
+        // Busca um registro a mais para saber se existe uma próxima página.
+        Limit limit = Limit.of(pageSize + 1);
+        List<ExpenseDto> expenses = after == null
+                ? expenseArchiveRepository.findPageByUser(user.getId(), limit)
+                : expenseArchiveRepository.findPageByUserAfter(user.getId(), after.date(), after.id(), limit);
+
+        if (expenses.isEmpty() && after == null) {
+            throw new ExpenseNotFoundException("Você não tem despesas arquivadas.");
+        }
+
+        if (expenses.size() <= pageSize) {
+            return new ExpensePageDto(expenses, null);
+        }
+
+        List<ExpenseDto> content = expenses.subList(0, pageSize);
+        return new ExpensePageDto(content, ExpenseCursor.of(content.get(pageSize - 1)).encode());
+    }
+}
\ No newline at end of file
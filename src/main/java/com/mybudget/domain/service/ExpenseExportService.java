@@ -0,0 +1,175 @@
+package com.mybudget.domain.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.expense.ExportFormat;
+import com.mybudget.domain.repository.ExpenseArchiveRepository;
+import com.mybudget.domain.repository.ExpenseRepository;
+import com.mybudget.domain.user.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * Exporta o histórico completo de despesas do usuário escrevendo cada linha direto na saída,
+ * à medida que é lida do banco, sem montar a lista em memória. As despesas arquivadas fazem parte do
+ * histórico: tb_expense e tb_expense_archive são lidas em paralelo, cada uma em ordem de (date, id), e intercaladas.
+ */
+@Service
+public class ExpenseExportService {
+
+    private static final String CSV_HEADER = "id,description,amount,status,date";
+
+    // Planilhas tratam células iniciadas por esses caracteres como fórmulas; o apóstrofo as mantém como texto.
+    private static final String CSV_FORMULA_PREFIXES = "=+-@\t\r";
+
+    // Mesma ordem do banco: o id é um binary(16), comparado byte a byte sem sinal.
+    private static final Comparator<ExpenseDto> HISTORY_ORDER = Comparator
+            .comparing(ExpenseDto::date, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(ExpenseDto::id, (a, b) -> {
+                int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+                return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+            });
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private ExpenseArchiveRepository expenseArchiveRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(User user, ExportFormat format, OutputStream output) throws IOException {
+
+        try (Stream<ExpenseDto> expenses = expenseRepository.streamByUserInvolved(user.getId());
+             Stream<ExpenseDto> archived = expenseArchiveRepository.streamByUser(user.getId())) {
+
+            Iterator<ExpenseDto> history = new MergingIterator(expenses.iterator(), archived.iterator());
+
+            switch (format) {
+                case NDJSON -> writeNdjson(history, output);
+                case CSV -> writeCsv(history, output);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<ExpenseDto> expenses, OutputStream output) throws IOException {
+
+        ObjectWriter writer = objectMapper.writerFor(ExpenseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            while (expenses.hasNext()) {
+                writer.writeValue(generator, expenses.next());
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private void writeCsv(Iterator<ExpenseDto> expenses, OutputStream output) throws IOException {
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        while (expenses.hasNext()) {
+
+            ExpenseDto expense = expenses.next();
+
+            writer.write(String.valueOf(expense.id()));
+            writer.write(',');
+            writer.write(csvValue(expense.description()));
+            writer.write(',');
+            writer.write(expense.amount() == null ? "" : expense.amount().toPlainString());
+            writer.write(',');
+            writer.write(expense.status() == null ? "" : expense.status().name());
+            writer.write(',');
+            writer.write(expense.date() == null ? "" : expense.date().toString());
+            writer.write('\n');
+        }
+
+        writer.flush();
+    }
+
+    private String csvValue(String value) {
+
+        if (value == null) {
+            return "";
+        }
+
+        if (!value.isEmpty() && CSV_FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Intercala duas sequências já ordenadas por {@link #HISTORY_ORDER}, guardando só o próximo item de cada uma.
+     */
+    private static class MergingIterator implements Iterator<ExpenseDto> {
+
+        private final Iterator<ExpenseDto> first;
+
+        private final Iterator<ExpenseDto> second;
+
+        private ExpenseDto nextFirst;
+
+        private ExpenseDto nextSecond;
+
+        MergingIterator(Iterator<ExpenseDto> first, Iterator<ExpenseDto> second) {
+            this.first = first;
+            this.second = second;
+            this.nextFirst = first.hasNext() ? first.next() : null;
+            this.nextSecond = second.hasNext() ? second.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextFirst != null || nextSecond != null;
+        }
+
+        @Override
+        public ExpenseDto next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            ExpenseDto next;
+            if (nextSecond == null || (nextFirst != null && HISTORY_ORDER.compare(nextFirst, nextSecond) <= 0)) {
+                next = nextFirst;
+                nextFirst = first.hasNext() ? first.next() : null;
+            } else {
+                next = nextSecond;
+                nextSecond = second.hasNext() ? second.next() : null;
+            }
+
+            return next;
+        }
+    }
+}
\ No newline at end of file
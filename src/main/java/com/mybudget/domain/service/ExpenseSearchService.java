@@ -0,0 +1,235 @@
+package com.mybudget.domain.service;
+
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.ExpensePageDto;
+import com.mybudget.domain.dto.ExpenseSearchRebuildDto;
+import com.mybudget.domain.expense.ExpenseArchivedEvent;
+import com.mybudget.domain.expense.ExpenseChangedEvent;
+import com.mybudget.domain.expense.ExpenseSearchTerm;
+import com.mybudget.domain.expense.ExpenseSearchTermId;
+import com.mybudget.domain.expense.ExpenseSearchTerms;
+import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.repository.ExpenseRepository;
+import com.mybudget.domain.repository.ExpenseSearchTermRepository;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.exception.ExpenseNotFoundException;
+import com.mybudget.infra.exception.InvalidRequestException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Busca por descrição em tb_expense_search_term, o índice invertido por (user_id, term) mantido aqui a cada
+ * gravação, pelo {@link ExpenseChangedEvent} e na mesma transação do ExpenseService. A busca só lê os termos do
+ * próprio usuário. Os resultados vêm em ordem de relevância (termos encontrados), então a paginação é por posição
+ * e limitada a {@link #MAX_RESULTS} despesas.
+ */
+@Service
+public class ExpenseSearchService {
+
+    public static final int MAX_RESULTS = 1000;
+
+    public static final int MAX_QUERY_LENGTH = 100;
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private ExpenseSearchTermRepository searchTermRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Reindexa as despesas excluídas ou com a descrição alterada; mudanças de valor, data ou status não tocam o índice.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+
+        Map<UUID, String> before = new HashMap<>();
+        event.removed().forEach(expense -> before.put(expense.id(), expense.description()));
+
+        Set<UUID> stale = new HashSet<>(before.keySet());
+        List<ExpenseSearchTerm> terms = new ArrayList<>();
+
+        for (ExpenseDto expense : event.added()) {
+            if (before.containsKey(expense.id()) && Objects.equals(before.get(expense.id()), expense.description())) {
+                stale.remove(expense.id());
+            } else {
+                terms.addAll(termsOf(event.userId(), expense.id(), expense.description()));
+            }
+        }
+
+        if (!stale.isEmpty()) {
+            searchTermRepository.deleteByExpenseIds(event.userId(), stale);
+        }
+
+        if (!terms.isEmpty()) {
+            searchTermRepository.saveAll(terms);
+        }
+    }
+
+    // A busca lista apenas tb_expense; as despesas arquivadas saem do índice.
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onExpenseArchived(ExpenseArchivedEvent event) {
+
+        if (!event.expenses().isEmpty()) {
+            searchTermRepository.deleteByExpenseIds(event.userId(), event.expenses().stream().map(ExpenseDto::id).toList());
+        }
+    }
+
+    /**
+     * Recria o índice a partir de tb_expense. Com userId nulo, reindexa todos os usuários.
+     */
+    @Transactional
+    public ExpenseSearchRebuildDto rebuild(Long userId) {
+
+        long user = userId == null ? 0 : userId;
+        searchTermRepository.deleteByUser(user);
+
+        int expenses = 0;
+        int indexed = 0;
+        List<ExpenseSearchTerm> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+
+        try (Stream<Object[]> rows = expenseRepository.streamDescriptions(user)) {
+            for (Iterator<Object[]> it = rows.iterator(); it.hasNext(); ) {
+                Object[] row = it.next();
+                batch.addAll(termsOf((Long) row[0], (UUID) row[1], (String) row[2]));
+                expenses++;
+
+                if (batch.size() >= REBUILD_BATCH_SIZE) {
+                    indexed += flush(batch);
+                }
+            }
+        }
+
+        indexed += flush(batch);
+        return new ExpenseSearchRebuildDto(userId, expenses, indexed);
+    }
+
+    @Transactional(readOnly = true)
+    public ExpensePageDto search(User user, String query, String cursor, Integer size) {
+
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("Informe o texto da busca.");
+        }
+
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidRequestException("O texto da busca deve ter no máximo " + MAX_QUERY_LENGTH + " caracteres.");
+        }
+
+        Set<String> terms = ExpenseSearchTerms.of(query);
+        if (terms.isEmpty()) {
+            throw new InvalidRequestException("Informe ao menos uma palavra com " + ExpenseSearchTerms.MIN_LENGTH
+                    + " ou mais caracteres na busca.");
+        }
+
+        int pageSize = ExpenseService.pageSize(size);
+        int offset = decodeOffset(cursor);
+
+        // Busca um registro a mais para saber se existe uma próxima página.
+        List<ExpenseDto> expenses = searchTermRepository.search(user.getId(), terms, pageSize + 1, offset)
+                .stream()
+                .map(ExpenseSearchService::toExpenseDto)
+                .toList();
+
+        if (expenses.isEmpty() && cursor == null) {
+            throw new ExpenseNotFoundException("Nenhuma despesa encontrada para a busca.");
+        }
+
+        int next = offset + pageSize;
+        if (expenses.size() <= pageSize || next >= MAX_RESULTS) {
+            return new ExpensePageDto(expenses.subList(0, Math.min(expenses.size(), pageSize)), null);
+        }
+
+        return new ExpensePageDto(expenses.subList(0, pageSize), encodeOffset(next));
+    }
+
+    // Persiste o lote sem manter os termos no contexto de persistência durante a reconstrução.
+    private int flush(List<ExpenseSearchTerm> batch) {
+
+        int size = batch.size();
+        if (size > 0) {
+            searchTermRepository.saveAll(batch);
+            entityManager.flush();
+            entityManager.clear();
+            batch.clear();
+        }
+        return size;
+    }
+
+    private static List<ExpenseSearchTerm> termsOf(Long userId, UUID expenseId, String description) {
+
+        return ExpenseSearchTerms.of(description).stream()
+                .map(term -> new ExpenseSearchTerm(new ExpenseSearchTermId(userId, term, expenseId)))
+                .toList();
+    }
+
+    private static ExpenseDto toExpenseDto(Object[] row) {
+
+        return new ExpenseDto(toUuid(row[0]),
+                (String) row[1],
+                (BigDecimal) row[2],
+                Status.valueOf(String.valueOf(row[3])),
+                row[4] instanceof Date date ? date.toLocalDate() : (LocalDate) row[4]);
+    }
+
+    // Na consulta nativa o id binary(16) chega como bytes, na mesma ordem usada pelo Hibernate para gravar o UUID.
+    private static UUID toUuid(Object value) {
+
+        if (value instanceof UUID uuid) {
+            return uuid;
+        }
+
+        ByteBuffer bytes = ByteBuffer.wrap((byte[]) value);
+        return new UUID(bytes.getLong(), bytes.getLong());
+    }
+
+    private static int decodeOffset(String cursor) {
+
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+
+        try {
+            int offset = Integer.parseInt(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+            if (offset < 0 || offset >= MAX_RESULTS) {
+                throw new IllegalArgumentException();
+            }
+            return offset;
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Cursor de paginação inválido.");
+        }
+    }
+
+    private static String encodeOffset(int offset) {
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Integer.toString(offset).getBytes(StandardCharsets.UTF_8));
+    }
+}
\ No newline at end of file
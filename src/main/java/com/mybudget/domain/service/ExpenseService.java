@@ -1,33 +1,69 @@
 package com.mybudget.domain.service;
 
+import com.mybudget.domain.dto.ExpenseBatchErrorDto;
+import com.mybudget.domain.dto.ExpenseDeleteResultDto;
 import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.ExpenseFilterDto;
+import com.mybudget.domain.dto.ExpensePageDto;
+import com.mybudget.domain.dto.ExpenseStatusBatchDto;
+import com.mybudget.domain.dto.ExpenseStatusBatchResultDto;
+import com.mybudget.domain.dto.ExpenseStatusResultDto;
 import com.mybudget.domain.dto.UpdateExpenseDto;
+import com.mybudget.domain.dto.VersionedExpenseDto;
+import com.mybudget.domain.expense.DeleteOutcome;
 import com.mybudget.domain.expense.Expense;
+import com.mybudget.domain.expense.ExpenseChangedEvent;
+import com.mybudget.domain.expense.ExpenseCursor;
 import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.expense.StatusChangeOutcome;
 import com.mybudget.domain.user.User;
+import com.mybudget.domain.repository.ExpenseArchiveRepository;
 import com.mybudget.domain.repository.ExpenseRepository;
 import com.mybudget.domain.repository.UserRepository;
 import com.mybudget.domain.service.validation.ValidateDeleteExpense;
 import com.mybudget.domain.service.validation.ValidateNewExpense;
+import com.mybudget.infra.exception.ExpenseBatchException;
 import com.mybudget.infra.exception.ExpenseNotFoundException;
 import com.mybudget.infra.exception.ExpenseProcessingException;
+import com.mybudget.infra.exception.InvalidRequestException;
+import com.mybudget.infra.exception.PreconditionFailedException;
 import com.mybudget.infra.exception.UnauthorizedAccessException;
-import com.mybudget.infra.security.TokenService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.Comparator;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
 public class ExpenseService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    public static final int MAX_DESCRIPTION_FILTER_LENGTH = 100;
+
+    private static final String NO_FILTERED_EXPENSES = "Nenhuma despesa encontrada com os filtros informados.";
+
     @Autowired
     private ExpenseRepository expenseRepository;
 
+    @Autowired
+    private ExpenseArchiveRepository expenseArchiveRepository;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -38,27 +74,23 @@ public class ExpenseService {
     private ValidateDeleteExpense validateDeleteExpense;
 
     @Autowired
-    private TokenService tokenService;
+    private ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public ExpenseDto newExpense(String token, ExpenseDto expenseDto) {
+    public ExpenseDto newExpense(User user, ExpenseDto expenseDto) {
 
         try {
 
-            User user = tokenService.getUserFromToken(token);
-
             validateNewExpense.validate(expenseDto);
 
-            Expense newExpense = new Expense();
-            newExpense.setUser(user);
-            newExpense.setAmount(expenseDto.amount());
-            newExpense.setDescription(expenseDto.description());
-            newExpense.setStatus(Status.PENDING);
-            newExpense.setDate(LocalDate.now());
+            Expense newExpense = toNewExpense(user, expenseDto, LocalDate.now());
 
             expenseRepository.save(newExpense);
 
-            return new ExpenseDto(newExpense);
+            ExpenseDto created = new ExpenseDto(newExpense);
+            eventPublisher.publishEvent(ExpenseChangedEvent.created(user.getId(), List.of(created)));
+
+            return created;
 
         } catch (ExpenseProcessingException e) {
             throw e;
@@ -67,49 +99,181 @@ public class ExpenseService {
         }
     }
 
+    /**
+     * Registra um lote de despesas em uma única transação. Todas as despesas são validadas antes da gravação e,
+     * se alguma for inválida, nenhuma é salva e os erros são devolvidos com a posição de cada item no lote.
+     * Os ids são gerados pela aplicação, então os INSERTs saem agrupados pelo batch do JDBC.
+     */
     @Transactional
-    public ExpenseDto updateExpense(String token, UUID expenseId, UpdateExpenseDto updateExpense) {
+    public List<ExpenseDto> newExpenses(User user, List<ExpenseDto> expenseDtos) {
+
+        if (expenseDtos == null || expenseDtos.isEmpty()) {
+            throw new InvalidRequestException("Informe ao menos uma despesa.");
+        }
+
+        if (expenseDtos.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("O lote deve ter no máximo " + MAX_BATCH_SIZE + " despesas.");
+        }
+
+        List<ExpenseBatchErrorDto> errors = new ArrayList<>();
+
+        for (int i = 0; i < expenseDtos.size(); i++) {
+            try {
+                if (expenseDtos.get(i) == null) {
+                    throw new ExpenseProcessingException("Despesa inválida.");
+                }
+                validateNewExpense.validate(expenseDtos.get(i));
+            } catch (ExpenseProcessingException e) {
+                errors.add(new ExpenseBatchErrorDto(i, e.getMessage()));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ExpenseBatchException("Nenhuma despesa foi registrada, corrija os itens inválidos.", errors);
+        }
 
         try {
 
-            User user = tokenService.getUserFromToken(token);
+            LocalDate today = LocalDate.now();
+            List<Expense> newExpenses = expenseDtos.stream()
+                    .map(expenseDto -> toNewExpense(user, expenseDto, today))
+                    .toList();
 
-            Expense expense = expenseRepository.findById(expenseId)
+            expenseRepository.saveAll(newExpenses);
+
+            List<ExpenseDto> created = newExpenses.stream()
+                    .map(ExpenseDto::new)
+                    .toList();
+            eventPublisher.publishEvent(ExpenseChangedEvent.created(user.getId(), created));
+
+            return created;
+
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao processar lote de despesas. ", e);
+        }
+    }
+
+    @Transactional
+    public ExpenseDto updateExpense(User user, UUID expenseId, UpdateExpenseDto updateExpense) {
+
+        return updateExpense(user, expenseId, updateExpense, null).expense();
+    }
+
+    /**
+     * Atualiza a despesa com um UPDATE condicionado ao dono e à versão lida, de forma que duas requisições
+     * concorrentes nunca sobrescrevem uma à outra. Com expectedVersion (If-Match), a atualização só é feita se a
+     * despesa ainda estiver nessa versão. O estado anterior continua sendo lido, sem carregar a entidade, porque
+     * a resposta e os totais de tb_user_expense_summary dependem dele.
+     */
+    @Transactional
+    public VersionedExpenseDto updateExpense(User user, UUID expenseId, UpdateExpenseDto updateExpense, Long expectedVersion) {
+
+        try {
+
+            VersionedExpenseDto current = expenseRepository.findVersionedById(expenseId)
                     .orElseThrow(() -> new ExpenseNotFoundException("Despesa não encontrada"));
 
-            if (!expense.getUser().equals(user)) {
+            if (!current.userId().equals(user.getId())) {
                 throw new UnauthorizedAccessException("Você não tem permissão para atualizar esta despesa.");
             }
 
-            if (updateExpense.amount() != null) {
-                expense.setAmount(updateExpense.amount());
+            if (expectedVersion != null && expectedVersion != current.version()) {
+                throw new PreconditionFailedException("A despesa foi alterada desde a versão informada em If-Match.");
             }
 
-            if (updateExpense.description() != null) {
-                expense.setDescription(updateExpense.description());
-            }
+            int updated = expenseRepository.updateIfVersion(expenseId, user.getId(), current.version(),
+                    updateExpense.amount(), updateExpense.description(), updateExpense.status(),
+                    Instant.now().truncatedTo(ChronoUnit.MICROS));
 
-            if (updateExpense.status() != null) {
-                expense.setStatus(updateExpense.status());
+            if (updated == 0) {
+                if (expectedVersion != null) {
+                    throw new PreconditionFailedException("A despesa foi alterada desde a versão informada em If-Match.");
+                }
+                throw new OptimisticLockingFailureException("A despesa foi alterada por outra requisição. Tente novamente.");
             }
 
-            expenseRepository.save(expense);
+            ExpenseDto before = current.expense();
+            ExpenseDto after = new ExpenseDto(before.id(),
+                    updateExpense.description() != null ? updateExpense.description() : before.description(),
+                    updateExpense.amount() != null ? updateExpense.amount() : before.amount(),
+                    updateExpense.status() != null ? updateExpense.status() : before.status(),
+                    before.date());
+            eventPublisher.publishEvent(ExpenseChangedEvent.updated(user.getId(), before, after));
 
-            return new ExpenseDto(expense);
+            return new VersionedExpenseDto(after, user.getId(), current.version() + 1);
 
-        } catch (ExpenseNotFoundException e) {
+        } catch (ExpenseNotFoundException | PreconditionFailedException | OptimisticLockingFailureException e) {
             throw e;
         } catch (Exception e) {
             throw new UnauthorizedAccessException("Erro ao atualizar despesa. " + e.getMessage());
         }
     }
 
+    /**
+     * Altera o status de várias despesas com um único UPDATE. Antes, uma consulta lê e bloqueia as despesas, para
+     * devolver o resultado de cada id e publicar o estado anterior e o novo (totais, sincronização e ETag).
+     * Ids inexistentes ou de outro usuário voltam como NOT_FOUND e despesas que já estão no status, como UNCHANGED.
+     * Com before, altera até MAX_BATCH_SIZE despesas por chamada e indica em hasMore se ainda restam outras.
+     */
     @Transactional
-    public void deleteExpense(String token, UUID expenseId) {
+    public ExpenseStatusBatchResultDto updateStatuses(User user, ExpenseStatusBatchDto batch) {
 
-        try {
+        validateStatusBatch(batch);
+
+        List<UUID> requested;
+        List<VersionedExpenseDto> found;
+        boolean hasMore = false;
+
+        if (batch.before() != null) {
+            found = expenseRepository.findForStatusChangeBefore(user.getId(), batch.status(), batch.before(),
+                    Limit.of(MAX_BATCH_SIZE + 1));
+            if (found.size() > MAX_BATCH_SIZE) {
+                found = found.subList(0, MAX_BATCH_SIZE);
+                hasMore = true;
+            }
+            requested = found.stream().map(expense -> expense.expense().id()).toList();
+        } else {
+            requested = batch.ids().stream().distinct().toList();
+            found = expenseRepository.findForUpdate(user.getId(), requested);
+        }
+
+        Map<UUID, VersionedExpenseDto> currentById = new HashMap<>();
+        found.forEach(expense -> currentById.put(expense.expense().id(), expense));
+
+        List<UUID> changed = new ArrayList<>();
+        List<ExpenseDto> before = new ArrayList<>();
+        List<ExpenseDto> after = new ArrayList<>();
+        List<ExpenseStatusResultDto> results = new ArrayList<>(requested.size());
 
-            User user = tokenService.getUserFromToken(token);
+        for (UUID id : requested) {
+
+            VersionedExpenseDto current = currentById.get(id);
+
+            if (current == null) {
+                results.add(new ExpenseStatusResultDto(id, StatusChangeOutcome.NOT_FOUND, null));
+            } else if (current.expense().status() == batch.status()) {
+                results.add(new ExpenseStatusResultDto(id, StatusChangeOutcome.UNCHANGED, current.version()));
+            } else {
+                ExpenseDto expense = current.expense();
+                changed.add(id);
+                before.add(expense);
+                after.add(new ExpenseDto(expense.id(), expense.description(), expense.amount(), batch.status(), expense.date()));
+                results.add(new ExpenseStatusResultDto(id, StatusChangeOutcome.UPDATED, current.version() + 1));
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            expenseRepository.updateStatus(user.getId(), changed, batch.status(), Instant.now().truncatedTo(ChronoUnit.MICROS));
+            eventPublisher.publishEvent(ExpenseChangedEvent.updated(user.getId(), before, after));
+        }
+
+        return new ExpenseStatusBatchResultDto(results, hasMore);
+    }
+
+    @Transactional
+    public void deleteExpense(User user, UUID expenseId) {
+
+        try {
 
             Expense expense = expenseRepository.findById(expenseId)
                     .orElseThrow(() -> new ExpenseNotFoundException("Despesa não encontrada"));
@@ -118,6 +282,8 @@ public class ExpenseService {
 
             expenseRepository.delete(expense);
 
+            eventPublisher.publishEvent(ExpenseChangedEvent.deleted(user.getId(), new ExpenseDto(expense)));
+
         } catch (ExpenseNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -125,46 +291,125 @@ public class ExpenseService {
         }
     }
 
+    /**
+     * Exclui várias despesas com um DELETE em tb_expense e, para as que já foram arquivadas, outro em
+     * tb_expense_archive. Como na exclusão individual, só despesas pagas são excluídas; as pendentes voltam como
+     * NOT_PAID e ids inexistentes ou de outro usuário, como NOT_FOUND.
+     */
     @Transactional
-    public List<ExpenseDto> getExpenses(String token) {
+    public List<ExpenseDeleteResultDto> deleteExpenses(User user, List<UUID> expenseIds) {
 
-        try {
+        if (expenseIds == null || expenseIds.isEmpty()) {
+            throw new InvalidRequestException("Informe ao menos uma despesa.");
+        }
+
+        if (expenseIds.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("O lote deve ter no máximo " + MAX_BATCH_SIZE + " despesas.");
+        }
 
-            User user = tokenService.getUserFromToken(token);
+        if (expenseIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException("Os ids das despesas não podem ser nulos.");
+        }
 
-            List<Expense> expenseList = expenseRepository.findByUserInvolved(user.getId());
-            expenseList.sort(Comparator.comparing(Expense::getDate));
+        List<UUID> requested = expenseIds.stream().distinct().toList();
 
-            if (expenseList.isEmpty()) {
-                throw new ExpenseNotFoundException("Você não tem despesas registradas no momento.");
+        Map<UUID, ExpenseDto> currentById = new HashMap<>();
+        expenseRepository.findForUpdate(user.getId(), requested)
+                .forEach(expense -> currentById.put(expense.expense().id(), expense.expense()));
+
+        List<UUID> missing = requested.stream().filter(id -> !currentById.containsKey(id)).toList();
+        Map<UUID, ExpenseDto> archivedById = new HashMap<>();
+        if (!missing.isEmpty()) {
+            expenseArchiveRepository.findForDelete(user.getId(), missing)
+                    .forEach(expense -> archivedById.put(expense.id(), expense));
+        }
+
+        List<UUID> deleted = new ArrayList<>();
+        List<ExpenseDto> removed = new ArrayList<>();
+        List<ExpenseDeleteResultDto> results = new ArrayList<>(requested.size());
+
+        for (UUID id : requested) {
+
+            ExpenseDto current = currentById.get(id);
+
+            if (current == null) {
+                results.add(new ExpenseDeleteResultDto(id, archivedById.containsKey(id) ? DeleteOutcome.DELETED : DeleteOutcome.NOT_FOUND));
+            } else if (current.status() == Status.PENDING) {
+                results.add(new ExpenseDeleteResultDto(id, DeleteOutcome.NOT_PAID));
+            } else {
+                deleted.add(id);
+                removed.add(current);
+                results.add(new ExpenseDeleteResultDto(id, DeleteOutcome.DELETED));
             }
+        }
 
-            return expenseList.stream().map(ExpenseDto::new).toList();
+        if (!deleted.isEmpty()) {
+            expenseRepository.deleteByUserAndIds(user.getId(), deleted);
+        }
 
-        } catch (ExpenseNotFoundException e) {
+        // Despesas arquivadas continuam nos totais e nos clientes sincronizados, então também entram no evento.
+        if (!archivedById.isEmpty()) {
+            expenseArchiveRepository.deleteByUserAndIds(user.getId(), archivedById.keySet());
+            removed.addAll(archivedById.values());
+        }
+
+        if (!removed.isEmpty()) {
+            eventPublisher.publishEvent(ExpenseChangedEvent.deleted(user.getId(), removed));
+        }
+
+        return results;
+    }
+
+    @Transactional(readOnly = true)
+    public ExpensePageDto getExpenses(User user, String cursor, Integer size) {
+
+        return getExpenses(user, ExpenseFilterDto.NONE, cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public ExpensePageDto getExpenses(User user, ExpenseFilterDto filter, String cursor, Integer size) {
+
+        try {
+
+            ExpensePageDto page = findPage(user, null, filter, cursor, size);
+
+            if (page.expenses().isEmpty() && cursor == null) {
+                throw new ExpenseNotFoundException(filter.isEmpty()
+                        ? "Você não tem despesas registradas no momento."
+                        : NO_FILTERED_EXPENSES);
+            }
+
+            return page;
+
+        } catch (ExpenseNotFoundException | InvalidRequestException e) {
             throw e;
         } catch (Exception e) {
             throw new RuntimeException("Erro ao listar despesa.");
         }
     }
 
-    @Transactional
-    public List<ExpenseDto> getExpensesPending(String token) {
+    @Transactional(readOnly = true)
+    public ExpensePageDto getExpensesPending(User user, String cursor, Integer size) {
 
-        try {
+        return getExpensesPending(user, ExpenseFilterDto.NONE, cursor, size);
+    }
 
-            User user = tokenService.getUserFromToken(token);
+    @Transactional(readOnly = true)
+    public ExpensePageDto getExpensesPending(User user, ExpenseFilterDto filter, String cursor, Integer size) {
+
+        try {
 
-            List<Expense> expensesPending = expenseRepository.findByUserInvolvedAndStatus(user.getId(), Status.PENDING);
-            expensesPending.sort(Comparator.comparing(Expense::getDate));
+            ExpensePageDto page = findPage(user, Status.PENDING, filter, cursor, size);
 
-            if (expensesPending.isEmpty()) {
-                throw new ExpenseNotFoundException("Não há despesas pendentes no momento.");
+            if (page.expenses().isEmpty() && cursor == null) {
+                throw new ExpenseNotFoundException(filter.isEmpty()
+                        ? "Não há despesas pendentes no momento."
+                        : NO_FILTERED_EXPENSES);
             }
 
-            return expensesPending.stream().map(ExpenseDto::new).toList();
+            return page;
 
-        } catch (ExpenseNotFoundException e) {
+        } catch (ExpenseNotFoundException | InvalidRequestException e) {
             throw e;
         } catch (Exception e) {
             throw new ExpenseProcessingException("Erro ao listar despesas pendentes. "+ e.getMessage());
@@ -172,25 +417,123 @@ public class ExpenseService {
     }
 
     @Transactional(readOnly = true)
-    public List<ExpenseDto> getExpensesPaid(String token) {
+    public ExpensePageDto getExpensesPaid(User user, String cursor, Integer size) {
 
-        try {
+        return getExpensesPaid(user, ExpenseFilterDto.NONE, cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public ExpensePageDto getExpensesPaid(User user, ExpenseFilterDto filter, String cursor, Integer size) {
 
-            User user = tokenService.getUserFromToken(token);
+        try {
 
-            List<Expense> expensesPaid = expenseRepository.findByUserInvolvedAndStatus(user.getId(), Status.PAID);
-            expensesPaid.sort(Comparator.comparing(Expense::getDate));
+            ExpensePageDto page = findPage(user, Status.PAID, filter, cursor, size);
 
-            if (expensesPaid.isEmpty()) {
-                throw new ExpenseNotFoundException("Não há despesas pagas no momento.");
+            if (page.expenses().isEmpty() && cursor == null) {
+                throw new ExpenseNotFoundException(filter.isEmpty()
+                        ? "Não há despesas pagas no momento."
+                        : NO_FILTERED_EXPENSES);
             }
 
-            return expensesPaid.stream().map(ExpenseDto::new).toList();
+            return page;
 
-        } catch (ExpenseNotFoundException e) {
+        } catch (ExpenseNotFoundException | InvalidRequestException e) {
             throw e;
         } catch (Exception e) {
             throw new ExpenseProcessingException("Erro ao listar despesas pagas. "+ e.getMessage());
         }
     }
+
+    private Expense toNewExpense(User user, ExpenseDto expenseDto, LocalDate date) {
+
+        Expense newExpense = new Expense();
+        newExpense.setUser(user);
+        newExpense.setAmount(expenseDto.amount());
+        newExpense.setDescription(expenseDto.description());
+        newExpense.setStatus(Status.PENDING);
+        newExpense.setDate(date);
+
+        return newExpense;
+    }
+
+    private ExpensePageDto findPage(User user, Status status, ExpenseFilterDto filter, String cursor, Integer size) {
+
+        int pageSize = pageSize(size);
+        ExpenseCursor after = ExpenseCursor.decode(cursor);
+
+        // Busca um registro a mais para saber se existe uma próxima página.
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<ExpenseDto> expenses;
+        if (!filter.isEmpty()) {
+            validateFilter(filter);
+            expenses = expenseRepository.findFilteredPage(user.getId(),
+                    status == null ? filter : filter.withStatus(status), after, limit);
+        } else if (status == null) {
+            expenses = after == null
+                    ? expenseRepository.findPageByUserInvolved(user.getId(), limit)
+                    : expenseRepository.findPageByUserInvolvedAfter(user.getId(), after.date(), after.id(), limit);
+        } else {
+            expenses = after == null
+                    ? expenseRepository.findPageByUserInvolvedAndStatus(user.getId(), status, limit)
+                    : expenseRepository.findPageByUserInvolvedAndStatusAfter(user.getId(), status, after.date(), after.id(), limit);
+        }
+
+        if (expenses.size() <= pageSize) {
+            return new ExpensePageDto(expenses, null);
+        }
+
+        List<ExpenseDto> content = expenses.subList(0, pageSize);
+        String nextCursor = ExpenseCursor.of(content.get(pageSize - 1)).encode();
+
+        return new ExpensePageDto(content, nextCursor);
+    }
+
+    private void validateStatusBatch(ExpenseStatusBatchDto batch) {
+
+        if (batch == null || batch.status() == null) {
+            throw new InvalidRequestException("Informe o novo status das despesas.");
+        }
+
+        boolean hasIds = batch.ids() != null && !batch.ids().isEmpty();
+        if (hasIds == (batch.before() != null)) {
+            throw new InvalidRequestException("Informe os ids das despesas ou a data limite (before), mas não ambos.");
+        }
+
+        if (hasIds && batch.ids().size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("O lote deve ter no máximo " + MAX_BATCH_SIZE + " despesas.");
+        }
+
+        if (hasIds && batch.ids().stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException("Os ids das despesas não podem ser nulos.");
+        }
+    }
+
+    private void validateFilter(ExpenseFilterDto filter) {
+
+        if (filter.from() != null && filter.to() != null && filter.from().isAfter(filter.to())) {
+            throw new InvalidRequestException("A data inicial deve ser anterior ou igual à data final.");
+        }
+
+        if (filter.minAmount() != null && filter.maxAmount() != null && filter.minAmount().compareTo(filter.maxAmount()) > 0) {
+            throw new InvalidRequestException("O valor mínimo deve ser menor ou igual ao valor máximo.");
+        }
+
+        if (filter.description() != null && filter.description().length() > MAX_DESCRIPTION_FILTER_LENGTH) {
+            throw new InvalidRequestException("O trecho da descrição deve ter no máximo " + MAX_DESCRIPTION_FILTER_LENGTH + " caracteres.");
+        }
+    }
+
+    static int pageSize(Integer size) {
+
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE + ".");
+        }
+
+        return size;
+    }
 }
\ No newline at end of file
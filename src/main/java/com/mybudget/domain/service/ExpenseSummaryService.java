@@ -0,0 +1,118 @@
+package com.mybudget.domain.service;
+
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.ExpenseSummaryDto;
+import com.mybudget.domain.dto.MonthlySummaryDto;
+import com.mybudget.domain.dto.StatusSummaryDto;
+import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.repository.ExpenseArchiveRepository;
+import com.mybudget.domain.repository.ExpenseRepository;
+import com.mybudget.domain.repository.UserExpenseSummaryRepository;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Resumo das despesas do usuário, incluindo as arquivadas: com período, as somas são feitas no banco sobre
+ * tb_expense e tb_expense_archive separadamente e combinadas aqui, já agrupadas.
+ */
+@Service
+public class ExpenseSummaryService {
+
+    public static final int DEFAULT_TOP = 5;
+
+    public static final int MAX_TOP = 50;
+
+    // Limites da coluna DATE do MySQL, usados quando o período não é informado.
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    // Mesma ordem das consultas: a coluna status é um enum('PENDING','PAID'), na ordem de Status.
+    private static final Comparator<MonthlySummaryDto> MONTH_ORDER = Comparator
+            .comparingInt(MonthlySummaryDto::year)
+            .thenComparingInt(MonthlySummaryDto::month)
+            .thenComparing(MonthlySummaryDto::status);
+
+    private static final Comparator<ExpenseDto> TOP_ORDER = Comparator
+            .comparing(ExpenseDto::amount, Comparator.reverseOrder())
+            .thenComparing(ExpenseDto::id);
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private ExpenseArchiveRepository expenseArchiveRepository;
+
+    @Autowired
+    private UserExpenseSummaryRepository summaryRepository;
+
+    @Transactional(readOnly = true)
+    public ExpenseSummaryDto getSummary(User user, LocalDate from, LocalDate to, Integer top) {
+
+        LocalDate start = from == null ? MIN_DATE : from;
+        LocalDate end = to == null ? MAX_DATE : to;
+
+        if (start.isAfter(end)) {
+            throw new InvalidRequestException("A data inicial deve ser anterior ou igual à data final.");
+        }
+
+        int topSize = top == null ? DEFAULT_TOP : top;
+        if (topSize < 0 || topSize > MAX_TOP) {
+            throw new InvalidRequestException("A quantidade de maiores despesas deve estar entre 0 e " + MAX_TOP + ".");
+        }
+
+        List<ExpenseDto> topExpenses = topSize == 0
+                ? List.of()
+                : Stream.concat(
+                                expenseRepository.findTopByAmount(user.getId(), start, end, Limit.of(topSize)).stream(),
+                                expenseArchiveRepository.findTopByAmount(user.getId(), start, end, Limit.of(topSize)).stream())
+                        .sorted(TOP_ORDER)
+                        .limit(topSize)
+                        .toList();
+
+        // Sem período, os totais vêm prontos de tb_user_expense_summary, independente do tamanho do histórico.
+        if (from == null && to == null) {
+            return new ExpenseSummaryDto(null, null,
+                    summaryRepository.findStatusesByUser(user.getId()),
+                    summaryRepository.findMonthsByUser(user.getId()),
+                    topExpenses);
+        }
+
+        return new ExpenseSummaryDto(from, to,
+                mergeStatuses(expenseRepository.summarizeByStatus(user.getId(), start, end),
+                        expenseArchiveRepository.summarizeByStatus(user.getId(), start, end)),
+                mergeMonths(expenseRepository.summarizeByMonth(user.getId(), start, end),
+                        expenseArchiveRepository.summarizeByMonth(user.getId(), start, end)),
+                topExpenses);
+    }
+
+    private List<StatusSummaryDto> mergeStatuses(List<StatusSummaryDto> expenses, List<StatusSummaryDto> archived) {
+
+        Map<Status, StatusSummaryDto> statuses = new EnumMap<>(Status.class);
+        Stream.concat(expenses.stream(), archived.stream()).forEach(status -> statuses.merge(status.status(), status,
+                (a, b) -> new StatusSummaryDto(a.status(), a.total().add(b.total()), a.count() + b.count())));
+
+        return List.copyOf(statuses.values());
+    }
+
+    private List<MonthlySummaryDto> mergeMonths(List<MonthlySummaryDto> expenses, List<MonthlySummaryDto> archived) {
+
+        Map<MonthlySummaryDto, MonthlySummaryDto> months = new TreeMap<>(MONTH_ORDER);
+        Stream.concat(expenses.stream(), archived.stream()).forEach(month -> months.merge(month, month,
+                (a, b) -> new MonthlySummaryDto(a.year(), a.month(), a.status(), a.total().add(b.total()), a.count() + b.count())));
+
+        return List.copyOf(months.values());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.mybudget.domain.service;
+
+import com.mybudget.domain.dto.ExpenseChangeDto;
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.ExpenseSyncDto;
+import com.mybudget.domain.dto.ExpenseTombstoneDto;
+import com.mybudget.domain.expense.ExpenseChangedEvent;
+import com.mybudget.domain.expense.ExpenseTombstone;
+import com.mybudget.domain.expense.SyncWatermark;
+import com.mybudget.domain.repository.ExpenseRepository;
+import com.mybudget.domain.repository.ExpenseTombstoneRepository;
+import com.mybudget.domain.user.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Sincronização incremental: devolve as despesas alteradas e excluídas depois de uma marca (changedAt, id).
+ * <p>
+ * updated_at é gravado antes do commit, então uma transação lenta pode confirmar uma alteração com horário
+ * anterior ao de outra já entregue. Por isso só são entregues alterações mais antigas que {@code commitLag}, e a
+ * marca devolvida nunca passa desse limite: uma alteração só fica de fora se a sua transação durar mais que isso.
+ */
+@Service
+public class ExpenseSyncService {
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private ExpenseTombstoneRepository tombstoneRepository;
+
+    @Value("${api.sync.commit-lag:5s}")
+    private Duration commitLag;
+
+    /**
+     * Registra as exclusões (despesas removidas que não voltam em added) na mesma transação do ExpenseService.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+
+        Set<UUID> kept = event.added().stream()
+                .map(ExpenseDto::id)
+                .collect(Collectors.toSet());
+
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        List<ExpenseTombstone> tombstones = event.removed().stream()
+                .filter(expense -> !kept.contains(expense.id()))
+                .map(expense -> new ExpenseTombstone(expense.id(), event.userId(), now))
+                .toList();
+
+        if (!tombstones.isEmpty()) {
+            tombstoneRepository.saveAll(tombstones);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ExpenseSyncDto getChanges(User user, String since, Integer size) {
+
+        int pageSize = ExpenseService.pageSize(size);
+        SyncWatermark after = SyncWatermark.decode(since);
+        Instant until = Instant.now().minus(commitLag).truncatedTo(ChronoUnit.MICROS);
+
+        // Cada fonte traz um registro a mais, para saber se ainda há alterações depois da página.
+        Limit limit = Limit.of(pageSize + 1);
+        List<ExpenseChangeDto> changed = expenseRepository.findChangedSince(
+                user.getId(), after.changedAt(), after.id(), until, limit);
+        List<ExpenseTombstoneDto> deleted = tombstoneRepository.findDeletedSince(
+                user.getId(), after.changedAt(), after.id(), until, limit);
+
+        List<ExpenseChangeDto> changedPage = new ArrayList<>();
+        List<ExpenseTombstoneDto> deletedPage = new ArrayList<>();
+        SyncWatermark last = after;
+
+        // Intercala as duas listas, já ordenadas por (changedAt, id), até completar a página.
+        int c = 0;
+        int d = 0;
+        while (c + d < pageSize && (c < changed.size() || d < deleted.size())) {
+
+            SyncWatermark nextChanged = c < changed.size() ? watermark(changed.get(c)) : null;
+            SyncWatermark nextDeleted = d < deleted.size() ? watermark(deleted.get(d)) : null;
+
+            if (nextDeleted == null || (nextChanged != null && nextChanged.compareTo(nextDeleted) < 0)) {
+                changedPage.add(changed.get(c++));
+                last = nextChanged;
+            } else {
+                deletedPage.add(deleted.get(d++));
+                last = nextDeleted;
+            }
+        }
+
+        boolean hasMore = c < changed.size() || d < deleted.size();
+
+        // Sem mais alterações, a marca avança até o limite consultado; tudo antes dele já foi entregue.
+        if (!hasMore) {
+            SyncWatermark limitReached = new SyncWatermark(until, SyncWatermark.START.id());
+            if (limitReached.compareTo(last) > 0) {
+                last = limitReached;
+            }
+        }
+
+        return new ExpenseSyncDto(changedPage, deletedPage, last.encode(), hasMore);
+    }
+
+    private static SyncWatermark watermark(ExpenseChangeDto expense) {
+        return new SyncWatermark(expense.updatedAt(), expense.id());
+    }
+
+    private static SyncWatermark watermark(ExpenseTombstoneDto tombstone) {
+        return new SyncWatermark(tombstone.deletedAt(), tombstone.id());
+    }
+}
\ No newline at end of file
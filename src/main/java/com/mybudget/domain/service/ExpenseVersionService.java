@@ -0,0 +1,48 @@
+package com.mybudget.domain.service;
+
+import com.mybudget.domain.expense.ExpenseArchivedEvent;
+import com.mybudget.domain.expense.ExpenseChangedEvent;
+import com.mybudget.domain.repository.UserExpenseVersionRepository;
+import com.mybudget.domain.user.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Versão do conjunto de despesas de cada usuário, usada como ETag das listagens. Fica em tb_user_expense_version
+ * e é incrementada pelo {@link ExpenseChangedEvent} e pelo {@link ExpenseArchivedEvent}, na mesma transação da
+ * gravação: todas as instâncias da API, inclusive as que executam os agendamentos, veem a mesma versão, e ela só
+ * muda junto com os dados.
+ * <p>
+ * O controller lê a versão antes da listagem. Uma gravação confirmada entre as duas leituras devolve dados novos
+ * com o ETag anterior, e a próxima requisição é respondida por completo; nunca o contrário.
+ */
+@Service
+public class ExpenseVersionService {
+
+    @Autowired
+    private UserExpenseVersionRepository versionRepository;
+
+    // Usuários sem nenhuma gravação desde a criação da tabela ficam na versão 0.
+    public String getETag(User user) {
+
+        long version = versionRepository.findVersion(user.getId()).orElse(0L);
+        return "\"" + Long.toString(version, 36) + "\"";
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+
+        versionRepository.increment(event.userId());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onExpenseArchived(ExpenseArchivedEvent event) {
+
+        versionRepository.increment(event.userId());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.mybudget.domain.service;
+
+import com.mybudget.infra.scheduling.ChunkedRun;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lança periodicamente as despesas recorrentes vencidas. Cada execução processa no máximo {@code maxChunks}
+ * blocos de {@code chunkSize} modelos, com uma pausa entre eles, para não disputar o banco com a API; o que
+ * sobrar fica para a próxima execução ou para outro nó, que reserva blocos diferentes.
+ */
+@Slf4j
+@Component
+public class RecurringExpenseScheduler {
+
+    @Autowired
+    private RecurringExpenseService recurringExpenseService;
+
+    @Value("${api.recurring.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${api.recurring.max-chunks-per-run:20}")
+    private int maxChunks;
+
+    @Value("${api.recurring.chunk-pause:100ms}")
+    private Duration chunkPause;
+
+    /**
+     * @return quantidade de despesas lançadas
+     */
+    @Scheduled(fixedDelayString = "${api.recurring.interval:PT1M}", initialDelayString = "${api.recurring.interval:PT1M}")
+    public int run() {
+
+        LocalDate today = LocalDate.now();
+        AtomicInteger generated = new AtomicInteger();
+
+        ChunkedRun.run(maxChunks, chunkPause, () -> {
+
+            UUID token = recurringExpenseService.claimDue(today, chunkSize);
+            if (token == null) {
+                return false;
+            }
+
+            try {
+                generated.addAndGet(recurringExpenseService.generateClaimed(token, today));
+            } catch (OptimisticLockingFailureException e) {
+                // Só acontece com a reserva já expirada: outro nó reservou um modelo do bloco ou ele foi excluído.
+                log.warn("Bloco {} de despesas recorrentes desfeito: a reserva expirou antes da gravação. "
+                        + "Os modelos serão reservados de novo.", token);
+            }
+
+            return true;
+        });
+
+        return generated.get();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,235 @@
+package com.mybudget.domain.service;
+
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.RecurringExpenseDto;
+import com.mybudget.domain.expense.Expense;
+import com.mybudget.domain.expense.ExpenseChangedEvent;
+import com.mybudget.domain.expense.Frequency;
+import com.mybudget.domain.expense.RecurringExpense;
+import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.repository.ExpenseRepository;
+import com.mybudget.domain.repository.RecurringExpenseRepository;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.exception.ExpenseNotFoundException;
+import com.mybudget.infra.exception.InvalidRequestException;
+import com.mybudget.infra.exception.RecurringExpenseLockedException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Modelos de despesas recorrentes e o lançamento das ocorrências vencidas em tb_expense.
+ * <p>
+ * O lançamento é feito em blocos de modelos: {@link #claimDue} reserva um bloco para o nó em uma transação curta
+ * e {@link #generateClaimed} grava as despesas do bloco, avança next_date e libera a reserva em outra. Se o nó
+ * cair no meio, a reserva expira e outro nó retoma o bloco a partir do next_date confirmado.
+ */
+@Service
+public class RecurringExpenseService {
+
+    public static final int MAX_RECURRING_PER_USER = 100;
+
+    public static final int MAX_CRON_LENGTH = 100;
+
+    // Limita as ocorrências atrasadas lançadas por modelo em um bloco; o restante fica para os próximos blocos.
+    public static final int MAX_OCCURRENCES_PER_CLAIM = 31;
+
+    @Autowired
+    private RecurringExpenseRepository recurringExpenseRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${api.recurring.lease-duration:5m}")
+    private Duration leaseDuration;
+
+    @Transactional
+    public RecurringExpenseDto newRecurringExpense(User user, RecurringExpenseDto recurringExpenseDto) {
+
+        validate(recurringExpenseDto);
+
+        if (recurringExpenseRepository.countByUser(user.getId()) >= MAX_RECURRING_PER_USER) {
+            throw new InvalidRequestException("O limite é de " + MAX_RECURRING_PER_USER + " despesas recorrentes por usuário.");
+        }
+
+        RecurringExpense recurringExpense = new RecurringExpense();
+        recurringExpense.setUser(user);
+        recurringExpense.setDescription(recurringExpenseDto.description());
+        recurringExpense.setAmount(recurringExpenseDto.amount());
+        recurringExpense.setFrequency(recurringExpenseDto.frequency());
+        recurringExpense.setCronExpression(recurringExpenseDto.frequency() == Frequency.CRON ? recurringExpenseDto.cron() : null);
+        recurringExpense.setStartDate(recurringExpenseDto.startDate() != null ? recurringExpenseDto.startDate() : LocalDate.now());
+        recurringExpense.setNextDate(nextDate(recurringExpense, recurringExpense.getStartDate().minusDays(1)));
+
+        recurringExpenseRepository.save(recurringExpense);
+
+        return new RecurringExpenseDto(recurringExpense);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RecurringExpenseDto> getRecurringExpenses(User user) {
+
+        return recurringExpenseRepository.findByUser(user.getId()).stream()
+                .map(RecurringExpenseDto::new)
+                .toList();
+    }
+
+    /**
+     * Remove o modelo. As despesas já lançadas continuam em tb_expense. Um modelo reservado por um nó só pode ser
+     * removido depois que o bloco for gravado ou a reserva expirar.
+     */
+    @Transactional
+    public void deleteRecurringExpense(User user, UUID id) {
+
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        if (recurringExpenseRepository.deleteUnclaimed(id, user.getId(), now) == 0) {
+            if (recurringExpenseRepository.existsByIdAndUser(id, user.getId())) {
+                throw new RecurringExpenseLockedException("A despesa recorrente está sendo lançada. Tente novamente em instantes.");
+            }
+            throw new ExpenseNotFoundException("Despesa recorrente não encontrada");
+        }
+    }
+
+    /**
+     * Reserva até {@code size} modelos vencidos até {@code today} e devolve o token da reserva, ou null se não
+     * houver modelos disponíveis. Modelos reservados por outro nó são ignorados até a reserva expirar.
+     */
+    @Transactional
+    public UUID claimDue(LocalDate today, int size) {
+
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        List<UUID> ids = recurringExpenseRepository.findDueIds(today, now, Limit.of(size));
+
+        if (ids.isEmpty()) {
+            return null;
+        }
+
+        UUID token = UUID.randomUUID();
+        int claimed = recurringExpenseRepository.claim(ids, token, now.plus(leaseDuration), today, now);
+
+        return claimed == 0 ? null : token;
+    }
+
+    /**
+     * Lança as ocorrências vencidas dos modelos reservados com {@code token} em um único saveAll, agrupado pelo
+     * batch do JDBC, e publica um {@link ExpenseChangedEvent} por usuário para manter totais, sincronização e
+     * ETags. Se a reserva tiver expirado e outro nó tiver reservado o modelo, a versão diverge e nada é gravado.
+     *
+     * @return quantidade de despesas lançadas
+     */
+    @Transactional
+    public int generateClaimed(UUID token, LocalDate today) {
+
+        List<RecurringExpense> claimed = recurringExpenseRepository.findByLeaseToken(token);
+
+        List<Expense> expenses = new ArrayList<>();
+        Map<Long, List<ExpenseDto>> createdByUser = new TreeMap<>();
+
+        for (RecurringExpense recurringExpense : claimed) {
+
+            LocalDate date = recurringExpense.getNextDate();
+            for (int i = 0; i < MAX_OCCURRENCES_PER_CLAIM && date != null && !date.isAfter(today); i++) {
+
+                Expense expense = new Expense(null, recurringExpense.getDescription(), recurringExpense.getAmount(),
+                        date, recurringExpense.getUser(), Status.PENDING);
+                expenses.add(expense);
+                date = nextDate(recurringExpense, date);
+            }
+
+            recurringExpense.setNextDate(date);
+            recurringExpense.setLeaseToken(null);
+            recurringExpense.setLeaseUntil(null);
+        }
+
+        expenseRepository.saveAll(expenses);
+
+        for (Expense expense : expenses) {
+            createdByUser.computeIfAbsent(expense.getUser().getId(), user -> new ArrayList<>()).add(new ExpenseDto(expense));
+        }
+
+        // Usuários em ordem crescente, para que blocos concorrentes atualizem os totais sempre na mesma ordem.
+        createdByUser.forEach((userId, created) -> eventPublisher.publishEvent(ExpenseChangedEvent.created(userId, created)));
+
+        return expenses.size();
+    }
+
+    /**
+     * Próxima ocorrência estritamente depois de {@code after}, ou null se a expressão cron não tiver mais datas.
+     * Semanal e mensal contam a partir de start_date, então um modelo do dia 31 cai no último dia dos meses curtos
+     * sem deslocar os meses seguintes.
+     */
+    static LocalDate nextDate(RecurringExpense recurringExpense, LocalDate after) {
+
+        LocalDate start = recurringExpense.getStartDate();
+
+        if (after.isBefore(start)) {
+            after = start.minusDays(1);
+        }
+
+        return switch (recurringExpense.getFrequency()) {
+            case WEEKLY -> {
+                long weeks = ChronoUnit.WEEKS.between(start, after);
+                LocalDate next = start.plusWeeks(weeks);
+                while (!next.isAfter(after)) {
+                    next = start.plusWeeks(++weeks);
+                }
+                yield next;
+            }
+            case MONTHLY -> {
+                long months = ChronoUnit.MONTHS.between(start, after);
+                LocalDate next = start.plusMonths(months);
+                while (!next.isAfter(after)) {
+                    next = start.plusMonths(++months);
+                }
+                yield next;
+            }
+            case CRON -> {
+                LocalDateTime next = CronExpression.parse(recurringExpense.getCronExpression())
+                        .next(after.atTime(LocalTime.MAX));
+                yield next == null ? null : next.toLocalDate();
+            }
+        };
+    }
+
+    private void validate(RecurringExpenseDto recurringExpenseDto) {
+
+        if (recurringExpenseDto.amount() == null || recurringExpenseDto.amount().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new InvalidRequestException("O valor da despesa deve ser maior que zero.");
+        }
+
+        if (recurringExpenseDto.description() == null || recurringExpenseDto.description().trim().isEmpty()) {
+            throw new InvalidRequestException("A descrição da despesa não pode estar vazia.");
+        }
+
+        if (recurringExpenseDto.frequency() == null) {
+            throw new InvalidRequestException("Informe a frequência da despesa recorrente.");
+        }
+
+        if (recurringExpenseDto.frequency() == Frequency.CRON
+                && (recurringExpenseDto.cron() == null || recurringExpenseDto.cron().length() > MAX_CRON_LENGTH
+                || !CronExpression.isValidExpression(recurringExpenseDto.cron()))) {
+            throw new InvalidRequestException("Expressão cron inválida.");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.mybudget.domain.service;
+
+import com.mybudget.infra.scheduling.ChunkedRun;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exclui os refresh tokens expirados, revogados ou não, de todos os usuários; sem ela, os tokens de quem não volta
+ * a fazer login ficariam em tb_refresh_token indefinidamente. Cada execução processa no máximo {@code maxChunks}
+ * blocos de {@code chunkSize} tokens, com uma pausa entre eles; o que sobrar fica para a próxima execução.
+ */
+@Component
+public class RefreshTokenPurgeScheduler {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Value("${api.refresh-token-purge.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${api.refresh-token-purge.max-chunks-per-run:100}")
+    private int maxChunks;
+
+    @Value("${api.refresh-token-purge.chunk-pause:100ms}")
+    private Duration chunkPause;
+
+    /**
+     * @return quantidade de tokens excluídos
+     */
+    @Scheduled(cron = "${api.refresh-token-purge.cron:0 0 4 * * *}")
+    public int run() {
+
+        Instant now = Instant.now();
+        AtomicInteger purged = new AtomicInteger();
+
+        ChunkedRun.run(maxChunks, chunkPause, () -> {
+            int chunkPurged = refreshTokenService.purgeExpiredChunk(now, chunkSize);
+            purged.addAndGet(chunkPurged);
+            return chunkPurged == chunkSize;
+        });
+
+        return purged.get();
+    }
+}
\ No newline at end of file
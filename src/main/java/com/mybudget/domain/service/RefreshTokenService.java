@@ -0,0 +1,144 @@
+package com.mybudget.domain.service;
+
+import com.mybudget.domain.repository.RefreshTokenRepository;
+import com.mybudget.domain.repository.UserRepository;
+import com.mybudget.domain.user.RefreshToken;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.exception.InvalidCredentialsException;
+import com.mybudget.infra.persistence.UuidV7Generator;
+import com.mybudget.infra.security.DadosTokenJWT;
+import com.mybudget.infra.security.TokenService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Refresh tokens opacos no formato {@code <id>.<segredo>}, com rotação a cada uso. Todos os tokens gerados
+ * a partir de um mesmo login formam uma família; apresentar um token já rotacionado indica vazamento e
+ * revoga a família inteira.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final int SECRET_BYTES = 32;
+
+    private static final String INVALID_TOKEN = "Refresh token inválido ou expirado.";
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Value("${api.security.token.refresh-ttl:30d}")
+    private Duration refreshTokenTtl;
+
+    @Transactional
+    public DadosTokenJWT login(User user) {
+
+        refreshTokenRepository.deleteExpiredByUser(user.getId(), Instant.now());
+
+        String refreshToken = create(user.getId(), UuidV7Generator.next());
+        return new DadosTokenJWT(tokenService.generateToken(user), refreshToken);
+    }
+
+    @Transactional(noRollbackFor = InvalidCredentialsException.class)
+    public DadosTokenJWT refresh(String rawToken) {
+
+        RefreshToken token = find(rawToken)
+                .filter(t -> t.getExpiresAt().isAfter(Instant.now()))
+                .orElseThrow(() -> new InvalidCredentialsException(INVALID_TOKEN));
+
+        if (refreshTokenRepository.revoke(token.getId()) == 0) {
+            refreshTokenRepository.revokeFamily(token.getFamilyId());
+            throw new InvalidCredentialsException(INVALID_TOKEN);
+        }
+
+        User user = userRepository.findById(token.getUserId())
+                .orElseThrow(() -> new InvalidCredentialsException(INVALID_TOKEN));
+
+        String refreshToken = create(user.getId(), token.getFamilyId());
+        return new DadosTokenJWT(tokenService.generateToken(user), refreshToken);
+    }
+
+    @Transactional
+    public void logout(String rawToken) {
+
+        find(rawToken).ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    /**
+     * Exclui até {@code size} tokens expirados antes de {@code now}, de qualquer usuário, em uma transação.
+     *
+     * @return quantidade de tokens excluídos
+     */
+    @Transactional
+    public int purgeExpiredChunk(Instant now, int size) {
+
+        List<UUID> ids = refreshTokenRepository.findExpiredIds(now, Limit.of(size));
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return refreshTokenRepository.deleteByIds(ids);
+    }
+
+    private String create(Long userId, UUID familyId) {
+
+        byte[] secret = new byte[SECRET_BYTES];
+        RANDOM.nextBytes(secret);
+
+        RefreshToken token = refreshTokenRepository.save(new RefreshToken(null, familyId, userId, sha256(secret),
+                Instant.now().plus(refreshTokenTtl), false));
+
+        return token.getId() + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+    }
+
+    private Optional<RefreshToken> find(String rawToken) {
+
+        int separator = rawToken == null ? -1 : rawToken.indexOf('.');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+
+        UUID id;
+        byte[] secret;
+        try {
+            id = UUID.fromString(rawToken.substring(0, separator));
+            secret = Base64.getUrlDecoder().decode(rawToken.substring(separator + 1).getBytes(StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        return refreshTokenRepository.findById(id)
+                .filter(token -> MessageDigest.isEqual(token.getSecretHash(), sha256(secret)));
+    }
+
+    private static byte[] sha256(byte[] value) {
+
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
\ No newline at end of file
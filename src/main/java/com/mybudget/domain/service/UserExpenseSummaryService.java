@@ -0,0 +1,108 @@
+package com.mybudget.domain.service;
+
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.ExpenseSummaryMismatchDto;
+import com.mybudget.domain.dto.ExpenseSummaryRebuildDto;
+import com.mybudget.domain.expense.ExpenseChangedEvent;
+import com.mybudget.domain.expense.UserExpenseSummaryId;
+import com.mybudget.domain.repository.UserExpenseSummaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mantém tb_user_expense_summary. As alterações de despesas chegam pelo {@link ExpenseChangedEvent}, de forma
+ * síncrona e na mesma transação do ExpenseService, então a gravação e os totais são confirmados ou desfeitos juntos.
+ */
+@Service
+public class UserExpenseSummaryService {
+
+    // Ordem fixa das linhas atualizadas, para que transações concorrentes do mesmo usuário não se travem.
+    private static final Comparator<UserExpenseSummaryId> KEY_ORDER = Comparator
+            .comparingInt(UserExpenseSummaryId::getYear)
+            .thenComparingInt(UserExpenseSummaryId::getMonth)
+            .thenComparing(UserExpenseSummaryId::getStatus);
+
+    @Autowired
+    private UserExpenseSummaryRepository summaryRepository;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+
+        Map<UserExpenseSummaryId, Delta> deltas = new TreeMap<>(KEY_ORDER);
+        event.removed().forEach(expense -> deltas.merge(key(event.userId(), expense), Delta.of(expense).negate(), Delta::plus));
+        event.added().forEach(expense -> deltas.merge(key(event.userId(), expense), Delta.of(expense), Delta::plus));
+
+        deltas.forEach((key, delta) -> {
+            if (!delta.isZero()) {
+                summaryRepository.addToSummary(key.getUserId(), key.getYear(), key.getMonth(),
+                        key.getStatus().name(), delta.amount(), delta.count());
+            }
+        });
+    }
+
+    /**
+     * Recalcula os totais a partir de tb_expense e tb_expense_archive. Com userId nulo, recalcula todos os usuários.
+     */
+    @Transactional
+    public ExpenseSummaryRebuildDto rebuild(Long userId) {
+
+        long user = userId == null ? 0 : userId;
+
+        summaryRepository.deleteByUser(user);
+        int rows = summaryRepository.rebuildByUser(user);
+
+        return new ExpenseSummaryRebuildDto(userId, rows);
+    }
+
+    /**
+     * Compara os totais com tb_expense e tb_expense_archive e retorna as linhas divergentes. Com userId nulo, confere todos os usuários.
+     */
+    @Transactional(readOnly = true)
+    public List<ExpenseSummaryMismatchDto> check(Long userId) {
+
+        return summaryRepository.findMismatches(userId == null ? 0 : userId).stream()
+                .map(row -> new ExpenseSummaryMismatchDto(
+                        ((Number) row[0]).longValue(),
+                        ((Number) row[1]).intValue(),
+                        ((Number) row[2]).intValue(),
+                        String.valueOf(row[3]),
+                        row[4] == null ? BigDecimal.ZERO : (BigDecimal) row[4],
+                        row[5] == null ? 0 : ((Number) row[5]).longValue(),
+                        row[6] == null ? BigDecimal.ZERO : (BigDecimal) row[6],
+                        row[7] == null ? 0 : ((Number) row[7]).longValue()))
+                .toList();
+    }
+
+    private UserExpenseSummaryId key(Long userId, ExpenseDto expense) {
+        return new UserExpenseSummaryId(userId, expense.date().getYear(), expense.date().getMonthValue(), expense.status());
+    }
+
+    private record Delta(BigDecimal amount, long count) {
+
+        static Delta of(ExpenseDto expense) {
+            return new Delta(expense.amount(), 1);
+        }
+
+        Delta negate() {
+            return new Delta(amount.negate(), -count);
+        }
+
+        Delta plus(Delta other) {
+            return new Delta(amount.add(other.amount), count + other.count);
+        }
+
+        boolean isZero() {
+            return count == 0 && amount.signum() == 0;
+        }
+    }
+}
\ No newline at end of file
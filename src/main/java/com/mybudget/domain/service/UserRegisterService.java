@@ -4,11 +4,11 @@ import com.mybudget.domain.dto.UserDto;
 import com.mybudget.domain.user.User;
 import com.mybudget.domain.repository.UserRepository;
 import com.mybudget.domain.service.validation.ValidateUserRegister;
+import com.mybudget.infra.exception.PasswordHashingUnavailableException;
 import com.mybudget.infra.exception.UserRegisterException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class UserRegisterService {
@@ -22,7 +22,10 @@ public class UserRegisterService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
-    @Transactional
+    /**
+     * Sem transação própria: o hash da senha é calculado no pool de hashing e não deve segurar uma conexão
+     * do banco enquanto espera. O {@code save} abre a sua transação.
+     */
     public UserDto register(UserDto userDto) {
 
         try {
@@ -40,7 +43,7 @@ public class UserRegisterService {
 
             return new UserDto(newUser);
 
-        } catch (UserRegisterException e) {
+        } catch (UserRegisterException | PasswordHashingUnavailableException e) {
             throw e;
         } catch (Exception e) {
             throw new RuntimeException("Ocorreu um erro inesperado. Por favor, tente novamente.");
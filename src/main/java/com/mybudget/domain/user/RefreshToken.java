@@ -0,0 +1,36 @@
+package com.mybudget.domain.user;
+
+import com.mybudget.infra.persistence.UuidV7;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity(name = "RefreshToken")
+@Table(name = "tb_refresh_token")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class RefreshToken {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "secret_hash", nullable = false)
+    private byte[] secretHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    private boolean revoked;
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.mybudget.infra.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    public static final String USERS = "users";
+
+    @Value("${api.cache.users.maximum-size:10000}")
+    private long usersMaximumSize;
+
+    @Value("${api.cache.users.expire-after-write:5m}")
+    private Duration usersExpireAfterWrite;
+
+    @Bean
+    public CacheManager cacheManager() {
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(USERS, Caffeine.newBuilder()
+                .maximumSize(usersMaximumSize)
+                .expireAfterWrite(usersExpireAfterWrite)
+                .build());
+
+        return cacheManager;
+    }
+}
\ No newline at end of file
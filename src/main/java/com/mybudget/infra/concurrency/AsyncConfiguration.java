@@ -0,0 +1,55 @@
+package com.mybudget.infra.concurrency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Habilita o @Async sobre um pool limitado, no lugar do executor padrão do Spring Boot, cuja fila não tem limite:
+ * {@code api.async.threads} threads e até {@code api.async.queue-capacity} tarefas esperando. Acima disso a chamada
+ * falha com TaskRejectedException em vez de acumular trabalho que disputaria o pool de conexões com as requisições.
+ * <p>
+ * Com {@code spring.threads.virtual.enabled} (profile virtual-threads) as tarefas rodam em threads virtuais, com os
+ * mesmos limites. A propriedade exige Java 21: em versões anteriores o Spring Boot a ignora e o Tomcat continuaria
+ * em threads de plataforma sem aviso, então a aplicação não sobe.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfiguration {
+
+    @Value("${api.async.threads:4}")
+    private int threads;
+
+    @Value("${api.async.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public ThreadPoolTaskExecutor applicationTaskExecutor() {
+
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("spring.threads.virtual.enabled exige Java 21 ou superior; a aplicação está em Java "
+                    + Runtime.version().feature() + ".");
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("async-");
+        if (virtualThreads) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("async-").getVirtualThreadFactory());
+        }
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.mybudget.infra.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mybudget.infra.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita quantas requisições são processadas ao mesmo tempo, independentemente do número de threads do Tomcat,
+ * para que milhares de clientes lentos não disputem o pool de conexões;
+ * quem não consegue uma vaga em {@code api.concurrency.acquire-timeout} recebe 503 com {@code Retry-After}.
+ * <p>
+ * Sem {@code api.concurrency.max-in-flight-requests}, o limite é o tamanho do pool do Hikari vezes
+ * {@code api.concurrency.requests-per-connection}: com o open-in-view desligado a requisição só segura a conexão
+ * durante a transação, e a proporção mantém no máximo algumas requisições por conexão esperando o pool, bem abaixo
+ * do {@code connection-timeout}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    public static final String IN_FLIGHT_METRIC = "mybudget.requests.in-flight";
+    public static final String REJECTED_METRIC = "mybudget.requests.rejected";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${api.concurrency.max-in-flight-requests:0}")
+    private int maxInFlightRequests;
+
+    @Value("${api.concurrency.requests-per-connection:2}")
+    private int requestsPerConnection;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int connectionPoolSize;
+
+    @Value("${api.concurrency.acquire-timeout:1s}")
+    private Duration acquireTimeout;
+
+    private Semaphore permits;
+
+    private Counter rejected;
+
+    @PostConstruct
+    public void init() {
+
+        if (maxInFlightRequests <= 0) {
+            maxInFlightRequests = connectionPoolSize * requestsPerConnection;
+        }
+
+        permits = new Semaphore(maxInFlightRequests);
+        rejected = meterRegistry.counter(REJECTED_METRIC);
+        Gauge.builder(IN_FLIGHT_METRIC, permits, p -> maxInFlightRequests - p.availablePermits())
+                .description("Requisições em processamento")
+                .register(meterRegistry);
+    }
+
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            reject(response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        }
+        finally {
+            permits.release();
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+
+        rejected.increment();
+
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse("Servidor ocupado. Tente novamente em instantes."));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.mybudget.infra.exception;
+
+import com.mybudget.domain.dto.ExpenseBatchErrorDto;
+
+import java.util.List;
+
+public record BatchErrorResponse(String message, List<ExpenseBatchErrorDto> errors) {
+}
\ No newline at end of file
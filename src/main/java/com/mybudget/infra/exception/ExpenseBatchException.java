@@ -0,0 +1,19 @@
+package com.mybudget.infra.exception;
+
+import com.mybudget.domain.dto.ExpenseBatchErrorDto;
+
+import java.util.List;
+
+public class ExpenseBatchException extends RuntimeException {
+
+    private final List<ExpenseBatchErrorDto> errors;
+
+    public ExpenseBatchException(String message, List<ExpenseBatchErrorDto> errors) {
+        super(message);
+        this.errors = errors;
+    }
+
+    public List<ExpenseBatchErrorDto> getErrors() {
+        return errors;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.mybudget.infra.exception;
+
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+    public IdempotencyKeyConflictException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
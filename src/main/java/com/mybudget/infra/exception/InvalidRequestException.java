@@ -0,0 +1,8 @@
+package com.mybudget.infra.exception;
+
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
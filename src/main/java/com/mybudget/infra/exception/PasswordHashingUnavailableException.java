@@ -0,0 +1,8 @@
+package com.mybudget.infra.exception;
+
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
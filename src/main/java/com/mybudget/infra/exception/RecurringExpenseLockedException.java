@@ -0,0 +1,8 @@
+package com.mybudget.infra.exception;
+
+public class RecurringExpenseLockedException extends RuntimeException {
+
+    public RecurringExpenseLockedException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
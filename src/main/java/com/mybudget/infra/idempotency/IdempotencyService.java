@@ -0,0 +1,160 @@
+package com.mybudget.infra.idempotency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.exception.IdempotencyKeyConflictException;
+import com.mybudget.infra.exception.InvalidRequestException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Guarda, por usuário, operação e {@code Idempotency-Key}, o resultado de requisições de escrita. A primeira
+ * requisição executa a operação; repetições com a mesma chave recebem o resultado guardado, e as que chegam
+ * enquanto a primeira ainda executa aguardam o mesmo resultado. Falhas não são guardadas, para que o cliente
+ * possa tentar de novo. O armazenamento é em memória, com expiração e limitado pelo tamanho em JSON das requisições
+ * e resultados guardados: uma entrada de /register/batch pesa o mesmo que mil entradas de /register.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    // 10.0 e 10.00 são o mesmo valor: os números dos corpos são comparados com compareTo.
+    private static final Comparator<JsonNode> NUMBERS_BY_VALUE = (a, b) -> a.isNumber() && b.isNumber()
+            ? a.decimalValue().compareTo(b.decimalValue())
+            : a.equals(b) ? 0 : 1;
+
+    @Value("${api.idempotency.maximum-weight:64MB}")
+    private DataSize maximumWeight;
+
+    @Value("${api.idempotency.expire-after-write:24h}")
+    private Duration expireAfterWrite;
+
+    @Value("${api.idempotency.wait-timeout:10s}")
+    private Duration waitTimeout;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Cache<String, Entry> entries;
+
+    @PostConstruct
+    public void init() {
+
+        entries = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes())
+                .weigher((String key, Entry entry) -> entry.weight())
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    public <T> IdempotentResult<T> execute(User user, String operation, String key, Object request, Supplier<T> action) {
+
+        if (key == null) {
+            return new IdempotentResult<>(action.get(), false);
+        }
+
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException("Idempotency-Key deve ter entre 1 e " + MAX_KEY_LENGTH + " caracteres.");
+        }
+
+        String cacheKey = user.getId() + ":" + operation + ":" + key;
+        Entry created = new Entry(request, new CompletableFuture<>(), weigh(request));
+        Entry existing = entries.asMap().putIfAbsent(cacheKey, created);
+
+        if (existing == null) {
+            try {
+                T value = action.get();
+                created.result().complete(value);
+                // Substitui a entrada para que o peso inclua o resultado.
+                entries.asMap().replace(cacheKey, created,
+                        new Entry(request, created.result(), created.weight() + weigh(value)));
+                return new IdempotentResult<>(value, false);
+            } catch (RuntimeException e) {
+                entries.asMap().remove(cacheKey, created);
+                created.result().completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        if (!sameRequest(existing.request(), request)) {
+            throw new IdempotencyKeyConflictException("Idempotency-Key já utilizada com outra requisição.");
+        }
+
+        return new IdempotentResult<>(await(existing), true);
+    }
+
+    private boolean sameRequest(Object stored, Object request) {
+
+        return stored.equals(request)
+                || objectMapper.valueToTree(stored).equals(NUMBERS_BY_VALUE, objectMapper.valueToTree(request));
+    }
+
+    // Tamanho do valor em JSON, contado sem guardar os bytes.
+    private int weigh(Object value) {
+
+        ByteCounter counter = new ByteCounter();
+        try {
+            objectMapper.writeValue(counter, value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return (int) Math.min(counter.count, Integer.MAX_VALUE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(Entry entry) {
+
+        try {
+            return (T) entry.result().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyConflictException("Requisição com a mesma Idempotency-Key ainda em processamento.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyConflictException("Requisição com a mesma Idempotency-Key ainda em processamento.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record Entry(Object request, CompletableFuture<Object> result, int weight) {
+    }
+
+    private static final class ByteCounter extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
\ No newline at end of file
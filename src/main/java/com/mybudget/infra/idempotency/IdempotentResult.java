@@ -0,0 +1,15 @@
+package com.mybudget.infra.idempotency;
+
+import org.springframework.http.HttpHeaders;
+
+public record IdempotentResult<T>(T value, boolean replayed) {
+
+    public HttpHeaders headers() {
+
+        HttpHeaders headers = new HttpHeaders();
+        if (replayed) {
+            headers.add(IdempotencyService.REPLAYED_HEADER, "true");
+        }
+        return headers;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.mybudget.infra.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a quantidade de statements e o tempo de JDBC de cada requisição, publicando em
+ * {@code mybudget.request.queries} e {@code mybudget.request.jdbc}. Requisições acima de
+ * {@code api.monitoring.max-queries-per-request} são registradas em log como suspeitas de N+1.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERIES_METRIC = "mybudget.request.queries";
+    public static final String JDBC_TIME_METRIC = "mybudget.request.jdbc";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${api.monitoring.max-queries-per-request:10}")
+    private long maxQueriesPerRequest;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RequestQueryStatistics statistics = RequestQueryStatistics.start();
+
+        try {
+            filterChain.doFilter(request, response);
+        }
+        finally {
+            RequestQueryStatistics.clear();
+            record(request, statistics);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStatistics statistics) {
+
+        String uri = resolveUri(request);
+
+        DistributionSummary.builder(QUERIES_METRIC)
+                .description("Statements SQL executados por requisição")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+
+        Timer.builder(JDBC_TIME_METRIC)
+                .description("Tempo gasto no JDBC por requisição")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (statistics.getStatements() > maxQueriesPerRequest) {
+            log.warn("Requisição {} {} executou {} statements SQL ({} ms de JDBC), acima do limite de {}.",
+                    request.getMethod(), uri, statistics.getStatements(),
+                    TimeUnit.NANOSECONDS.toMillis(statistics.getJdbcNanos()), maxQueriesPerRequest);
+        }
+    }
+
+    private String resolveUri(HttpServletRequest request) {
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
\ No newline at end of file
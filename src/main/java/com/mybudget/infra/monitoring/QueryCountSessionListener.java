@@ -0,0 +1,41 @@
+package com.mybudget.infra.monitoring;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Registrado pelo Hibernate em cada sessão; contabiliza os statements e lotes executados
+ * na {@link RequestQueryStatistics} da requisição atual, quando houver.
+ */
+public class QueryCountSessionListener extends BaseSessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+
+        RequestQueryStatistics statistics = RequestQueryStatistics.current();
+
+        if (statistics != null) {
+            statistics.record(System.nanoTime() - executionStart);
+        }
+    }
+}
\ No newline at end of file
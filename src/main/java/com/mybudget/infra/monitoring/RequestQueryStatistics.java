@@ -0,0 +1,44 @@
+package com.mybudget.infra.monitoring;
+
+/**
+ * Acumula, para a requisição em andamento na thread atual, quantos statements o Hibernate
+ * executou e quanto tempo foi gasto no JDBC.
+ */
+public final class RequestQueryStatistics {
+
+    private static final ThreadLocal<RequestQueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long jdbcNanos;
+
+    private RequestQueryStatistics() {
+    }
+
+    static RequestQueryStatistics start() {
+
+        RequestQueryStatistics statistics = new RequestQueryStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    static RequestQueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    void record(long elapsedNanos) {
+        statements++;
+        jdbcNanos += elapsedNanos;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+}
\ No newline at end of file
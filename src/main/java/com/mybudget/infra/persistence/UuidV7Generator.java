@@ -0,0 +1,47 @@
+package com.mybudget.infra.persistence;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gera UUIDs versão 7: os 48 bits mais altos são o timestamp Unix em milissegundos, seguidos de um contador
+ * de 12 bits (rand_a) que mantém a ordem entre ids criados no mesmo milissegundo, e 62 bits aleatórios.
+ * Gravados em binary(16), ids consecutivos ficam no fim da chave primária em vez de espalhados pelo índice.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // Timestamp em milissegundos deslocado 12 bits à esquerda, somado ao contador do milissegundo.
+    private static final AtomicLong LAST_TIMESTAMP_AND_COUNTER = new AtomicLong();
+
+    public static UUID next() {
+
+        long timestampAndCounter = LAST_TIMESTAMP_AND_COUNTER.updateAndGet(last ->
+                Math.max(System.currentTimeMillis() << 12, last + 1));
+
+        long mostSigBits = (timestampAndCounter >>> 12) << 16
+                | 0x7000L
+                | (timestampAndCounter & 0xFFFL);
+        long leastSigBits = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
\ No newline at end of file
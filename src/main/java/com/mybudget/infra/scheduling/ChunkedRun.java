@@ -0,0 +1,50 @@
+package com.mybudget.infra.scheduling;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Laço comum das tarefas agendadas que processam o banco em blocos: executa no máximo {@code maxChunks} blocos,
+ * com uma pausa entre eles para não disputar o banco com a API, e para quando o bloco informa que não há mais
+ * trabalho. O que sobrar fica para a próxima execução.
+ */
+public final class ChunkedRun {
+
+    private ChunkedRun() {
+    }
+
+    /**
+     * @param chunk processa um bloco e retorna se pode haver mais trabalho
+     * @return se a execução terminou com trabalho pendente (limite de blocos atingido ou thread interrompida)
+     */
+    public static boolean run(int maxChunks, Duration pause, BooleanSupplier chunk) {
+
+        for (int count = 1; count <= maxChunks; count++) {
+
+            if (!chunk.getAsBoolean()) {
+                return false;
+            }
+
+            if (count < maxChunks && !pause(pause)) {
+                return true;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean pause(Duration pause) {
+
+        if (pause.isZero()) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
\ No newline at end of file
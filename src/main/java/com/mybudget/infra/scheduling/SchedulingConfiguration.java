@@ -0,0 +1,15 @@
+package com.mybudget.infra.scheduling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas @Scheduled (lançamento de despesas recorrentes, arquivamento e limpeza de refresh
+ * tokens). Pode ser desligado por nó com api.scheduling.enabled=false; a reserva e os bloqueios no banco já evitam que dois nós processem as mesmas linhas.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(value = "api.scheduling.enabled", matchIfMissing = true)
+public class SchedulingConfiguration {
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.mybudget.infra.security;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record DadosRefreshToken(@NotBlank String refreshToken) {
+}
\ No newline at end of file
@@ -1,4 +1,4 @@
 package com.mybudget.infra.security;
 
-public record DadosTokenJWT(String token) {
+public record DadosTokenJWT(String token, String refreshToken) {
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.mybudget.infra.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,11 +13,17 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfigurations {
@@ -22,6 +31,21 @@ public class SecurityConfigurations {
     @Autowired
     private SecurityFilter securityFilter;
 
+    @Value("${api.security.password.encoder:bcrypt}")
+    private String passwordEncoderId;
+
+    @Value("${api.security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${api.security.password.hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${api.security.password.hashing.queue-capacity:100}")
+    private int hashingQueueCapacity;
+
+    @Value("${api.security.password.hashing.timeout:5s}")
+    private Duration hashingTimeout;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
@@ -30,9 +54,12 @@ public class SecurityConfigurations {
                 .authorizeHttpRequests(req -> {
                     req.requestMatchers("/mybudget/user-register").permitAll();
                     req.requestMatchers("/mybudget/login").permitAll();
+                    req.requestMatchers("/mybudget/token/refresh", "/mybudget/logout").permitAll();
+                    req.requestMatchers("/mybudget/dashboard/**").hasRole("ADMIN");
                     req.requestMatchers("/mybudget/**").authenticated();
-                    req.requestMatchers("/mybudget/dashboard").hasRole("ADMIN");
                     req.requestMatchers("/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/**").permitAll();
+                    req.requestMatchers("/actuator/health").permitAll();
+                    req.requestMatchers("/actuator/**").hasRole("ADMIN");
                     req.anyRequest().authenticated();
                 })
                 .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class)
@@ -49,8 +76,27 @@ public class SecurityConfigurations {
         return configuration.getAuthenticationManager();
     }
 
+    /**
+     * Novos hashes usam o encoder de {@code api.security.password.encoder} com o prefixo do id ({@code {bcrypt}},
+     * {@code {argon2}}); hashes antigos sem prefixo são conferidos como BCrypt. No login, o
+     * {@link com.mybudget.domain.service.AuthenticationService} regrava a senha quando o hash está em outro
+     * encoder ou com força menor que a configurada.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", bcrypt,
+                "argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(passwordEncoderId, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(delegating, threads, hashingQueueCapacity, hashingTimeout);
+        new ExecutorServiceMetrics(passwordEncoder.getExecutor(), "password.hashing", List.of()).bindTo(meterRegistry);
+
+        return passwordEncoder;
     }
 }
\ No newline at end of file
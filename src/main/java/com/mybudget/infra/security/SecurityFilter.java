@@ -1,6 +1,6 @@
 package com.mybudget.infra.security;
 
-import com.mybudget.domain.repository.UserRepository;
+import com.mybudget.domain.service.AuthenticationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,7 +20,7 @@ public class SecurityFilter extends OncePerRequestFilter {
     private TokenService tokenService;
 
     @Autowired
-    private UserRepository userRepository;
+    private AuthenticationService authenticationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -32,9 +32,8 @@ public class SecurityFilter extends OncePerRequestFilter {
 
             try {
 
-                var subject = tokenService.getSubject(tokenJWT);
-                var user = userRepository.findById(Long.parseLong(subject))
-                        .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+                var user = tokenService.getUserFromToken(tokenJWT)
+                        .orElseGet(() -> authenticationService.loadUserById(Long.parseLong(tokenService.getSubject(tokenJWT))));
 
                 var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
                 SecurityContextHolder.getContext().setAuthentication(authentication);
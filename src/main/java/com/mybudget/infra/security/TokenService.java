@@ -1,37 +1,79 @@
 package com.mybudget.infra.security;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.mybudget.domain.user.User;
-import com.mybudget.domain.repository.UserRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.mybudget.domain.user.UserRole;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.Optional;
 
 @Service
 public class TokenService {
 
+    private static final String ISSUER = "MyBudget-api";
+
+    private static final String ROLE_CLAIM = "role";
+
+    private static final String EMAIL_CLAIM = "email";
+
     @Value("${api.security.token.secret}")
     private String secret;
 
-    @Autowired
-    private UserRepository userRepository;
+    @Value("${api.security.token.access-ttl:15m}")
+    private Duration accessTokenTtl;
+
+    @Value("${api.cache.tokens.maximum-size:50000}")
+    private long verifiedTokensMaximumSize;
+
+    // Algorithm e JWTVerifier são imutáveis e thread-safe: criados uma única vez no startup.
+    private Algorithm algorithm;
+
+    private JWTVerifier verifier;
+
+    // Claims dos tokens já verificados, indexadas pelo SHA-256 do token e válidas apenas até o "exp" do próprio
+    // token. O token em si não é guardado: DecodedJWT mantém o texto completo em getToken().
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    @PostConstruct
+    public void init() {
+
+        algorithm = Algorithm.HMAC256(secret);
+        verifier = JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokensMaximumSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
 
-    public String generateToken(User user) {;
+    public String generateToken(User user) {
 
         try {
-            var algoritmo = Algorithm.HMAC256(secret);
             return JWT.create()
-                    .withIssuer("MyBudget-api")
+                    .withIssuer(ISSUER)
                     .withSubject(user.getId().toString())
-                    .withExpiresAt(dataExpiration())
-                    .sign(algoritmo);
+                    .withClaim(ROLE_CLAIM, user.getUserRole().name())
+                    .withClaim(EMAIL_CLAIM, user.getEmail())
+                    .withExpiresAt(Instant.now().plus(accessTokenTtl))
+                    .sign(algorithm);
         } catch (JWTCreationException exception){
             throw new RuntimeException("Erro ao gerar token JWT", exception);
         }
@@ -39,34 +81,91 @@ public class TokenService {
 
     public String getSubject(String tokenJWT) {
 
+        return verify(tokenJWT.replace("Bearer ", "")).subject();
+    }
+
+    /**
+     * Monta o usuário autenticado (id, email e perfil) a partir das claims do token, sem consultar o banco.
+     * Tokens emitidos antes das claims de perfil retornam vazio; nesse caso o usuário é carregado pelo subject.
+     */
+    public Optional<User> getUserFromToken(String tokenJWT) {
+
+        VerifiedToken verified = verify(tokenJWT.replace("Bearer ", ""));
+
+        if (verified.role() == null) {
+            return Optional.empty();
+        }
+
+        User user = new User();
+        user.setId(Long.parseLong(verified.subject()));
+        user.setEmail(verified.email());
+        user.setUserRole(verified.role());
+        return Optional.of(user);
+    }
+
+    private VerifiedToken verify(String tokenJWT) {
+
+        String key = hash(tokenJWT);
+
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            var algoritmo = Algorithm.HMAC256(secret);
-            return JWT.require(algoritmo)
-                    .withIssuer("MyBudget-api")
-                    .build()
-                    .verify(tokenJWT.replace("Bearer ", ""))
-                    .getSubject();
+            VerifiedToken verified = VerifiedToken.of(verifier.verify(tokenJWT));
+            verifiedTokens.put(key, verified);
+            return verified;
         } catch (JWTVerificationException exception) {
             throw new RuntimeException("Token JWT inválido ou expirado!");
         }
     }
 
-    public User getUserFromToken(String tokenJWT) {
+    private String hash(String tokenJWT) {
 
         try {
-            String userId = getSubject(tokenJWT);
-            return userRepository.findById(Long.parseLong(userId))
-                    .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-        } catch (JWTVerificationException exception) {
-            throw new RuntimeException("Token JWT inválido ou expirado!");
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(tokenJWT.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
         }
     }
 
-    private Instant dataExpiration() {
+    /**
+     * Apenas as claims usadas pelo SecurityFilter. role é nulo em tokens emitidos antes das claims de perfil.
+     */
+    private record VerifiedToken(String subject, UserRole role, String email, Instant expiresAt) {
+
+        static VerifiedToken of(DecodedJWT decoded) {
 
-        return LocalDateTime
-                .now()
-                .plusHours(2)
-                .toInstant(ZoneOffset.of("-03:00"));
+            Claim role = decoded.getClaim(ROLE_CLAIM);
+            return new VerifiedToken(decoded.getSubject(),
+                    role.isMissing() || role.isNull() ? null : UserRole.valueOf(role.asString()),
+                    decoded.getClaim(EMAIL_CLAIM).asString(),
+                    decoded.getExpiresAtAsInstant());
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+
+            Instant expiresAt = token.expiresAt();
+            if (expiresAt == null) {
+                return 0;
+            }
+            return Math.max(0, Duration.between(Instant.now(), expiresAt).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
\ No newline at end of file
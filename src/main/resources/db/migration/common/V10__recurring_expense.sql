@@ -0,0 +1,19 @@
+-- Modelos de despesas recorrentes (ver RecurringExpenseService). next_date é o ponto de retomada do lançamento;
+-- lease_token e lease_until reservam o modelo para um único nó enquanto suas despesas são geradas.
+CREATE TABLE `tb_recurring_expense` (
+  `id` binary(16) NOT NULL,
+  `user_id` bigint NOT NULL,
+  `description` varchar(255) NOT NULL,
+  `amount` decimal(10,2) NOT NULL,
+  `frequency` enum('WEEKLY','MONTHLY','CRON') NOT NULL,
+  `cron_expression` varchar(100) DEFAULT NULL,
+  `start_date` date NOT NULL,
+  `next_date` date DEFAULT NULL,
+  `lease_token` binary(16) DEFAULT NULL,
+  `lease_until` datetime(6) DEFAULT NULL,
+  `version` bigint NOT NULL DEFAULT 0,
+  PRIMARY KEY (`id`),
+  KEY `idx_recurring_expense_user` (`user_id`, `id`),
+  KEY `idx_recurring_expense_next` (`next_date`, `id`),
+  CONSTRAINT `fk_recurring_expense_user` FOREIGN KEY (`user_id`) REFERENCES `tb_user` (`id`)
+);
\ No newline at end of file
@@ -0,0 +1,20 @@
+-- Arquivamento de despesas pagas antigas (ver ExpenseArchiveService): as linhas saem de tb_expense, deixando as
+-- listagens sobre uma tabela menor, e só são lidas de tb_expense_archive quando o cliente pede o arquivo.
+CREATE TABLE `tb_expense_archive` (
+  `id` binary(16) NOT NULL,
+  `user_id` bigint NOT NULL,
+  `description` varchar(255) NOT NULL,
+  `amount` decimal(10,2) NOT NULL,
+  `date` date NOT NULL,
+  `status` enum('PENDING','PAID') NOT NULL,
+  `created_at` datetime(6) NOT NULL,
+  `updated_at` datetime(6) NOT NULL,
+  `version` bigint NOT NULL DEFAULT 0,
+  `archived_at` datetime(6) NOT NULL,
+  PRIMARY KEY (`id`),
+  KEY `idx_expense_archive_user_date` (`user_id`, `date`, `id`),
+  CONSTRAINT `fk_expense_archive_user` FOREIGN KEY (`user_id`) REFERENCES `tb_user` (`id`)
+);
+
+-- O arquivamento percorre as despesas pagas por data, de todos os usuários.
+CREATE INDEX `idx_expense_status_date` ON `tb_expense` (`status`, `date`, `id`);
\ No newline at end of file
@@ -0,0 +1,10 @@
+-- Busca por descrição (ver ExpenseSearchService): os termos de cada despesa, na ordem da consulta por
+-- (user_id, term). A busca lê apenas os termos do próprio usuário.
+-- As despesas já existentes são indexadas por POST /mybudget/dashboard/expense-search/rebuild.
+CREATE TABLE `tb_expense_search_term` (
+  `user_id` bigint NOT NULL,
+  `term` varchar(64) NOT NULL,
+  `expense_id` binary(16) NOT NULL,
+  PRIMARY KEY (`user_id`, `term`, `expense_id`),
+  KEY `idx_expense_search_term_user_expense` (`user_id`, `expense_id`)
+);
\ No newline at end of file
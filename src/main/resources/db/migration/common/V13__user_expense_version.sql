@@ -0,0 +1,8 @@
+-- Versão das despesas de cada usuário, usada como ETag das listagens (ver ExpenseVersionService). É incrementada
+-- na mesma transação de cada gravação, inclusive as dos agendamentos, e lida pela chave primária.
+CREATE TABLE `tb_user_expense_version` (
+  `user_id` bigint NOT NULL,
+  `version` bigint NOT NULL DEFAULT 0,
+  PRIMARY KEY (`user_id`),
+  CONSTRAINT `fk_user_expense_version_user` FOREIGN KEY (`user_id`) REFERENCES `tb_user` (`id`)
+);
\ No newline at end of file
@@ -0,0 +1,3 @@
+-- A limpeza agendada de refresh tokens (ver RefreshTokenPurgeScheduler) percorre os tokens expirados de todos os
+-- usuários por expires_at; idx_refresh_token_user_expires só atende a consulta de um usuário.
+CREATE INDEX `idx_refresh_token_expires` ON `tb_refresh_token` (`expires_at`, `id`);
\ No newline at end of file
@@ -0,0 +1,21 @@
+CREATE TABLE `tb_user` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `name` varchar(255) NOT NULL,
+  `email` varchar(255) NOT NULL,
+  `password` varchar(255) NOT NULL,
+  `user_role` enum('USER','ADMIN') NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `email` (`email`)
+);
+
+CREATE TABLE `tb_expense` (
+  `id` binary(16) NOT NULL,
+  `description` varchar(255) NOT NULL,
+  `amount` decimal(10,2) NOT NULL,
+  `date` date NOT NULL,
+  `user_id` bigint DEFAULT NULL,
+  `status` enum('PENDING','PAID') NOT NULL DEFAULT 'PENDING',
+  PRIMARY KEY (`id`),
+  KEY `fk_user` (`user_id`),
+  CONSTRAINT `fk_user` FOREIGN KEY (`user_id`) REFERENCES `tb_user` (`id`)
+);
\ No newline at end of file
@@ -0,0 +1,5 @@
+-- Índices compostos no formato das consultas de listagem do ExpenseRepository:
+-- filtro por usuário (e status) e ordenação por (date, id), sem filesort.
+CREATE INDEX `idx_expense_user_date` ON `tb_expense` (`user_id`, `date`, `id`);
+
+CREATE INDEX `idx_expense_user_status_date` ON `tb_expense` (`user_id`, `status`, `date`, `id`);
\ No newline at end of file
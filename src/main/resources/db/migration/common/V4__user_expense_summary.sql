@@ -0,0 +1,18 @@
+-- Totais por usuário, mês e status mantidos junto com cada gravação em tb_expense
+-- (ver UserExpenseSummaryService) e preenchidos aqui a partir das despesas existentes.
+CREATE TABLE `tb_user_expense_summary` (
+  `user_id` bigint NOT NULL,
+  `expense_year` int NOT NULL,
+  `expense_month` int NOT NULL,
+  `status` enum('PENDING','PAID') NOT NULL,
+  `total_amount` decimal(19,2) NOT NULL DEFAULT 0,
+  `expense_count` bigint NOT NULL DEFAULT 0,
+  PRIMARY KEY (`user_id`, `expense_year`, `expense_month`, `status`),
+  CONSTRAINT `fk_summary_user` FOREIGN KEY (`user_id`) REFERENCES `tb_user` (`id`)
+);
+
+INSERT INTO `tb_user_expense_summary` (`user_id`, `expense_year`, `expense_month`, `status`, `total_amount`, `expense_count`)
+SELECT `user_id`, YEAR(`date`), MONTH(`date`), `status`, SUM(`amount`), COUNT(*)
+FROM `tb_expense`
+WHERE `user_id` IS NOT NULL
+GROUP BY `user_id`, YEAR(`date`), MONTH(`date`), `status`;
\ No newline at end of file
@@ -0,0 +1,14 @@
+-- Refresh tokens opacos "<id>.<segredo>": guarda apenas o SHA-256 do segredo. Tokens rotacionados ficam
+-- revogados até expirar, para que a reutilização de um token antigo revogue toda a família (ver RefreshTokenService).
+CREATE TABLE `tb_refresh_token` (
+  `id` binary(16) NOT NULL,
+  `family_id` binary(16) NOT NULL,
+  `user_id` bigint NOT NULL,
+  `secret_hash` binary(32) NOT NULL,
+  `expires_at` datetime(6) NOT NULL,
+  `revoked` boolean NOT NULL DEFAULT false,
+  PRIMARY KEY (`id`),
+  KEY `idx_refresh_token_family` (`family_id`),
+  KEY `idx_refresh_token_user_expires` (`user_id`, `expires_at`),
+  CONSTRAINT `fk_refresh_token_user` FOREIGN KEY (`user_id`) REFERENCES `tb_user` (`id`)
+);
\ No newline at end of file
@@ -0,0 +1,17 @@
+-- Sincronização incremental (ver ExpenseSyncService): horário de criação e da última alteração de cada despesa,
+-- com índice no formato da consulta por (user_id, updated_at, id). Despesas já existentes recebem o horário da migração.
+ALTER TABLE `tb_expense` ADD COLUMN `created_at` datetime(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+ALTER TABLE `tb_expense` ADD COLUMN `updated_at` datetime(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+CREATE INDEX `idx_expense_user_updated` ON `tb_expense` (`user_id`, `updated_at`, `id`);
+
+-- Exclusões continuam removendo a linha de tb_expense; o id excluído fica registrado aqui para os clientes.
+CREATE TABLE `tb_expense_tombstone` (
+  `id` binary(16) NOT NULL,
+  `user_id` bigint NOT NULL,
+  `deleted_at` datetime(6) NOT NULL,
+  PRIMARY KEY (`id`),
+  KEY `idx_expense_tombstone_user_deleted` (`user_id`, `deleted_at`, `id`),
+  CONSTRAINT `fk_expense_tombstone_user` FOREIGN KEY (`user_id`) REFERENCES `tb_user` (`id`)
+);
\ No newline at end of file
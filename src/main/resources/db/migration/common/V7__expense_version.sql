@@ -0,0 +1,2 @@
+-- Versão de cada despesa para o controle de concorrência otimista (@Version e If-Match na atualização).
+ALTER TABLE `tb_expense` ADD COLUMN `version` bigint NOT NULL DEFAULT 0;
\ No newline at end of file
@@ -0,0 +1,3 @@
+-- Filtro por faixa de valor nas listagens (ver ExpenseFilterRepositoryImpl). Período e status continuam
+-- atendidos por idx_expense_user_date e idx_expense_user_status_date.
+CREATE INDEX `idx_expense_user_amount` ON `tb_expense` (`user_id`, `amount`, `id`);
\ No newline at end of file
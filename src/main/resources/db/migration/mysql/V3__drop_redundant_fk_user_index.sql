@@ -0,0 +1,3 @@
+-- idx_expense_user_date começa por user_id e passa a atender a chave estrangeira fk_user,
+-- então o índice de coluna única fk_user só encarecia cada INSERT em tb_expense.
+ALTER TABLE `tb_expense` DROP INDEX `fk_user`;
\ No newline at end of file
@@ -17,7 +17,97 @@ CREATE TABLE `tb_expense` (
   `date` date NOT NULL,
   `user_id` bigint DEFAULT NULL,
   `status` enum('PENDING','PAID') NOT NULL DEFAULT 'PENDING',
+  `created_at` datetime(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+  `updated_at` datetime(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+  `version` bigint NOT NULL DEFAULT 0,
   PRIMARY KEY (`id`),
-  KEY `fk_user` (`user_id`),
+  KEY `idx_expense_user_date` (`user_id`, `date`, `id`),
+  KEY `idx_expense_user_status_date` (`user_id`, `status`, `date`, `id`),
+  KEY `idx_expense_user_updated` (`user_id`, `updated_at`, `id`),
+  KEY `idx_expense_user_amount` (`user_id`, `amount`, `id`),
+  KEY `idx_expense_status_date` (`status`, `date`, `id`),
   CONSTRAINT `fk_user` FOREIGN KEY (`user_id`) REFERENCES `tb_user` (`id`)
+);
+
+CREATE TABLE `tb_user_expense_summary` (
+  `user_id` bigint NOT NULL,
+  `expense_year` int NOT NULL,
+  `expense_month` int NOT NULL,
+  `status` enum('PENDING','PAID') NOT NULL,
+  `total_amount` decimal(19,2) NOT NULL DEFAULT 0,
+  `expense_count` bigint NOT NULL DEFAULT 0,
+  PRIMARY KEY (`user_id`, `expense_year`, `expense_month`, `status`),
+  CONSTRAINT `fk_summary_user` FOREIGN KEY (`user_id`) REFERENCES `tb_user` (`id`)
+);
+
+CREATE TABLE `tb_refresh_token` (
+  `id` binary(16) NOT NULL,
+  `family_id` binary(16) NOT NULL,
+  `user_id` bigint NOT NULL,
+  `secret_hash` binary(32) NOT NULL,
+  `expires_at` datetime(6) NOT NULL,
+  `revoked` boolean NOT NULL DEFAULT false,
+  PRIMARY KEY (`id`),
+  KEY `idx_refresh_token_family` (`family_id`),
+  KEY `idx_refresh_token_user_expires` (`user_id`, `expires_at`),
+  KEY `idx_refresh_token_expires` (`expires_at`, `id`),
+  CONSTRAINT `fk_refresh_token_user` FOREIGN KEY (`user_id`) REFERENCES `tb_user` (`id`)
+);
+
+CREATE TABLE `tb_expense_tombstone` (
+  `id` binary(16) NOT NULL,
+  `user_id` bigint NOT NULL,
+  `deleted_at` datetime(6) NOT NULL,
+  PRIMARY KEY (`id`),
+  KEY `idx_expense_tombstone_user_deleted` (`user_id`, `deleted_at`, `id`),
+  CONSTRAINT `fk_expense_tombstone_user` FOREIGN KEY (`user_id`) REFERENCES `tb_user` (`id`)
+);
+
+CREATE TABLE `tb_expense_search_term` (
+  `user_id` bigint NOT NULL,
+  `term` varchar(64) NOT NULL,
+  `expense_id` binary(16) NOT NULL,
+  PRIMARY KEY (`user_id`, `term`, `expense_id`),
+  KEY `idx_expense_search_term_user_expense` (`user_id`, `expense_id`)
+);
+
+CREATE TABLE `tb_recurring_expense` (
+  `id` binary(16) NOT NULL,
+  `user_id` bigint NOT NULL,
+  `description` varchar(255) NOT NULL,
+  `amount` decimal(10,2) NOT NULL,
+  `frequency` enum('WEEKLY','MONTHLY','CRON') NOT NULL,
+  `cron_expression` varchar(100) DEFAULT NULL,
+  `start_date` date NOT NULL,
+  `next_date` date DEFAULT NULL,
+  `lease_token` binary(16) DEFAULT NULL,
+  `lease_until` datetime(6) DEFAULT NULL,
+  `version` bigint NOT NULL DEFAULT 0,
+  PRIMARY KEY (`id`),
+  KEY `idx_recurring_expense_user` (`user_id`, `id`),
+  KEY `idx_recurring_expense_next` (`next_date`, `id`),
+  CONSTRAINT `fk_recurring_expense_user` FOREIGN KEY (`user_id`) REFERENCES `tb_user` (`id`)
+);
+
+CREATE TABLE `tb_expense_archive` (
+  `id` binary(16) NOT NULL,
+  `user_id` bigint NOT NULL,
+  `description` varchar(255) NOT NULL,
+  `amount` decimal(10,2) NOT NULL,
+  `date` date NOT NULL,
+  `status` enum('PENDING','PAID') NOT NULL,
+  `created_at` datetime(6) NOT NULL,
+  `updated_at` datetime(6) NOT NULL,
+  `version` bigint NOT NULL DEFAULT 0,
+  `archived_at` datetime(6) NOT NULL,
+  PRIMARY KEY (`id`),
+  KEY `idx_expense_archive_user_date` (`user_id`, `date`, `id`),
+  CONSTRAINT `fk_expense_archive_user` FOREIGN KEY (`user_id`) REFERENCES `tb_user` (`id`)
+);
+
+CREATE TABLE `tb_user_expense_version` (
+  `user_id` bigint NOT NULL,
+  `version` bigint NOT NULL DEFAULT 0,
+  PRIMARY KEY (`user_id`),
+  CONSTRAINT `fk_user_expense_version_user` FOREIGN KEY (`user_id`) REFERENCES `tb_user` (`id`)
 );
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.mybudget.benchmark;
+
+import com.mybudget.domain.service.validation.ValidateUserRegister;
+import com.mybudget.infra.exception.UserRegisterException;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regex de e-mail do ValidateUserRegister (validateEmail, privado, chamado por MethodHandle) para um e-mail
+ * válido, um inválido comum e um inválido longo, que força o backtracking da parte local.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailRegexBenchmark {
+
+    @Param({"joao.silva@email.com", "joao.silva@email", "long-invalid"})
+    public String email;
+
+    private ValidateUserRegister validateUserRegister;
+
+    private MethodHandle validateEmail;
+
+    private String input;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+
+        validateUserRegister = new ValidateUserRegister();
+        validateEmail = MethodHandles.privateLookupIn(ValidateUserRegister.class, MethodHandles.lookup())
+                .findVirtual(ValidateUserRegister.class, "validateEmail", MethodType.methodType(boolean.class, String.class));
+
+        input = email.equals("long-invalid") ? "a".repeat(64) + "@" + "b".repeat(64) : email;
+    }
+
+    @Benchmark
+    public boolean validateEmail() throws Throwable {
+        try {
+            return (boolean) validateEmail.invokeExact(validateUserRegister, input);
+        } catch (UserRegisterException e) {
+            return false;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.mybudget.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.expense.Expense;
+import com.mybudget.domain.expense.Status;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeamento ExpenseDto(Expense) e serialização Jackson de List&lt;ExpenseDto&gt; nos tamanhos de página
+ * padrão (50) e máximo (500) da listagem.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpenseDtoBenchmark {
+
+    @Param({"50", "500"})
+    public int size;
+
+    private Expense expense;
+
+    private List<ExpenseDto> expenses;
+
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+
+        expense = new Expense(UUID.randomUUID(), "Compra de supermercado", new BigDecimal("85.50"),
+                LocalDate.of(2024, 8, 7), null, Status.PAID);
+
+        expenses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            expenses.add(new ExpenseDto(UUID.randomUUID(), "Despesa " + i, BigDecimal.valueOf(i, 2),
+                    i % 3 == 0 ? Status.PAID : Status.PENDING, LocalDate.of(2024, 1, 1).plusDays(i % 365)));
+        }
+
+        // Mesma configuração de datas do ObjectMapper do Spring Boot.
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public ExpenseDto mapExpenseDto() {
+        return new ExpenseDto(expense);
+    }
+
+    @Benchmark
+    public byte[] serializeExpenseDtoList() throws Exception {
+        return objectMapper.writeValueAsBytes(expenses);
+    }
+}
\ No newline at end of file
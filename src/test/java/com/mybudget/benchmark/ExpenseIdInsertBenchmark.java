@@ -0,0 +1,169 @@
+package com.mybudget.benchmark;
+
+import com.mybudget.infra.persistence.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a gravação em uma cópia de tb_expense com ids UUID aleatórios (versão 4, estratégia anterior)
+ * e com UUIDv7. Cada operação grava um lote de 1000 despesas; ao final de cada execução é impresso
+ * o total de linhas e o espaço ocupado pela tabela e pelos índices.
+ * <p>
+ * Por padrão usa um H2 em arquivo em target/benchmark. Para medir no MySQL (InnoDB):
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ExpenseIdInsertBenchmark \
+ *     -Dbenchmark.jdbc.url="jdbc:mysql://localhost/mybudget?rewriteBatchedStatements=true" \
+ *     -Dbenchmark.jdbc.username=root -Dbenchmark.jdbc.password=...
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ExpenseIdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String DEFAULT_URL = "jdbc:h2:file:./target/benchmark/mybudget;MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+
+    public enum IdStrategy {
+
+        RANDOM {
+            @Override
+            UUID next() {
+                return UUID.randomUUID();
+            }
+        },
+        UUID_V7 {
+            @Override
+            UUID next() {
+                return UuidV7Generator.next();
+            }
+        };
+
+        abstract UUID next();
+    }
+
+    @Param({"RANDOM", "UUID_V7"})
+    public IdStrategy strategy;
+
+    private Connection connection;
+
+    private PreparedStatement insert;
+
+    private String table;
+
+    private long rows;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+
+        connection = DriverManager.getConnection(property("benchmark.jdbc.url", DEFAULT_URL),
+                property("benchmark.jdbc.username", "sa"),
+                property("benchmark.jdbc.password", ""));
+        connection.setAutoCommit(false);
+
+        table = "tb_expense_bench_" + strategy.name().toLowerCase();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " ("
+                    + "id binary(16) NOT NULL, "
+                    + "description varchar(255) NOT NULL, "
+                    + "amount decimal(10,2) NOT NULL, "
+                    + "date date NOT NULL, "
+                    + "user_id bigint DEFAULT NULL, "
+                    + "status varchar(16) NOT NULL, "
+                    + "PRIMARY KEY (id))");
+            statement.execute("CREATE INDEX idx_" + table + "_user_date ON " + table + " (user_id, date, id)");
+        }
+        connection.commit();
+
+        insert = connection.prepareStatement("INSERT INTO " + table
+                + " (id, description, amount, date, user_id, status) VALUES (?, ?, ?, ?, ?, ?)");
+        rows = 0;
+    }
+
+    @Benchmark
+    public void insertBatch() throws SQLException {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Date today = Date.valueOf(LocalDate.now());
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setBytes(1, bytes(strategy.next()));
+            insert.setString(2, "Despesa");
+            insert.setBigDecimal(3, BigDecimal.TEN);
+            insert.setDate(4, today);
+            insert.setLong(5, random.nextLong(1, 1001));
+            insert.setString(6, "PENDING");
+            insert.addBatch();
+        }
+
+        insert.executeBatch();
+        connection.commit();
+        rows += BATCH_SIZE;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+
+        System.out.printf("%n%s: %d linhas, %s%n", strategy, rows, tableSize());
+
+        insert.close();
+        connection.close();
+    }
+
+    private String tableSize() throws SQLException {
+
+        try (Statement statement = connection.createStatement()) {
+
+            if (connection.getMetaData().getDatabaseProductName().equals("MySQL")) {
+                statement.execute("ANALYZE TABLE " + table);
+                try (ResultSet result = statement.executeQuery("SELECT data_length, index_length "
+                        + "FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = '" + table + "'")) {
+                    result.next();
+                    return "dados " + megabytes(result.getLong(1)) + ", indices " + megabytes(result.getLong(2));
+                }
+            }
+
+            try (ResultSet result = statement.executeQuery("SELECT DISK_SPACE_USED('" + table + "')")) {
+                result.next();
+                return "tabela e indices " + megabytes(result.getLong(1));
+            }
+        }
+    }
+
+    private static String megabytes(long bytes) {
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+
+    private static byte[] bytes(UUID id) {
+
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    private static String property(String name, String defaultValue) {
+
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
\ No newline at end of file
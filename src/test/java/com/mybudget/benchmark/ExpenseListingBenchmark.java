@@ -0,0 +1,66 @@
+package com.mybudget.benchmark;
+
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.expense.Expense;
+import com.mybudget.domain.expense.Status;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipeline em memória que o ExpenseService.getExpenses usava antes da paginação por cursor: carregar todas as
+ * despesas do usuário, ordenar por data e mapear para ExpenseDto. Serve de base de comparação para a listagem
+ * atual, que recebe do banco apenas a página já ordenada e projetada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ExpenseListingBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private List<Expense> expenses;
+
+    @Setup
+    public void setUp() {
+
+        Random random = new Random(42);
+        LocalDate start = LocalDate.of(2015, 1, 1);
+
+        expenses = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            expenses.add(new Expense(UUID.randomUUID(), "Despesa " + i, BigDecimal.valueOf(random.nextInt(100_000), 2),
+                    start.plusDays(random.nextInt(3650)), null, i % 3 == 0 ? Status.PAID : Status.PENDING));
+        }
+        Collections.shuffle(expenses, random);
+    }
+
+    @Benchmark
+    public List<ExpenseDto> legacySortAndMap() {
+
+        List<Expense> expenseList = new ArrayList<>(expenses);
+        expenseList.sort(Comparator.comparing(Expense::getDate));
+
+        return expenseList.stream().map(ExpenseDto::new).toList();
+    }
+
+    @Benchmark
+    public List<ExpenseDto> mapOnly() {
+
+        List<Expense> expenseList = new ArrayList<>(expenses);
+
+        return expenseList.stream().map(ExpenseDto::new).toList();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.mybudget.benchmark;
+
+import com.mybudget.infra.security.SecurityFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SecurityFilter.recoverToken (privado, chamado por MethodHandle) com e sem o header Authorization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityFilterBenchmark {
+
+    private static final String TOKEN = "eyJ0eXAiOiJKV1QiLCJhbGciOiJIUzI1NiJ9"
+            + ".eyJpc3MiOiJNeUJ1ZGdldC1hcGkiLCJzdWIiOiI0MiIsImV4cCI6MTcyNDE3MjAwMH0"
+            + ".3mE6l7n2bV0D1y8kS4JwqZpXc9R5tUa0hGfLeNoYiQs";
+
+    private SecurityFilter securityFilter;
+
+    private MethodHandle recoverToken;
+
+    private HttpServletRequest withToken;
+
+    private HttpServletRequest withoutToken;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+
+        securityFilter = new SecurityFilter();
+        recoverToken = MethodHandles.privateLookupIn(SecurityFilter.class, MethodHandles.lookup())
+                .findVirtual(SecurityFilter.class, "recoverToken", MethodType.methodType(String.class, HttpServletRequest.class));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        withToken = request;
+        withoutToken = new MockHttpServletRequest();
+    }
+
+    @Benchmark
+    public String recoverTokenWithHeader() throws Throwable {
+        return (String) recoverToken.invokeExact(securityFilter, withToken);
+    }
+
+    @Benchmark
+    public String recoverTokenWithoutHeader() throws Throwable {
+        return (String) recoverToken.invokeExact(securityFilter, withoutToken);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.mybudget.benchmark;
+
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.security.TokenService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TokenService.generateToken e getSubject. O getSubject é medido com o token já no cache de tokens verificados
+ * e sem cache (verificação HMAC completa), percorrendo tokens distintos com o cache desligado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    private static final int TOKENS = 1024;
+
+    private TokenService tokenService;
+
+    private TokenService uncachedTokenService;
+
+    private User user;
+
+    private String token;
+
+    private String[] tokens;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+
+        tokenService = tokenService(50_000);
+        uncachedTokenService = tokenService(0);
+
+        user = new User();
+        user.setId(42L);
+
+        token = tokenService.generateToken(user);
+        tokenService.getSubject(token);
+
+        tokens = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            User tokenUser = new User();
+            tokenUser.setId((long) i);
+            tokens[i] = tokenService.generateToken(tokenUser);
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String getSubjectCached() {
+        return tokenService.getSubject(token);
+    }
+
+    @Benchmark
+    public String getSubjectUncached() {
+        next = (next + 1) & (TOKENS - 1);
+        return uncachedTokenService.getSubject(tokens[next]);
+    }
+
+    private static TokenService tokenService(long verifiedTokensMaximumSize) {
+
+        TokenService service = new TokenService();
+        ReflectionTestUtils.setField(service, "secret", "benchmark-secret");
+        ReflectionTestUtils.setField(service, "accessTokenTtl", Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(service, "verifiedTokensMaximumSize", verifiedTokensMaximumSize);
+        service.init();
+        return service;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.mybudget.concurrency;
+
+import com.mybudget.infra.concurrency.AsyncConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(AsyncConfiguration.class, AsyncWork.class)
+            .withPropertyValues("api.async.threads=1", "api.async.queue-capacity=1");
+
+    @Test
+    @DisplayName("Deve executar os métodos @Async no pool limitado")
+    public void testRunsOnAsyncPool() {
+
+        contextRunner.run(context -> {
+            String thread = context.getBean(AsyncWork.class).threadName().get(5, TimeUnit.SECONDS);
+            assertTrue(thread.startsWith("async-"), thread);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve recusar tarefas quando as threads e a fila estão ocupadas")
+    public void testRejectsWhenFull() {
+
+        contextRunner.run(context -> {
+            AsyncWork work = context.getBean(AsyncWork.class);
+            CountDownLatch release = new CountDownLatch(1);
+
+            try {
+                CompletableFuture<Void> running = work.await(release);
+                CompletableFuture<Void> queued = work.await(release);
+
+                assertThrows(TaskRejectedException.class, () -> work.await(release));
+
+                release.countDown();
+                running.get(5, TimeUnit.SECONDS);
+                queued.get(5, TimeUnit.SECONDS);
+            } finally {
+                release.countDown();
+            }
+        });
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    @DisplayName("Deve executar os métodos @Async em threads virtuais com spring.threads.virtual.enabled")
+    public void testRunsOnVirtualThreads() {
+
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+            AsyncWork work = context.getBean(AsyncWork.class);
+
+            assertTrue(work.threadName().get(5, TimeUnit.SECONDS).startsWith("async-"));
+            // Thread.isVirtual() só existe a partir do Java 21; a compilação é para Java 17.
+            String thread = work.thread().get(5, TimeUnit.SECONDS);
+            assertTrue(thread.startsWith("VirtualThread["), thread);
+        });
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    @DisplayName("Não deve subir com spring.threads.virtual.enabled antes do Java 21")
+    public void testVirtualThreadsRequireJava21() {
+
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+            assertNotNull(context.getStartupFailure());
+            assertTrue(context.getStartupFailure().getMessage().contains("exige Java 21"));
+        });
+    }
+
+    static class AsyncWork {
+
+        @Async
+        public CompletableFuture<String> threadName() {
+            return CompletableFuture.completedFuture(Thread.currentThread().getName());
+        }
+
+        @Async
+        public CompletableFuture<String> thread() {
+            return CompletableFuture.completedFuture(Thread.currentThread().toString());
+        }
+
+        @Async
+        public CompletableFuture<Void> await(CountDownLatch release) throws InterruptedException {
+            release.await();
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,151 @@
+package com.mybudget.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mybudget.infra.concurrency.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrencyLimitFilterTest {
+
+    private ConcurrencyLimitFilter filter;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+
+        filter = new ConcurrencyLimitFilter();
+        ReflectionTestUtils.setField(filter, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(filter, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(filter, "maxInFlightRequests", 1);
+        ReflectionTestUtils.setField(filter, "acquireTimeout", Duration.ofMillis(50));
+        filter.init();
+    }
+
+    @Test
+    @DisplayName("Deve recusar com 503 as requisições acima do limite de concorrência")
+    public void testRejectsAboveLimit() throws Exception {
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<MockHttpServletResponse> first = executor.submit(() -> {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                filter.doFilter(request("/mybudget/expense/list-all"), response, (req, res) -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                return response;
+            });
+
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals(1.0, meterRegistry.get(ConcurrencyLimitFilter.IN_FLIGHT_METRIC).gauge().value());
+
+            MockHttpServletResponse rejected = new MockHttpServletResponse();
+            filter.doFilter(request("/mybudget/expense/list-all"), rejected, new MockFilterChain());
+
+            assertEquals(503, rejected.getStatus());
+            assertEquals("1", rejected.getHeader("Retry-After"));
+            assertTrue(rejected.getContentAsString().contains("Servidor ocupado"));
+            assertEquals(1.0, meterRegistry.get(ConcurrencyLimitFilter.REJECTED_METRIC).counter().count());
+
+            release.countDown();
+            assertEquals(200, first.get(5, TimeUnit.SECONDS).getStatus());
+
+            MockHttpServletResponse accepted = new MockHttpServletResponse();
+            filter.doFilter(request("/mybudget/expense/list-all"), accepted, new MockFilterChain());
+            assertEquals(200, accepted.getStatus());
+            assertEquals(0.0, meterRegistry.get(ConcurrencyLimitFilter.IN_FLIGHT_METRIC).gauge().value());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve derivar o limite de requisições do tamanho do pool de conexões")
+    public void testLimitDerivedFromConnectionPool() {
+
+        ConcurrencyLimitFilter derived = new ConcurrencyLimitFilter();
+        ReflectionTestUtils.setField(derived, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(derived, "connectionPoolSize", 20);
+        ReflectionTestUtils.setField(derived, "requestsPerConnection", 2);
+        derived.init();
+
+        assertEquals(40, derived.getMaxInFlightRequests());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de requisições configurado explicitamente")
+    public void testExplicitLimit() {
+
+        ConcurrencyLimitFilter explicit = new ConcurrencyLimitFilter();
+        ReflectionTestUtils.setField(explicit, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(explicit, "maxInFlightRequests", 25);
+        ReflectionTestUtils.setField(explicit, "connectionPoolSize", 20);
+        ReflectionTestUtils.setField(explicit, "requestsPerConnection", 2);
+        explicit.init();
+
+        assertEquals(25, explicit.getMaxInFlightRequests());
+    }
+
+    @Test
+    @DisplayName("Não deve limitar os endpoints do actuator")
+    public void testActuatorNotLimited() throws Exception {
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> {
+                filter.doFilter(request("/mybudget/expense/list-all"), new MockHttpServletResponse(), (req, res) -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                return null;
+            });
+
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            MockHttpServletResponse health = new MockHttpServletResponse();
+            filter.doFilter(request("/actuator/health"), health, new MockFilterChain());
+            assertEquals(200, health.getStatus());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private MockHttpServletRequest request(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.mybudget.controller;
+
+import com.mybudget.domain.user.User;
+import com.mybudget.domain.user.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class DashboardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Deve permitir a conferência dos totais apenas para administradores")
+    public void testCheckExpenseSummary_AdminOnly() throws Exception {
+
+        mockMvc.perform(get("/mybudget/dashboard/expense-summary/check")
+                        .with(authentication(token(UserRole.USER))))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/mybudget/dashboard/expense-summary/check")
+                        .with(authentication(token(UserRole.ADMIN))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+    }
+
+    private UsernamePasswordAuthenticationToken token(UserRole role) {
+
+        User user = new User();
+        user.setId(1L);
+        user.setUserRole(role);
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+}
\ No newline at end of file
@@ -1,12 +1,35 @@
 package com.mybudget.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mybudget.domain.dto.ExpenseChangeDto;
+import com.mybudget.domain.dto.ExpenseDeleteResultDto;
 import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.ExpenseFilterDto;
+import com.mybudget.domain.dto.ExpensePageDto;
+import com.mybudget.domain.dto.ExpenseStatusBatchDto;
+import com.mybudget.domain.dto.ExpenseStatusBatchResultDto;
+import com.mybudget.domain.dto.ExpenseStatusResultDto;
+import com.mybudget.domain.dto.ExpenseSummaryDto;
+import com.mybudget.domain.dto.ExpenseSyncDto;
+import com.mybudget.domain.dto.ExpenseTombstoneDto;
+import com.mybudget.domain.dto.MonthlySummaryDto;
+import com.mybudget.domain.dto.StatusSummaryDto;
 import com.mybudget.domain.dto.UpdateExpenseDto;
+import com.mybudget.domain.dto.VersionedExpenseDto;
+import com.mybudget.domain.expense.DeleteOutcome;
 import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.expense.StatusChangeOutcome;
+import com.mybudget.domain.service.ExpenseArchiveService;
+import com.mybudget.domain.service.ExpenseSearchService;
 import com.mybudget.domain.service.ExpenseService;
-import com.mybudget.infra.security.TokenService;
+import com.mybudget.domain.service.ExpenseSummaryService;
+import com.mybudget.domain.service.ExpenseSyncService;
+import com.mybudget.domain.service.ExpenseVersionService;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.idempotency.IdempotencyService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,27 +37,40 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -48,19 +84,50 @@ public class ExpenseControllerTest {
     private ExpenseService expenseService;
 
     @Mock
-    private TokenService tokenService;
+    private ExpenseSummaryService expenseSummaryService;
+
+    @Mock
+    private ExpenseSyncService expenseSyncService;
+
+    @Mock
+    private ExpenseSearchService expenseSearchService;
+
+    @Mock
+    private ExpenseArchiveService expenseArchiveService;
+
+    @Spy
+    private IdempotencyService idempotencyService = idempotencyService();
+
+    @Mock
+    private ExpenseVersionService expenseVersionService;
 
     @InjectMocks
     private ExpenseController expenseController;
 
     private ObjectMapper objectMapper;
 
+    private User user;
+
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
-        mockMvc = MockMvcBuilders.standaloneSetup(expenseController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(expenseController)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+
+        user = new User();
+        user.setId(1L);
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        lenient().when(expenseVersionService.getETag(user)).thenReturn("\"1\"");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
     }
 
     @Test
@@ -71,7 +138,7 @@ public class ExpenseControllerTest {
 
         ExpenseDto newExpenseDto = new ExpenseDto(UUID.randomUUID(), "description", BigDecimal.valueOf(100.00), Status.PENDING, LocalDate.now());
 
-        when(expenseService.newExpense(anyString(), any(ExpenseDto.class))).thenReturn(newExpenseDto);
+        when(expenseService.newExpense(eq(user), any(ExpenseDto.class))).thenReturn(newExpenseDto);
 
         String jsonContent = objectMapper.writeValueAsString(newExpenseDto);
 
@@ -85,6 +152,80 @@ public class ExpenseControllerTest {
                 .andExpect(jsonPath("$.status").value("PENDING"));
     }
 
+    @Test
+    @DisplayName("Deve devolver a despesa já registrada ao repetir a mesma Idempotency-Key")
+    public void testRegisterExpense_IdempotencyKey() throws Exception {
+
+        ExpenseDto newExpenseDto = new ExpenseDto(UUID.randomUUID(), "description", BigDecimal.valueOf(100.00), Status.PENDING, LocalDate.now());
+
+        when(expenseService.newExpense(eq(user), any(ExpenseDto.class))).thenReturn(newExpenseDto);
+
+        String jsonContent = objectMapper.writeValueAsString(newExpenseDto);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/mybudget/expense/register")
+                        .header(IdempotencyService.HEADER, "chave-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonContent))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyService.REPLAYED_HEADER));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/mybudget/expense/register")
+                        .header(IdempotencyService.HEADER, "chave-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonContent))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyService.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.id").value(newExpenseDto.id().toString()));
+
+        verify(expenseService, times(1)).newExpense(eq(user), any(ExpenseDto.class));
+    }
+
+    @Test
+    @DisplayName("Deve registrar um lote de despesas com sucesso")
+    public void testRegisterExpenses_Success() throws Exception {
+
+        String token = "valid-token";
+
+        List<ExpenseDto> newExpenses = List.of(
+                new ExpenseDto(UUID.randomUUID(), "Mercado", BigDecimal.valueOf(85.50), Status.PENDING, LocalDate.now()),
+                new ExpenseDto(UUID.randomUUID(), "Farmácia", BigDecimal.valueOf(30.00), Status.PENDING, LocalDate.now()));
+
+        when(expenseService.newExpenses(eq(user), anyList())).thenReturn(newExpenses);
+
+        String jsonContent = objectMapper.writeValueAsString(newExpenses);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/mybudget/expense/register/batch")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonContent))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].description").value("Mercado"))
+                .andExpect(jsonPath("$[1].amount").value(30.00));
+    }
+
+    @Test
+    @DisplayName("Deve alterar o status de um lote de despesas e retornar o resultado de cada id")
+    public void testUpdateExpenseStatuses_Success() throws Exception {
+
+        UUID updated = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        ExpenseStatusBatchDto batch = new ExpenseStatusBatchDto(List.of(updated, missing), null, Status.PAID);
+
+        when(expenseService.updateStatuses(user, batch)).thenReturn(new ExpenseStatusBatchResultDto(List.of(
+                new ExpenseStatusResultDto(updated, StatusChangeOutcome.UPDATED, 1L),
+                new ExpenseStatusResultDto(missing, StatusChangeOutcome.NOT_FOUND, null)), false));
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/mybudget/expense/update/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$.results[0].version").value(1))
+                .andExpect(jsonPath("$.results[1].outcome").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
     @Test
     @DisplayName("Deve atualizar uma despesa com sucesso")
     public void testUpdateExpense_Success() throws Exception {
@@ -98,7 +239,8 @@ public class ExpenseControllerTest {
         // - O updatedExpenseDto é a representação da despesa após a atualização ter sido aplicada com sucesso.
         ExpenseDto updatedExpenseDto = new ExpenseDto(id, "new description", BigDecimal.valueOf(150.00), Status.PAID, LocalDate.now());
 
-        when(expenseService.updateExpense(eq("Bearer " + token), eq(id), any(UpdateExpenseDto.class))).thenReturn(updatedExpenseDto);
+        when(expenseService.updateExpense(eq(user), eq(id), any(UpdateExpenseDto.class), isNull()))
+                .thenReturn(new VersionedExpenseDto(updatedExpenseDto, user.getId(), 1));
 
         String jsonContent = new ObjectMapper().writeValueAsString(updateExpenseDto);
 
@@ -109,7 +251,27 @@ public class ExpenseControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.description").value("new description"))
                 .andExpect(jsonPath("$.amount").value(150.00))
-                .andExpect(jsonPath("$.status").value("PAID"));
+                .andExpect(jsonPath("$.status").value("PAID"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+    }
+
+    @Test
+    @DisplayName("Deve repassar a versão do If-Match para a atualização")
+    public void testUpdateExpense_IfMatch() throws Exception {
+
+        UUID id = UUID.randomUUID();
+        UpdateExpenseDto updateExpenseDto = new UpdateExpenseDto(null, null, Status.PAID);
+        ExpenseDto updatedExpenseDto = new ExpenseDto(id, "Aluguel", BigDecimal.valueOf(1500.00), Status.PAID, LocalDate.now());
+
+        when(expenseService.updateExpense(eq(user), eq(id), any(UpdateExpenseDto.class), eq(4L)))
+                .thenReturn(new VersionedExpenseDto(updatedExpenseDto, user.getId(), 5));
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/mybudget/expense/update/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"4\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateExpenseDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
     }
 
     @Test
@@ -123,16 +285,78 @@ public class ExpenseControllerTest {
                 new ExpenseDto(UUID.randomUUID(), "description 2", BigDecimal.valueOf(200.00), Status.PAID, LocalDate.now())
         );
 
-        when(expenseService.getExpenses(eq("Bearer " + token))).thenReturn(expenseList);
+        when(expenseService.getExpenses(eq(user), eq(ExpenseFilterDto.NONE), isNull(), isNull())).thenReturn(new ExpensePageDto(expenseList, null));
 
         mockMvc.perform(get("/mybudget/expense/list-all")
                         .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.size()").value(expenseList.size()))
-                .andExpect(jsonPath("$[0].description").value(expenseList.get(0).description()))
-                .andExpect(jsonPath("$[1].amount").value(expenseList.get(1).amount()))
-                .andExpect(jsonPath("$[0].status").value(expenseList.get(0).status().toString()));
+                .andExpect(jsonPath("$.expenses.size()").value(expenseList.size()))
+                .andExpect(jsonPath("$.expenses[0].description").value(expenseList.get(0).description()))
+                .andExpect(jsonPath("$.expenses[1].amount").value(expenseList.get(1).amount()))
+                .andExpect(jsonPath("$.expenses[0].status").value(expenseList.get(0).status().toString()));
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 sem consultar as despesas quando o If-None-Match corresponde ao ETag atual")
+    public void testGetExpenseList_NotModified() throws Exception {
+
+        when(expenseService.getExpenses(eq(user), eq(ExpenseFilterDto.NONE), isNull(), isNull())).thenReturn(new ExpensePageDto(List.of(), null));
+
+        String eTag = mockMvc.perform(get("/mybudget/expense/list-all"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/mybudget/expense/list-all")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        mockMvc.perform(get("/mybudget/expense/pending")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        verify(expenseService, times(1)).getExpenses(eq(user), eq(ExpenseFilterDto.NONE), isNull(), isNull());
+        verify(expenseService, never()).getExpensesPending(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve listar novamente as despesas quando o ETag enviado é de uma versão anterior")
+    public void testGetExpenseList_ModifiedAfterChange() throws Exception {
+
+        when(expenseService.getExpenses(eq(user), eq(ExpenseFilterDto.NONE), isNull(), isNull())).thenReturn(new ExpensePageDto(List.of(), null));
+
+        when(expenseVersionService.getETag(user)).thenReturn("\"2\"");
+
+        mockMvc.perform(get("/mybudget/expense/list-all")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+
+        verify(expenseService, times(1)).getExpenses(eq(user), eq(ExpenseFilterDto.NONE), isNull(), isNull());
+    }
+
+    @Test
+    @DisplayName("Deve repassar os filtros da listagem para o serviço")
+    public void testGetExpenseList_Filters() throws Exception {
+
+        ExpenseFilterDto filter = new ExpenseFilterDto(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31),
+                new BigDecimal("100"), null, Set.of(Status.PAID, Status.PENDING), "uber");
+        List<ExpenseDto> expenseList = List.of(
+                new ExpenseDto(UUID.randomUUID(), "Uber", BigDecimal.valueOf(120.00), Status.PAID, LocalDate.of(2024, 5, 10)));
+
+        when(expenseService.getExpenses(user, filter, null, null)).thenReturn(new ExpensePageDto(expenseList, null));
+
+        mockMvc.perform(get("/mybudget/expense/list-all")
+                        .param("from", "2024-05-01")
+                        .param("to", "2024-05-31")
+                        .param("minAmount", "100")
+                        .param("status", "PAID", "PENDING")
+                        .param("description", "uber"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.expenses[0].description").value("Uber"));
     }
 
     @Test
@@ -145,16 +369,16 @@ public class ExpenseControllerTest {
         ExpenseDto expense2 = new ExpenseDto(UUID.randomUUID(), "description 2", BigDecimal.valueOf(200.00), Status.PENDING, LocalDate.now());
         List<ExpenseDto> expenseList = Arrays.asList(expense1, expense2);
 
-        when(expenseService.getExpensesPending(anyString())).thenReturn(expenseList);
+        when(expenseService.getExpensesPending(user, ExpenseFilterDto.NONE, null, null)).thenReturn(new ExpensePageDto(expenseList, null));
 
         mockMvc.perform(get("/mybudget/expense/pending")
                         .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.size()").value(expenseList.size()))
-                .andExpect(jsonPath("$[0].description").value(expense1.description()))
-                .andExpect(jsonPath("$[1].amount").value(expense2.amount()))
-                .andExpect(jsonPath("$[0].status").value(expense1.status().toString()));
+                .andExpect(jsonPath("$.expenses.size()").value(expenseList.size()))
+                .andExpect(jsonPath("$.expenses[0].description").value(expense1.description()))
+                .andExpect(jsonPath("$.expenses[1].amount").value(expense2.amount()))
+                .andExpect(jsonPath("$.expenses[0].status").value(expense1.status().toString()));
     }
 
     @Test
@@ -167,16 +391,19 @@ public class ExpenseControllerTest {
         ExpenseDto expense2 = new ExpenseDto(UUID.randomUUID(), "description 2", BigDecimal.valueOf(200.00), Status.PAID, LocalDate.now());
         List<ExpenseDto> expenseList = Arrays.asList(expense1, expense2);
 
-        when(expenseService.getExpensesPaid(anyString())).thenReturn(expenseList);
+        when(expenseService.getExpensesPaid(user, ExpenseFilterDto.NONE, "next", 2)).thenReturn(new ExpensePageDto(expenseList, "cursor"));
 
         mockMvc.perform(get("/mybudget/expense/paid")
+                        .param("cursor", "next")
+                        .param("size", "2")
                         .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.size()").value(expenseList.size()))
-                .andExpect(jsonPath("$[0].description").value(expense1.description()))
-                .andExpect(jsonPath("$[1].amount").value(expense2.amount()))
-                .andExpect(jsonPath("$[0].status").value(expense1.status().toString()));
+                .andExpect(jsonPath("$.expenses.size()").value(expenseList.size()))
+                .andExpect(jsonPath("$.expenses[0].description").value(expense1.description()))
+                .andExpect(jsonPath("$.expenses[1].amount").value(expense2.amount()))
+                .andExpect(jsonPath("$.expenses[0].status").value(expense1.status().toString()))
+                .andExpect(jsonPath("$.nextCursor").value("cursor"));
     }
 
     @Test
@@ -191,7 +418,117 @@ public class ExpenseControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNoContent());
 
-        verify(expenseService).deleteExpense("Bearer " + token, expenseID);
+        verify(expenseService).deleteExpense(user, expenseID);
+    }
+
+    @Test
+    @DisplayName("Deve excluir um lote de despesas e retornar o resultado de cada id")
+    public void testDeleteExpenses_Success() throws Exception {
+
+        UUID paid = UUID.randomUUID();
+        UUID pending = UUID.randomUUID();
+
+        when(expenseService.deleteExpenses(user, List.of(paid, pending))).thenReturn(List.of(
+                new ExpenseDeleteResultDto(paid, DeleteOutcome.DELETED),
+                new ExpenseDeleteResultDto(pending, DeleteOutcome.NOT_PAID)));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/mybudget/expense/delete/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(paid, pending))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].outcome").value("DELETED"))
+                .andExpect(jsonPath("$[1].outcome").value("NOT_PAID"));
+    }
+
+    @Test
+    @DisplayName("Deve listar as despesas arquivadas apenas pelo endpoint do arquivo")
+    public void testGetArchivedExpenseList_Success() throws Exception {
+
+        List<ExpenseDto> archived = List.of(
+                new ExpenseDto(UUID.randomUUID(), "Aluguel", BigDecimal.valueOf(1500.00), Status.PAID, LocalDate.of(2023, 1, 5)));
+
+        when(expenseArchiveService.getArchivedExpenses(user, null, null)).thenReturn(new ExpensePageDto(archived, null));
+
+        mockMvc.perform(get("/mybudget/expense/archived"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.expenses[0].description").value("Aluguel"));
+
+        verify(expenseService, never()).getExpenses(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar despesas pela descrição")
+    public void testSearchExpenses_Success() throws Exception {
+
+        List<ExpenseDto> expenseList = List.of(
+                new ExpenseDto(UUID.randomUUID(), "Uber aeroporto", BigDecimal.valueOf(120.00), Status.PAID, LocalDate.now()));
+
+        when(expenseSearchService.search(user, "uber", null, null)).thenReturn(new ExpensePageDto(expenseList, "proxima"));
+
+        mockMvc.perform(get("/mybudget/expense/search")
+                        .param("q", "uber"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.expenses[0].description").value("Uber aeroporto"))
+                .andExpect(jsonPath("$.nextCursor").value("proxima"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar o resumo das despesas no período informado")
+    public void testGetExpenseSummary_Success() throws Exception {
+
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 31);
+        ExpenseSummaryDto summary = new ExpenseSummaryDto(from, to,
+                List.of(new StatusSummaryDto(Status.PAID, BigDecimal.valueOf(1750.40), 2)),
+                List.of(new MonthlySummaryDto(2024, 1, Status.PAID, BigDecimal.valueOf(1750.40), 2)),
+                List.of());
+
+        when(expenseSummaryService.getSummary(user, from, to, 3)).thenReturn(summary);
+
+        mockMvc.perform(get("/mybudget/expense/summary")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-01-31")
+                        .param("top", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statuses[0].status").value("PAID"))
+                .andExpect(jsonPath("$.statuses[0].total").value(1750.40))
+                .andExpect(jsonPath("$.months[0].month").value(1))
+                .andExpect(jsonPath("$.months[0].count").value(2));
+    }
+
+    @Test
+    @DisplayName("Deve retornar as despesas alteradas e excluídas desde a marca informada")
+    public void testGetExpenseChanges_Success() throws Exception {
+
+        Instant updatedAt = Instant.parse("2024-06-01T10:15:30Z");
+        ExpenseChangeDto changed = new ExpenseChangeDto(UUID.randomUUID(), "Mercado", BigDecimal.valueOf(85.50),
+                Status.PAID, LocalDate.of(2024, 6, 1), updatedAt, updatedAt, 2L);
+        ExpenseTombstoneDto deleted = new ExpenseTombstoneDto(UUID.randomUUID(), updatedAt);
+
+        when(expenseSyncService.getChanges(user, "marca", 100))
+                .thenReturn(new ExpenseSyncDto(List.of(changed), List.of(deleted), "proxima", false));
+
+        mockMvc.perform(get("/mybudget/expense/sync")
+                        .param("since", "marca")
+                        .param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].id").value(changed.id().toString()))
+                .andExpect(jsonPath("$.changed[0].status").value("PAID"))
+                .andExpect(jsonPath("$.changed[0].version").value(2))
+                .andExpect(jsonPath("$.deleted[0].id").value(deleted.id().toString()))
+                .andExpect(jsonPath("$.watermark").value("proxima"))
+                .andExpect(jsonPath("$.hasMore").value(false));
     }
 
+    private static IdempotencyService idempotencyService() {
+
+        IdempotencyService service = new IdempotencyService();
+        ReflectionTestUtils.setField(service, "maximumWeight", DataSize.ofMegabytes(1));
+        ReflectionTestUtils.setField(service, "objectMapper", JsonMapper.builder().findAndAddModules().build());
+        ReflectionTestUtils.setField(service, "expireAfterWrite", Duration.ofHours(1));
+        ReflectionTestUtils.setField(service, "waitTimeout", Duration.ofSeconds(5));
+        service.init();
+        return service;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.mybudget.controller;
+
+import com.mybudget.domain.expense.ExportFormat;
+import com.mybudget.domain.service.ExpenseExportService;
+import com.mybudget.domain.user.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class ExpenseExportControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ExpenseExportService expenseExportService;
+
+    @InjectMocks
+    private ExpenseExportController expenseExportController;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(expenseExportController)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .setControllerAdvice(exceptionHandler())
+                .build();
+
+        user = new User();
+        user.setId(1L);
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private ResourceExceptionHandler exceptionHandler() {
+
+        ResourceExceptionHandler handler = new ResourceExceptionHandler();
+        ReflectionTestUtils.setField(handler, "meterRegistry", new SimpleMeterRegistry());
+        return handler;
+    }
+
+    @Test
+    @DisplayName("Deve exportar as despesas em CSV como anexo")
+    public void testExportExpenses_Csv() throws Exception {
+
+        mockMvc.perform(get("/mybudget/expense/export").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"despesas.csv\""));
+
+        verify(expenseExportService).export(eq(user), eq(ExportFormat.CSV), any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para um formato de exportação desconhecido")
+    public void testExportExpenses_InvalidFormat() throws Exception {
+
+        mockMvc.perform(get("/mybudget/expense/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(expenseExportService);
+    }
+}
\ No newline at end of file
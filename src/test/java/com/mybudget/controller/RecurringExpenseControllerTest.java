@@ -0,0 +1,126 @@
+package com.mybudget.controller;
+
+import com.mybudget.domain.dto.RecurringExpenseDto;
+import com.mybudget.domain.expense.Frequency;
+import com.mybudget.domain.service.RecurringExpenseService;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.exception.InvalidRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class RecurringExpenseControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private RecurringExpenseService recurringExpenseService;
+
+    @InjectMocks
+    private RecurringExpenseController recurringExpenseController;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(recurringExpenseController)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .setControllerAdvice(exceptionHandler())
+                .build();
+
+        user = new User();
+        user.setId(1L);
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private ResourceExceptionHandler exceptionHandler() {
+
+        ResourceExceptionHandler handler = new ResourceExceptionHandler();
+        ReflectionTestUtils.setField(handler, "meterRegistry", new SimpleMeterRegistry());
+        return handler;
+    }
+
+    @Test
+    @DisplayName("Deve registrar uma despesa recorrente")
+    public void testRegisterRecurringExpense_Success() throws Exception {
+
+        RecurringExpenseDto created = new RecurringExpenseDto(UUID.randomUUID(), "Aluguel", new BigDecimal("1500.00"),
+                Frequency.MONTHLY, null, LocalDate.of(2024, 8, 5), LocalDate.of(2024, 8, 5));
+
+        when(recurringExpenseService.newRecurringExpense(eq(user), any(RecurringExpenseDto.class))).thenReturn(created);
+
+        mockMvc.perform(post("/mybudget/expense/recurring/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"description\":\"Aluguel\",\"amount\":1500.00,\"frequency\":\"MONTHLY\",\"startDate\":\"2024-08-05\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.frequency").value("MONTHLY"))
+                .andExpect(jsonPath("$.id").value(created.id().toString()));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para uma expressão cron inválida")
+    public void testRegisterRecurringExpense_InvalidCron() throws Exception {
+
+        when(recurringExpenseService.newRecurringExpense(eq(user), any(RecurringExpenseDto.class)))
+                .thenThrow(new InvalidRequestException("Expressão cron inválida."));
+
+        mockMvc.perform(post("/mybudget/expense/recurring/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"description\":\"Cartão\",\"amount\":800.00,\"frequency\":\"CRON\",\"cron\":\"todo dia 10\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Expressão cron inválida."));
+    }
+
+    @Test
+    @DisplayName("Deve listar e excluir despesas recorrentes do usuário")
+    public void testListAndDeleteRecurringExpense() throws Exception {
+
+        UUID id = UUID.randomUUID();
+        when(recurringExpenseService.getRecurringExpenses(user)).thenReturn(List.of(new RecurringExpenseDto(id, "Academia",
+                new BigDecimal("30.00"), Frequency.WEEKLY, null, LocalDate.of(2024, 8, 1), LocalDate.of(2024, 8, 8))));
+
+        mockMvc.perform(get("/mybudget/expense/recurring/list-all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(id.toString()));
+
+        mockMvc.perform(delete("/mybudget/expense/recurring/delete/{id}", id))
+                .andExpect(status().isNoContent());
+
+        verify(recurringExpenseService).deleteRecurringExpense(user, id);
+    }
+}
\ No newline at end of file
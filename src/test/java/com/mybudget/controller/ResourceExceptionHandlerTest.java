@@ -0,0 +1,77 @@
+package com.mybudget.controller;
+
+import com.mybudget.infra.exception.ErrorResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.JDBCConnectionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.net.ConnectException;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResourceExceptionHandlerTest {
+
+    private ResourceExceptionHandler resourceExceptionHandler;
+
+    @BeforeEach
+    public void setUp() {
+
+        resourceExceptionHandler = new ResourceExceptionHandler();
+        ReflectionTestUtils.setField(resourceExceptionHandler, "meterRegistry", new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Deve responder servidor ocupado com Retry-After quando o pool de conexões esgota o tempo de espera")
+    public void testPoolTimeout() {
+
+        SQLTransientConnectionException timeout = new SQLTransientConnectionException(
+                "HikariPool-1 - Connection is not available, request timed out after 3000ms.");
+
+        ResponseEntity<ErrorResponse> response = resourceExceptionHandler.handleCannotCreateTransactionException(
+                cannotCreateTransaction(timeout));
+
+        assertEquals(503, response.getStatusCode().value());
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+        assertEquals("Servidor ocupado. Tente novamente em instantes.", response.getBody().message());
+    }
+
+    @Test
+    @DisplayName("Não deve sugerir nova tentativa quando o banco recusa conexões")
+    public void testDatabaseUnavailable() {
+
+        SQLTransientConnectionException timeout = new SQLTransientConnectionException(
+                "HikariPool-1 - Connection is not available, request timed out after 3000ms.", "08S01",
+                new SQLNonTransientConnectionException("Communications link failure", new ConnectException("Connection refused")));
+
+        ResponseEntity<ErrorResponse> response = resourceExceptionHandler.handleCannotCreateTransactionException(
+                cannotCreateTransaction(timeout));
+
+        assertEquals(503, response.getStatusCode().value());
+        assertNull(response.getHeaders().getFirst("Retry-After"));
+        assertEquals("Banco de dados indisponível.", response.getBody().message());
+    }
+
+    @Test
+    @DisplayName("Não deve sugerir nova tentativa em outras falhas ao abrir a transação")
+    public void testOtherConnectionFailure() {
+
+        ResponseEntity<ErrorResponse> response = resourceExceptionHandler.handleCannotCreateTransactionException(
+                cannotCreateTransaction(new SQLNonTransientConnectionException("Access denied for user 'root'")));
+
+        assertEquals(503, response.getStatusCode().value());
+        assertNull(response.getHeaders().getFirst("Retry-After"));
+    }
+
+    private CannotCreateTransactionException cannotCreateTransaction(SQLException cause) {
+        return new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                new JDBCConnectionException("Unable to acquire JDBC Connection", cause));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,180 @@
+package com.mybudget.idempotency;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.exception.IdempotencyKeyConflictException;
+import com.mybudget.infra.exception.InvalidRequestException;
+import com.mybudget.infra.idempotency.IdempotencyService;
+import com.mybudget.infra.idempotency.IdempotentResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdempotencyServiceTest {
+
+    private IdempotencyService idempotencyService;
+
+    private User user;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+
+        idempotencyService = new IdempotencyService();
+        ReflectionTestUtils.setField(idempotencyService, "maximumWeight", DataSize.ofKilobytes(10));
+        ReflectionTestUtils.setField(idempotencyService, "objectMapper", JsonMapper.builder().findAndAddModules().build());
+        ReflectionTestUtils.setField(idempotencyService, "expireAfterWrite", Duration.ofHours(1));
+        ReflectionTestUtils.setField(idempotencyService, "waitTimeout", Duration.ofSeconds(5));
+        idempotencyService.init();
+
+        user = new User();
+        user.setId(1L);
+    }
+
+    @Test
+    @DisplayName("Deve devolver o resultado guardado ao repetir a mesma Idempotency-Key")
+    public void testReplay() {
+
+        IdempotentResult<String> first = idempotencyService.execute(user, "register", "chave-1", "despesa", this::run);
+        IdempotentResult<String> second = idempotencyService.execute(user, "register", "chave-1", "despesa", this::run);
+
+        assertEquals("resultado-1", first.value());
+        assertFalse(first.replayed());
+        assertEquals("resultado-1", second.value());
+        assertTrue(second.replayed());
+        assertEquals("true", second.headers().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Deve separar as chaves por usuário e operação e executar sempre quando não houver chave")
+    public void testScopes() {
+
+        User other = new User();
+        other.setId(2L);
+
+        idempotencyService.execute(user, "register", "chave-1", "despesa", this::run);
+        idempotencyService.execute(other, "register", "chave-1", "despesa", this::run);
+        idempotencyService.execute(user, "update", "chave-1", "despesa", this::run);
+        idempotencyService.execute(user, "register", null, "despesa", this::run);
+        idempotencyService.execute(user, "register", null, "despesa", this::run);
+
+        assertEquals(5, executions.get());
+    }
+
+    @Test
+    @DisplayName("Deve recusar a mesma Idempotency-Key com outra requisição")
+    public void testConflict() {
+
+        idempotencyService.execute(user, "register", "chave-1", "despesa", this::run);
+
+        assertThrows(IdempotencyKeyConflictException.class,
+                () -> idempotencyService.execute(user, "register", "chave-1", "outra despesa", this::run));
+        assertThrows(InvalidRequestException.class,
+                () -> idempotencyService.execute(user, "register", " ", "despesa", this::run));
+    }
+
+    @Test
+    @DisplayName("Deve tratar valores iguais com escalas diferentes como a mesma requisição")
+    public void testReplay_SameAmountDifferentScale() {
+
+        idempotencyService.execute(user, "register", "chave-1", new Request("Mercado", new BigDecimal("10.0")), this::run);
+
+        IdempotentResult<String> replay = idempotencyService.execute(user, "register", "chave-1",
+                new Request("Mercado", new BigDecimal("10.00")), this::run);
+
+        assertTrue(replay.replayed());
+        assertThrows(IdempotencyKeyConflictException.class, () -> idempotencyService.execute(user, "register", "chave-1",
+                new Request("Mercado", new BigDecimal("10.01")), this::run));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Deve limitar o armazenamento pelo tamanho das requisições e resultados, não pela quantidade de chaves")
+    public void testWeightLimit() {
+
+        String payload = String.join("", Collections.nCopies(3000, "x"));
+
+        idempotencyService.execute(user, "register-batch", "chave-1", payload, () -> payload);
+        idempotencyService.execute(user, "register-batch", "chave-2", payload, () -> payload);
+        idempotencyService.execute(user, "register", "chave-3", "despesa", this::run);
+        cleanUp();
+
+        assertTrue(entries().estimatedSize() < 3);
+        assertTrue(entries().policy().eviction().orElseThrow().weightedSize().orElseThrow() <= DataSize.ofKilobytes(10).toBytes());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar falhas, permitindo que a requisição seja repetida")
+    public void testFailureNotStored() {
+
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute(user, "register", "chave-1", "despesa",
+                () -> {
+                    throw new IllegalStateException("falha");
+                }));
+
+        assertEquals("resultado-1", idempotencyService.execute(user, "register", "chave-1", "despesa", this::run).value());
+    }
+
+    @Test
+    @DisplayName("Deve executar uma única vez requisições concorrentes com a mesma Idempotency-Key")
+    public void testConcurrentDuplicates() throws Exception {
+
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<IdempotentResult<String>> first = executor.submit(() ->
+                    idempotencyService.execute(user, "register", "chave-1", "despesa", () -> {
+                        running.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return run();
+                    }));
+
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            Future<IdempotentResult<String>> second = executor.submit(() ->
+                    idempotencyService.execute(user, "register", "chave-1", "despesa", this::run));
+
+            release.countDown();
+
+            assertEquals("resultado-1", first.get(5, TimeUnit.SECONDS).value());
+            assertEquals("resultado-1", second.get(5, TimeUnit.SECONDS).value());
+            assertTrue(second.get().replayed());
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Cache<?, ?> entries() {
+        return (Cache<?, ?>) ReflectionTestUtils.getField(idempotencyService, "entries");
+    }
+
+    private void cleanUp() {
+        entries().cleanUp();
+    }
+
+    private String run() {
+        return "resultado-" + executions.incrementAndGet();
+    }
+
+    private record Request(String description, BigDecimal amount) {
+    }
+}
\ No newline at end of file
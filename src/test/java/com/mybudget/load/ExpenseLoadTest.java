@@ -0,0 +1,323 @@
+package com.mybudget.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mybudget.domain.service.UserExpenseSummaryService;
+import com.mybudget.infra.concurrency.ConcurrencyLimitFilter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ActiveProfilesResolver;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Teste de carga ponta a ponta: sobe a aplicação completa em uma porta aleatória sobre o H2 em modo MySQL,
+ * cria N usuários com M despesas cada e executa o {@link LoadGenerator} em outra JVM, com vários clientes
+ * concorrentes fazendo uma mistura de login, registro, listagem, atualização e exclusão de despesas. Ao final
+ * imprime, por endpoint, a vazão e as latências p50, p99 e p999, além da média de statements SQL por requisição
+ * (para detectar N+1), das requisições recusadas com 503 pelo limite de concorrência e do pico de threads de
+ * requisição do Tomcat.
+ * <p>
+ * Fica fora do {@code mvn test}; para executar: {@code mvn test -Pload-test}. Parâmetros (system properties):
+ * load.users, load.expenses-per-user, load.clients, load.duration-seconds, load.max-statements-per-request,
+ * load.think-time-ms (pausa de cada cliente entre requisições), load.jdbc-latency-ms (latência simulada em cada
+ * statement, como a ida e volta até o MySQL) e load.profiles (profiles adicionais, como virtual-threads).
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles(resolver = ExpenseLoadTest.LoadProfilesResolver.class)
+public class ExpenseLoadTest {
+
+    private static final int USERS = Integer.getInteger("load.users", 20);
+
+    private static final int EXPENSES_PER_USER = Integer.getInteger("load.expenses-per-user", 500);
+
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration-seconds", 30));
+
+    private static final double MAX_STATEMENTS_PER_REQUEST = Double.parseDouble(System.getProperty("load.max-statements-per-request", "10"));
+
+    private static final long THINK_TIME_MS = Long.getLong("load.think-time-ms", 0);
+
+    private static final long JDBC_LATENCY_MS = Long.getLong("load.jdbc-latency-ms", 0);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserExpenseSummaryService userExpenseSummaryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    public void setUp() {
+
+        String password = passwordEncoder.encode(LoadGenerator.PASSWORD);
+        for (int i = 1; i <= USERS; i++) {
+            jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (?, ?, ?, ?, 'USER')",
+                    i, "Load " + i, LoadGenerator.email(i), password);
+        }
+
+        // Em lotes pelo JDBC, e não com funções do H2, para que o mesmo teste rode no MySQL (load.profiles=mysql-test).
+        List<Object[]> expenses = new ArrayList<>();
+        for (int user = 1; user <= USERS; user++) {
+            for (int i = 1; i <= EXPENSES_PER_USER; i++) {
+                UUID id = UUID.randomUUID();
+                byte[] bytes = ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+                expenses.add(new Object[]{bytes, "Despesa " + i, LocalDate.now().minusDays(i % 365), user, i % 3 == 0 ? "PAID" : "PENDING"});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tb_expense (id, description, amount, date, user_id, status) VALUES (?, ?, 10.00, ?, ?, ?)",
+                expenses);
+
+        userExpenseSummaryService.rebuild(null);
+    }
+
+    @Test
+    @DisplayName("Carga mista de login, registro, listagem, atualização e exclusão de despesas")
+    public void testMixedWorkload() throws Exception {
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Path output = Path.of("target", "load-generator.json");
+        Files.createDirectories(output.getParent());
+        Files.deleteIfExists(output);
+
+        TomcatThreadSampler sampler = new TomcatThreadSampler();
+        Process generator = new ProcessBuilder(generatorCommand(output)).inheritIO().start();
+        boolean finished = generator.waitFor(DURATION.toSeconds() + 120, TimeUnit.SECONDS);
+        sampler.stop();
+
+        if (!finished) {
+            generator.destroyForcibly();
+        }
+        assertTrue(finished, "O gerador de carga não terminou no prazo");
+        assertEquals(0, generator.exitValue(), "O gerador de carga terminou com erro");
+
+        JsonNode result = objectMapper.readTree(output.toFile());
+        long requests = 0;
+        for (JsonNode stats : result.get("endpoints")) {
+            requests += stats.get("requests").asLong();
+        }
+        double statementsPerRequest = (double) statistics.getPrepareStatementCount() / requests;
+
+        String report = report(result, requests, statementsPerRequest, sampler.peak());
+        System.out.println(report);
+        Files.writeString(Path.of("target", "load-test-report.txt"), report);
+
+        result.get("endpoints").fields().forEachRemaining(endpoint ->
+                assertEquals(0, endpoint.getValue().get("errors").asInt(),
+                        "Erros em " + endpoint.getKey() + ", por status: " + endpoint.getValue().get("errorStatuses")));
+        assertTrue(statementsPerRequest <= MAX_STATEMENTS_PER_REQUEST,
+                "Média de statements SQL por requisição acima do limite: " + statementsPerRequest);
+    }
+
+    /**
+     * Mesma JVM (executável e classpath) do teste, repassando as propriedades load.* e apontando para a porta
+     * desta aplicação.
+     */
+    private List<String> generatorCommand(Path output) {
+
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith("load."))
+                .forEach(name -> command.add("-D" + name + "=" + System.getProperty(name)));
+        command.add("-Dload.base-url=http://localhost:" + port);
+        command.add("-Dload.output=" + output.toAbsolutePath());
+
+        command.add(LoadGenerator.class.getName());
+        return command;
+    }
+
+    private String report(JsonNode result, long requests, double statementsPerRequest, int tomcatThreads) {
+
+        double seconds = result.get("seconds").asDouble();
+        boolean virtualThreads = Runtime.version().feature() >= 21
+                && environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+
+        StringBuilder report = new StringBuilder()
+                .append(String.format("%nCarga: %d usuários x %d despesas, %d clientes em outra JVM, pausa %d ms, latência JDBC %d ms, %.1f s%n",
+                        USERS, EXPENSES_PER_USER, result.get("clients").asInt(), THINK_TIME_MS, JDBC_LATENCY_MS, seconds))
+                .append(String.format("Threads: %s (Java %d), pool de conexões %s, limite de requisições %d%n",
+                        virtualThreads ? "virtuais" : "plataforma", Runtime.version().feature(),
+                        environment.getProperty("spring.datasource.hikari.maximum-pool-size", "10"),
+                        concurrencyLimitFilter.getMaxInFlightRequests()))
+                .append(String.format("%-10s %9s %7s %8s %10s %10s %10s %10s%n",
+                        "endpoint", "requests", "errors", "503", "req/s", "p50 ms", "p99 ms", "p999 ms"));
+
+        result.get("endpoints").fields().forEachRemaining(endpoint -> {
+            JsonNode stats = endpoint.getValue();
+            report.append(String.format(Locale.ROOT, "%-10s %9d %7d %8d %10.1f %10.2f %10.2f %10.2f%n",
+                    endpoint.getKey(), stats.get("requests").asLong(), stats.get("errors").asInt(), stats.get("rejected").asInt(),
+                    stats.get("requests").asLong() / seconds, stats.get("p50").asDouble(), stats.get("p99").asDouble(),
+                    stats.get("p999").asDouble()));
+        });
+
+        return report.append(String.format(Locale.ROOT, "total: %d requests, %.1f req/s, %.2f statements SQL por requisição, pico de %d threads de plataforma no Tomcat%n",
+                requests, requests / seconds, statementsPerRequest, tomcatThreads)).toString();
+    }
+
+    /**
+     * Amostra periodicamente quantas threads de plataforma do Tomcat ({@code http-nio-*-exec-*}) estão vivas.
+     * Com threads virtuais as requisições não aparecem aqui.
+     */
+    private static class TomcatThreadSampler {
+
+        private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        private final AtomicInteger peak = new AtomicInteger();
+
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        TomcatThreadSampler() {
+            scheduler.scheduleAtFixedRate(this::sample, 0, 200, TimeUnit.MILLISECONDS);
+        }
+
+        private void sample() {
+
+            int count = 0;
+            for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds(), 0)) {
+                if (info != null && info.getThreadName().startsWith("http-nio-") && info.getThreadName().contains("-exec-")) {
+                    count++;
+                }
+            }
+            peak.accumulateAndGet(count, Math::max);
+        }
+
+        void stop() {
+            scheduler.shutdownNow();
+        }
+
+        int peak() {
+            return peak.get();
+        }
+    }
+
+    public static class LoadProfilesResolver implements ActiveProfilesResolver {
+
+        @Override
+        public String[] resolve(Class<?> testClass) {
+
+            List<String> profiles = new ArrayList<>(List.of("test"));
+            Arrays.stream(System.getProperty("load.profiles", "").split(","))
+                    .map(String::trim)
+                    .filter(profile -> !profile.isEmpty())
+                    .forEach(profiles::add);
+
+            return profiles.toArray(String[]::new);
+        }
+    }
+
+    /**
+     * Com {@code load.jdbc-latency-ms} acrescenta uma pausa antes de cada execução de statement, segurando a
+     * conexão como faria a ida e volta até um MySQL remoto.
+     */
+    @TestConfiguration
+    static class JdbcLatencyConfiguration {
+
+        @Bean
+        static BeanPostProcessor jdbcLatencyPostProcessor() {
+
+            return new BeanPostProcessor() {
+
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+                    if (JDBC_LATENCY_MS == 0 || !(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+
+                    return new DelegatingDataSource(dataSource) {
+
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return withLatency(Connection.class, super.getConnection());
+                        }
+                    };
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T withLatency(Class<T> type, T target) {
+
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+
+                if (type == Connection.class && Statement.class.isAssignableFrom(method.getReturnType())) {
+                    return withLatency((Class<Object>) method.getReturnType(), invoke(method, target, args));
+                }
+
+                if (type != Connection.class && method.getName().startsWith("execute")) {
+                    Thread.sleep(JDBC_LATENCY_MS);
+                }
+
+                return invoke(method, target, args);
+            });
+        }
+
+        private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,303 @@
+package com.mybudget.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Gerador de carga HTTP do {@link ExpenseLoadTest}, executado em uma JVM própria para que os clientes não disputem
+ * CPU, heap e threads com a aplicação medida. Também pode ser apontado para uma instância já em execução, com os
+ * usuários {@code load<N>@email.com} cadastrados com a senha {@link #PASSWORD}.
+ * <p>
+ * Cada cliente autentica como um dos usuários e sorteia login, registro, listagem, atualização e exclusão de
+ * despesas até o prazo. Ao final grava em {@code load.output} (JSON), por endpoint, a quantidade de requisições,
+ * os erros (com os status recebidos), as respostas 503 e as latências p50, p99 e p999. Parâmetros (system
+ * properties): load.base-url, load.users, load.clients, load.duration-seconds, load.think-time-ms e load.output.
+ */
+public class LoadGenerator {
+
+    public static final String PASSWORD = "load-password";
+
+    public static final List<String> ENDPOINTS = List.of("login", "register", "list-all", "update", "delete");
+
+    private static final String BASE_URL = System.getProperty("load.base-url", "http://localhost:8080");
+
+    private static final int USERS = Integer.getInteger("load.users", 20);
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 16);
+
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration-seconds", 30));
+
+    private static final long THINK_TIME_MS = Long.getLong("load.think-time-ms", 0);
+
+    private static final Path OUTPUT = Path.of(System.getProperty("load.output", "target/load-generator.json"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<Integer, String> initialTokens = new HashMap<>();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        new LoadGenerator().run();
+    }
+
+    public static String email(int user) {
+        return "load" + user + "@email.com";
+    }
+
+    private void run() throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        long deadline = System.nanoTime() + DURATION.toNanos();
+        long start = System.nanoTime();
+
+        List<Future<Map<String, EndpointStats>>> clients = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            int user = i % USERS + 1;
+            clients.add(executor.submit(() -> new Client(user).run(deadline)));
+        }
+
+        Map<String, EndpointStats> total = new LinkedHashMap<>();
+        ENDPOINTS.forEach(endpoint -> total.put(endpoint, new EndpointStats()));
+        for (Future<Map<String, EndpointStats>> client : clients) {
+            client.get().forEach((endpoint, stats) -> total.get(endpoint).merge(stats));
+        }
+        executor.shutdown();
+
+        ObjectNode result = objectMapper.createObjectNode()
+                .put("seconds", (System.nanoTime() - start) / 1e9)
+                .put("clients", CLIENTS)
+                .put("javaVersion", Runtime.version().feature());
+
+        ObjectNode endpoints = result.putObject("endpoints");
+        total.forEach((endpoint, stats) -> {
+            long[] latencies = stats.sortedLatencies();
+            endpoints.putObject(endpoint)
+                    .put("requests", stats.count())
+                    .put("errors", stats.errors)
+                    .put("rejected", stats.rejected)
+                    .putPOJO("errorStatuses", stats.errorStatuses)
+                    .put("p50", percentile(latencies, 0.50))
+                    .put("p99", percentile(latencies, 0.99))
+                    .put("p999", percentile(latencies, 0.999));
+        });
+
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(OUTPUT.toFile(), result);
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1e6;
+    }
+
+    /**
+     * Um cliente HTTP: autentica como o seu usuário e sorteia as operações até o prazo, mantendo as despesas
+     * que registrou para depois atualizá-las (para PAID) e excluí-las.
+     */
+    private class Client {
+
+        private final int user;
+
+        private final Map<String, EndpointStats> stats = new HashMap<>();
+
+        private final Deque<String> pending = new ArrayDeque<>();
+
+        private final Deque<String> paid = new ArrayDeque<>();
+
+        private String token;
+
+        Client(int user) {
+            this.user = user;
+            ENDPOINTS.forEach(endpoint -> stats.put(endpoint, new EndpointStats()));
+        }
+
+        Map<String, EndpointStats> run(long deadline) throws Exception {
+
+            // Clientes do mesmo usuário reaproveitam o primeiro token, para que o início da carga não seja só BCrypt.
+            // Um login recusado (503) é repetido: sem token as demais requisições só contariam 401.
+            synchronized (initialTokens) {
+                token = initialTokens.get(user);
+                while (token == null && System.nanoTime() < deadline) {
+                    login();
+                    if (token == null) {
+                        Thread.sleep(100);
+                    }
+                }
+                initialTokens.put(user, token);
+            }
+
+            while (System.nanoTime() < deadline) {
+
+                int operation = ThreadLocalRandom.current().nextInt(100);
+
+                // 5% login, 20% registro, 45% listagem, 15% atualização e 15% exclusão.
+                if (operation < 5) {
+                    login();
+                } else if (operation < 25) {
+                    register();
+                } else if (operation < 70) {
+                    list();
+                } else if (operation < 85) {
+                    if (pending.isEmpty()) {
+                        register();
+                    } else {
+                        update();
+                    }
+                } else if (paid.isEmpty()) {
+                    list();
+                } else {
+                    delete();
+                }
+
+                if (THINK_TIME_MS > 0) {
+                    Thread.sleep(THINK_TIME_MS);
+                }
+            }
+
+            return stats;
+        }
+
+        private void login() throws Exception {
+
+            HttpResponse<String> response = send("login", 200, HttpRequest.newBuilder(uri("/mybudget/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(body(Map.of("email", email(user), "password", PASSWORD))));
+
+            if (response != null && response.statusCode() == 200) {
+                token = objectMapper.readTree(response.body()).get("token").asText();
+            }
+        }
+
+        private void register() throws Exception {
+
+            HttpResponse<String> response = send("register", 201, authorized("/mybudget/expense/register")
+                    .header("Content-Type", "application/json")
+                    .POST(body(Map.of("amount", 25.90, "description", "Despesa de carga"))));
+
+            if (response != null && response.statusCode() == 201) {
+                pending.push(objectMapper.readTree(response.body()).get("id").asText());
+            }
+        }
+
+        private void list() throws Exception {
+            send("list-all", 200, authorized("/mybudget/expense/list-all?size=50").GET());
+        }
+
+        private void update() throws Exception {
+
+            String id = pending.pop();
+            HttpResponse<String> response = send("update", 200, authorized("/mybudget/expense/update/" + id)
+                    .header("Content-Type", "application/json")
+                    .PUT(body(Map.of("amount", 30.00, "description", "Despesa de carga paga", "status", "PAID"))));
+
+            if (response != null && response.statusCode() == 200) {
+                paid.push(id);
+            }
+        }
+
+        private void delete() throws Exception {
+            send("delete", 204, authorized("/mybudget/expense/delete/" + paid.pop()).DELETE());
+        }
+
+        /**
+         * Envia a requisição e registra latência e status; devolve {@code null} quando ela excede o timeout,
+         * contando-a como erro sem interromper o cliente.
+         */
+        private HttpResponse<String> send(String endpoint, int expectedStatus, HttpRequest.Builder request)
+                throws IOException, InterruptedException {
+
+            long start = System.nanoTime();
+            try {
+                HttpResponse<String> response = httpClient.send(request.timeout(Duration.ofSeconds(30)).build(),
+                        HttpResponse.BodyHandlers.ofString());
+                stats.get(endpoint).record(System.nanoTime() - start, response.statusCode(), expectedStatus);
+
+                return response;
+            } catch (HttpTimeoutException e) {
+                stats.get(endpoint).record(System.nanoTime() - start, 0, expectedStatus);
+                return null;
+            }
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + token);
+        }
+
+        private URI uri(String path) {
+            return URI.create(BASE_URL + path);
+        }
+
+        private HttpRequest.BodyPublisher body(Object value) throws IOException {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(value));
+        }
+    }
+
+    private static class EndpointStats {
+
+        private long[] latencies = new long[1024];
+
+        private int size;
+
+        private int errors;
+
+        private int rejected;
+
+        // Status inesperados e quantidade de cada um; 0 é o timeout do cliente.
+        private final Map<Integer, Integer> errorStatuses = new TreeMap<>();
+
+        void record(long nanos, int status, int expectedStatus) {
+
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+
+            if (status == 503) {
+                rejected++;
+            } else if (status != expectedStatus) {
+                errors++;
+                errorStatuses.merge(status, 1, Integer::sum);
+            }
+        }
+
+        void merge(EndpointStats other) {
+
+            for (int i = 0; i < other.size; i++) {
+                record(other.latencies[i], 200, 200);
+            }
+            errors += other.errors;
+            rejected += other.rejected;
+            other.errorStatuses.forEach((status, count) -> errorStatuses.merge(status, count, Integer::sum));
+        }
+
+        long count() {
+            return size;
+        }
+
+        long[] sortedLatencies() {
+
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
\ No newline at end of file
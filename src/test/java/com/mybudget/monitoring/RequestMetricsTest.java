@@ -0,0 +1,129 @@
+package com.mybudget.monitoring;
+
+import com.mybudget.domain.user.User;
+import com.mybudget.domain.user.UserRole;
+import com.mybudget.infra.monitoring.MonitoringConfiguration;
+import com.mybudget.infra.monitoring.QueryCountFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "api.monitoring.max-queries-per-request=0")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@ExtendWith(OutputCaptureExtension.class)
+public class RequestMetricsTest {
+
+    private static final String LIST_URI = "/mybudget/expense/list-all";
+    private static final String SUMMARY_URI = "/mybudget/expense/summary";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Deve registrar tempo do handler, statements e tempo de JDBC por requisição")
+    public void testRequestMetrics() throws Exception {
+
+        mockMvc.perform(get(SUMMARY_URI).with(authentication(token(UserRole.USER))))
+                .andExpect(status().isOk());
+
+        Timer handlerTimer = meterRegistry.find(MonitoringConfiguration.CONTROLLER_TIMER)
+                .tag("method", "getExpenseSummary")
+                .timer();
+        assertNotNull(handlerTimer);
+        assertTrue(handlerTimer.count() >= 1);
+
+        DistributionSummary queries = meterRegistry.find(QueryCountFilter.QUERIES_METRIC)
+                .tag("uri", SUMMARY_URI)
+                .summary();
+        assertNotNull(queries);
+        assertTrue(queries.totalAmount() >= 1);
+
+        Timer jdbcTime = meterRegistry.find(QueryCountFilter.JDBC_TIME_METRIC)
+                .tag("uri", SUMMARY_URI)
+                .timer();
+        assertNotNull(jdbcTime);
+        assertTrue(jdbcTime.count() >= 1);
+    }
+
+    @Test
+    @DisplayName("Deve registrar em log requisições acima do limite de statements")
+    public void testQueryThresholdWarning(CapturedOutput output) throws Exception {
+
+        mockMvc.perform(get(SUMMARY_URI).with(authentication(token(UserRole.USER))))
+                .andExpect(status().isOk());
+
+        assertTrue(output.getOut().contains("GET " + SUMMARY_URI + " executou"));
+    }
+
+    @Test
+    @DisplayName("Deve contar as exceções tratadas por tipo")
+    public void testExceptionCounter() throws Exception {
+
+        double before = exceptionCount("InvalidRequestException");
+
+        mockMvc.perform(get(LIST_URI).param("cursor", "invalido")
+                        .with(authentication(token(UserRole.USER))))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(before + 1, exceptionCount("InvalidRequestException"));
+    }
+
+    @Test
+    @DisplayName("Deve expor as métricas no actuator apenas para administradores")
+    public void testActuatorMetrics_AdminOnly() throws Exception {
+
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(SUMMARY_URI).with(authentication(token(UserRole.USER))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/metrics/" + QueryCountFilter.QUERIES_METRIC)
+                        .with(authentication(token(UserRole.USER))))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/metrics/" + QueryCountFilter.QUERIES_METRIC)
+                        .with(authentication(token(UserRole.ADMIN))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value(QueryCountFilter.QUERIES_METRIC));
+    }
+
+    private double exceptionCount(String exception) {
+
+        var counter = meterRegistry.find(MonitoringConfiguration.EXCEPTIONS_COUNTER)
+                .tag("exception", exception)
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private UsernamePasswordAuthenticationToken token(UserRole role) {
+
+        User user = new User();
+        user.setId(200L);
+        user.setUserRole(role);
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.mybudget.persistence;
+
+import com.mybudget.infra.persistence.UuidV7Generator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("Deve gerar UUIDs versão 7 com a variante da RFC e o timestamp atual")
+    public void testNext_VersionAndTimestamp() {
+
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7Generator.next();
+        long after = System.currentTimeMillis();
+
+        long timestamp = id.getMostSignificantBits() >>> 16;
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue(timestamp >= before && timestamp <= after + 1);
+    }
+
+    @Test
+    @DisplayName("Deve gerar ids em ordem crescente, inclusive na ordem dos bytes gravados em binary(16)")
+    public void testNext_Ordered() {
+
+        byte[] previous = bytes(UuidV7Generator.next());
+
+        for (int i = 0; i < 100_000; i++) {
+            byte[] current = bytes(UuidV7Generator.next());
+            assertTrue(Arrays.compareUnsigned(previous, current) < 0);
+            previous = current;
+        }
+    }
+
+    private byte[] bytes(UUID id) {
+
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
\ No newline at end of file
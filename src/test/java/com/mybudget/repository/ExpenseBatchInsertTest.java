@@ -0,0 +1,69 @@
+package com.mybudget.repository;
+
+import com.mybudget.domain.expense.Expense;
+import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.repository.ExpenseRepository;
+import com.mybudget.domain.user.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica que o registro em lote grava as despesas com o batch do JDBC (hibernate.jdbc.batch_size = 100),
+ * sem ir ao banco para gerar o id de cada linha.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class ExpenseBatchInsertTest {
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve gravar 250 despesas reaproveitando um único INSERT em lotes")
+    public void testSaveAll_UsesJdbcBatch() {
+
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (1, 'User 1', 'user1@email.com', 'password', 'USER')");
+        User user = entityManager.getReference(User.class, 1L);
+
+        List<Expense> expenses = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            expenses.add(new Expense(null, "Despesa " + i, BigDecimal.TEN, LocalDate.now(), user, Status.PENDING));
+        }
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        expenseRepository.saveAll(expenses);
+        entityManager.flush();
+
+        assertEquals(250, statistics.getEntityInsertCount());
+        // Sem batch seriam 250 statements preparados; em lote o mesmo INSERT é reutilizado nos 3 executeBatch.
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(250, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_expense WHERE user_id = 1", Integer.class));
+        assertEquals(7, expenses.get(0).getId().version());
+        assertTrue(expenses.get(0).getId().compareTo(expenses.get(249).getId()) < 0);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.mybudget.repository;
+
+import com.mybudget.domain.dto.VersionedExpenseDto;
+import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.repository.ExpenseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Executa o UPDATE condicional da atualização de despesas sobre o H2: só altera a linha do dono na versão lida,
+ * mantendo os campos não informados.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class ExpenseConditionalUpdateTest {
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID id;
+
+    @BeforeEach
+    public void setUp() {
+
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (1, 'User 1', 'user1@email.com', 'password', 'USER')");
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (2, 'User 2', 'user2@email.com', 'password', 'USER')");
+
+        id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO tb_expense (id, description, amount, date, user_id, status)
+                VALUES (?, 'Aluguel', 1500.00, DATE '2024-06-01', 1, 'PENDING')""", id);
+    }
+
+    @Test
+    @DisplayName("Deve alterar apenas os campos informados e incrementar a versão")
+    public void testUpdateIfVersion_Success() {
+
+        int updated = expenseRepository.updateIfVersion(id, 1L, 0, null, null, Status.PAID, Instant.now());
+
+        VersionedExpenseDto expense = expenseRepository.findVersionedById(id).orElseThrow();
+        assertEquals(1, updated);
+        assertEquals(1, expense.version());
+        assertEquals(Status.PAID, expense.expense().status());
+        assertEquals("Aluguel", expense.expense().description());
+        assertEquals(0, new BigDecimal("1500.00").compareTo(expense.expense().amount()));
+    }
+
+    @Test
+    @DisplayName("Não deve alterar a despesa em outra versão ou de outro usuário")
+    public void testUpdateIfVersion_Rejected() {
+
+        assertEquals(0, expenseRepository.updateIfVersion(id, 1L, 5, null, "Outra", null, Instant.now()));
+        assertEquals(0, expenseRepository.updateIfVersion(id, 2L, 0, null, "Outra", null, Instant.now()));
+
+        VersionedExpenseDto expense = expenseRepository.findVersionedById(id).orElseThrow();
+        assertEquals(0, expense.version());
+        assertEquals("Aluguel", expense.expense().description());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.mybudget.repository;
+
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.ExpenseFilterDto;
+import com.mybudget.domain.expense.ExpenseCursor;
+import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.repository.ExpenseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class ExpenseFilterQueryTest {
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (1, 'User 1', 'user1@email.com', 'password', 'USER')");
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (2, 'User 2', 'user2@email.com', 'password', 'USER')");
+
+        insert(1L, "Aluguel", "1500.00", "2024-05-05", Status.PAID);
+        insert(1L, "Uber centro", "35.90", "2024-05-10", Status.PAID);
+        insert(1L, "Mercado", "250.40", "2024-05-20", Status.PENDING);
+        insert(1L, "UBER aeroporto", "120.00", "2024-05-25", Status.PENDING);
+        insert(1L, "Desconto 100%", "10.00", "2024-05-28", Status.PAID);
+        insert(1L, "Internet", "99.90", "2024-06-02", Status.PENDING);
+        insert(2L, "Uber outro usuário", "150.00", "2024-05-15", Status.PAID);
+    }
+
+    @Test
+    @DisplayName("Deve combinar período, valor mínimo e status na ordem (date, id)")
+    public void testFindFilteredPage_Combined() {
+
+        ExpenseFilterDto filter = new ExpenseFilterDto(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31),
+                new BigDecimal("100.00"), null, Set.of(Status.PENDING), null);
+
+        assertEquals(List.of("Mercado", "UBER aeroporto"), descriptions(filter, null));
+    }
+
+    @Test
+    @DisplayName("Deve buscar o trecho da descrição sem diferenciar maiúsculas e tratando % e _ como texto")
+    public void testFindFilteredPage_Description() {
+
+        assertEquals(List.of("Uber centro", "UBER aeroporto"),
+                descriptions(new ExpenseFilterDto(null, null, null, null, null, "uber"), null));
+        assertEquals(List.of("Desconto 100%"),
+                descriptions(new ExpenseFilterDto(null, null, null, null, null, "0%"), null));
+        assertEquals(List.of(),
+                descriptions(new ExpenseFilterDto(null, null, null, null, null, "_"), null));
+    }
+
+    @Test
+    @DisplayName("Deve continuar a listagem filtrada a partir do cursor")
+    public void testFindFilteredPage_AfterCursor() {
+
+        ExpenseFilterDto filter = new ExpenseFilterDto(null, null, new BigDecimal("50.00"), new BigDecimal("300.00"),
+                Set.of(Status.PAID, Status.PENDING), null);
+
+        List<ExpenseDto> first = expenseRepository.findFilteredPage(1L, filter, null, Limit.of(2));
+
+        assertEquals(List.of("Mercado", "UBER aeroporto"), first.stream().map(ExpenseDto::description).toList());
+        assertEquals(List.of("Internet"), descriptions(filter, ExpenseCursor.of(first.get(1))));
+    }
+
+    private List<String> descriptions(ExpenseFilterDto filter, ExpenseCursor after) {
+
+        return expenseRepository.findFilteredPage(1L, filter, after, Limit.of(50)).stream()
+                .map(ExpenseDto::description)
+                .toList();
+    }
+
+    private void insert(Long userId, String description, String amount, String date, Status status) {
+
+        jdbcTemplate.update("INSERT INTO tb_expense (id, description, amount, date, user_id, status) VALUES (?, ?, ?, ?, ?, ?)",
+                UUID.randomUUID(), description, new BigDecimal(amount), LocalDate.parse(date), userId, status.name());
+    }
+}
\ No newline at end of file
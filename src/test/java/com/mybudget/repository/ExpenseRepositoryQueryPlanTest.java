@@ -0,0 +1,188 @@
+package com.mybudget.repository;
+
+import com.mybudget.domain.dto.ExpenseFilterDto;
+import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.repository.ExpenseRepository;
+import com.mybudget.domain.repository.ExpenseTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Executa EXPLAIN (H2 em modo MySQL) sobre o SQL gerado pelas consultas de listagem e verifica
+ * que elas percorrem os índices compostos de tb_expense já na ordem (date, id), sem ordenação extra.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.mybudget.repository.SqlCapture")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class ExpenseRepositoryQueryPlanTest {
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private ExpenseTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+
+        // No MySQL a fk_user é atendida por idx_expense_user_date (V3). O H2 sempre cria um índice próprio
+        // de coluna única para a chave estrangeira, então ela é removida aqui para reproduzir os índices do MySQL.
+        jdbcTemplate.execute("ALTER TABLE tb_expense DROP CONSTRAINT IF EXISTS fk_user");
+        jdbcTemplate.execute("DROP INDEX IF EXISTS fk_user");
+        jdbcTemplate.execute("ALTER TABLE tb_expense_tombstone DROP CONSTRAINT IF EXISTS fk_expense_tombstone_user");
+
+        jdbcTemplate.update("DELETE FROM tb_expense");
+        jdbcTemplate.update("DELETE FROM tb_expense_tombstone");
+        jdbcTemplate.update("DELETE FROM tb_user");
+
+        for (long id = 1; id <= 20; id++) {
+            jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (?, ?, ?, ?, 'USER')",
+                    id, "User " + id, "user" + id + "@email.com", "password");
+        }
+
+        jdbcTemplate.update("""
+                INSERT INTO tb_expense (id, description, amount, date, user_id, status)
+                SELECT CAST(RANDOM_UUID() AS BINARY(16)), CONCAT('Despesa ', "X"), MOD("X", 500) + 0.25,
+                       DATEADD('DAY', MOD("X", 365), DATE '2024-01-01'), MOD("X", 20) + 1,
+                       CASE WHEN MOD("X", 3) = 0 THEN 'PAID' ELSE 'PENDING' END
+                FROM SYSTEM_RANGE(1, 5000)""");
+        jdbcTemplate.update("""
+                UPDATE tb_expense SET updated_at = DATEADD('SECOND', MOD(CAST(RAND() * 1000000 AS INT), 86400), TIMESTAMP '2024-06-01 00:00:00')""");
+        jdbcTemplate.update("""
+                INSERT INTO tb_expense_tombstone (id, user_id, deleted_at)
+                SELECT CAST(RANDOM_UUID() AS BINARY(16)), MOD("X", 20) + 1, DATEADD('SECOND', "X", TIMESTAMP '2024-06-01 00:00:00')
+                FROM SYSTEM_RANGE(1, 2000)""");
+        jdbcTemplate.execute("ANALYZE");
+
+        SqlCapture.clear();
+    }
+
+    @Test
+    @DisplayName("A listagem de todas as despesas deve usar o índice (user_id, date, id) já ordenado")
+    public void testFindPageByUserInvolved_UsesIndex() {
+
+        expenseRepository.findPageByUserInvolved(1L, Limit.of(50));
+        String plan = explain(SqlCapture.first(), 1L, 50);
+
+        assertIndexSorted(plan, "idx_expense_user_date");
+    }
+
+    @Test
+    @DisplayName("A página seguinte ao cursor deve usar o índice (user_id, date, id) já ordenado")
+    public void testFindPageByUserInvolvedAfter_UsesIndex() {
+
+        LocalDate date = LocalDate.of(2024, 6, 1);
+        UUID id = UUID.randomUUID();
+
+        expenseRepository.findPageByUserInvolvedAfter(1L, date, id, Limit.of(50));
+        String plan = explain(SqlCapture.first(), 1L, date, date, id, 50);
+
+        assertIndexSorted(plan, "idx_expense_user_date");
+    }
+
+    @Test
+    @DisplayName("A listagem por status deve usar o índice (user_id, status, date, id) já ordenado")
+    public void testFindPageByUserInvolvedAndStatus_UsesIndex() {
+
+        expenseRepository.findPageByUserInvolvedAndStatus(1L, Status.PENDING, Limit.of(50));
+        String plan = explain(SqlCapture.first(), 1L, Status.PENDING.name(), 50);
+
+        assertIndexSorted(plan, "idx_expense_user_status_date");
+    }
+
+    @Test
+    @DisplayName("A página seguinte ao cursor por status deve usar o índice (user_id, status, date, id) já ordenado")
+    public void testFindPageByUserInvolvedAndStatusAfter_UsesIndex() {
+
+        LocalDate date = LocalDate.of(2024, 6, 1);
+        UUID id = UUID.randomUUID();
+
+        expenseRepository.findPageByUserInvolvedAndStatusAfter(1L, Status.PAID, date, id, Limit.of(50));
+        String plan = explain(SqlCapture.first(), 1L, Status.PAID.name(), date, date, id, 50);
+
+        assertIndexSorted(plan, "idx_expense_user_status_date");
+    }
+
+    @Test
+    @DisplayName("A listagem filtrada por período e valor deve percorrer o índice (user_id, date, id) já ordenado")
+    public void testFindFilteredPage_DateRange_UsesIndex() {
+
+        LocalDate from = LocalDate.of(2024, 5, 1);
+        LocalDate to = LocalDate.of(2024, 5, 31);
+        BigDecimal minAmount = new BigDecimal("100.00");
+
+        expenseRepository.findFilteredPage(1L, new ExpenseFilterDto(from, to, minAmount, null, null, null), null, Limit.of(50));
+        String plan = explain(SqlCapture.first(), 1L, from, to, minAmount, 50);
+
+        assertIndexSorted(plan, "idx_expense_user_date");
+    }
+
+    @Test
+    @DisplayName("A listagem filtrada apenas por faixa de valor deve usar o índice (user_id, amount, id)")
+    public void testFindFilteredPage_AmountRange_UsesIndex() {
+
+        BigDecimal minAmount = new BigDecimal("10.00");
+        BigDecimal maxAmount = new BigDecimal("10.50");
+
+        expenseRepository.findFilteredPage(1L, new ExpenseFilterDto(null, null, minAmount, maxAmount, null, null), null, Limit.of(50));
+        String plan = explain(SqlCapture.first(), 1L, minAmount, maxAmount, 50);
+
+        assertTrue(plan.contains("idx_expense_user_amount"), "Índice idx_expense_user_amount não utilizado: " + plan);
+    }
+
+    @Test
+    @DisplayName("A sincronização deve percorrer o índice (user_id, updated_at, id) já ordenado")
+    public void testFindChangedSince_UsesIndex() {
+
+        Instant at = Instant.parse("2024-06-01T06:00:00Z");
+        Instant until = Instant.parse("2024-06-01T12:00:00Z");
+        UUID id = UUID.randomUUID();
+
+        expenseRepository.findChangedSince(1L, at, id, until, Limit.of(50));
+        String plan = explain(SqlCapture.first(), 1L, at, at, id, until, 50);
+
+        assertIndexSorted(plan, "idx_expense_user_updated");
+    }
+
+    @Test
+    @DisplayName("As exclusões da sincronização devem percorrer o índice (user_id, deleted_at, id) já ordenado")
+    public void testFindDeletedSince_UsesIndex() {
+
+        Instant at = Instant.parse("2024-06-01T00:10:00Z");
+        Instant until = Instant.parse("2024-06-01T00:20:00Z");
+        UUID id = UUID.randomUUID();
+
+        tombstoneRepository.findDeletedSince(1L, at, id, until, Limit.of(50));
+        String plan = explain(SqlCapture.first(), 1L, at, at, id, until, 50);
+
+        assertIndexSorted(plan, "idx_expense_tombstone_user_deleted");
+    }
+
+    private String explain(String sql, Object... parameters) {
+
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+    }
+
+    private void assertIndexSorted(String plan, String index) {
+
+        assertTrue(plan.contains(index), "Índice " + index + " não utilizado: " + plan);
+        assertTrue(plan.contains("index sorted"), "Consulta exige ordenação fora do índice: " + plan);
+    }
+}
\ No newline at end of file
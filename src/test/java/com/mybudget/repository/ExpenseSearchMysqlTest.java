@@ -0,0 +1,15 @@
+package com.mybudget.repository;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Os casos de {@link ExpenseSearchQueryTest} sobre o MySQL, onde a consulta nativa devolve os ids binary(16) como
+ * bytes. Fica fora do {@code mvn test}; para executar, aponte para um banco vazio:
+ * {@code mvn test -Pmysql-test -Dmysql.url=jdbc:mysql://localhost:3306/mybudget_test [-Dmysql.username= -Dmysql.password=]}.
+ * As migrações de db/migration/common e db/migration/mysql são aplicadas pelo Flyway e cada teste é desfeito ao final.
+ */
+@Tag("mysql")
+@ActiveProfiles({"test", "mysql-test"})
+public class ExpenseSearchMysqlTest extends ExpenseSearchQueryTest {
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.mybudget.repository;
+
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.ExpensePageDto;
+import com.mybudget.domain.dto.ExpenseSearchRebuildDto;
+import com.mybudget.domain.expense.ExpenseChangedEvent;
+import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.service.ExpenseSearchService;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.exception.ExpenseNotFoundException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Executa a busca sobre o H2: a consulta nativa em tb_expense_search_term, a conversão dos ids binary(16) e a
+ * ordem por relevância. {@link ExpenseSearchMysqlTest} repete os mesmos casos no MySQL.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(ExpenseSearchService.class)
+public class ExpenseSearchQueryTest {
+
+    @Autowired
+    private ExpenseSearchService expenseSearchService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (1, 'User 1', 'user1@email.com', 'password', 'USER')");
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (2, 'User 2', 'user2@email.com', 'password', 'USER')");
+
+        user = new User();
+        user.setId(1L);
+    }
+
+    @Test
+    @DisplayName("Deve ordenar pela quantidade de termos encontrados e depois pela data, só com despesas do usuário")
+    public void testSearch_RelevanceOrder() {
+
+        UUID older = insertExpense(1L, "Uber aeroporto", LocalDate.of(2024, 5, 2));
+        UUID both = insertExpense(1L, "Uber Eats almoço", LocalDate.of(2024, 5, 1));
+        UUID newer = insertExpense(1L, "Uber centro", LocalDate.of(2024, 5, 20));
+        insertExpense(1L, "Mercado", LocalDate.of(2024, 5, 21));
+        insertExpense(2L, "Uber Eats jantar", LocalDate.of(2024, 5, 22));
+
+        ExpenseSearchRebuildDto rebuild = expenseSearchService.rebuild(null);
+        assertEquals(5, rebuild.expenses());
+        assertEquals(11, rebuild.terms());
+
+        ExpensePageDto result = expenseSearchService.search(user, "uber eats", null, null);
+
+        assertEquals(List.of(both, newer, older), result.expenses().stream().map(ExpenseDto::id).toList());
+        assertEquals(new ExpenseDto(both, "Uber Eats almoço", new BigDecimal("18.90"), Status.PAID, LocalDate.of(2024, 5, 1)),
+                result.expenses().get(0));
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve paginar os resultados pela posição")
+    public void testSearch_Pages() {
+
+        UUID first = insertExpense(1L, "Farmácia", LocalDate.of(2024, 5, 3));
+        UUID second = insertExpense(1L, "Farmacia remédios", LocalDate.of(2024, 5, 2));
+        expenseSearchService.rebuild(1L);
+
+        ExpensePageDto page = expenseSearchService.search(user, "FARMÁCIA", null, 1);
+        assertEquals(List.of(first), page.expenses().stream().map(ExpenseDto::id).toList());
+
+        page = expenseSearchService.search(user, "farmacia", page.nextCursor(), 1);
+        assertEquals(List.of(second), page.expenses().stream().map(ExpenseDto::id).toList());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve trocar os termos da despesa quando a descrição mudar e removê-los quando ela for excluída")
+    public void testOnExpenseChanged_UpdatesIndex() {
+
+        UUID id = insertExpense(1L, "Uber", LocalDate.of(2024, 5, 3));
+        expenseSearchService.rebuild(1L);
+
+        ExpenseDto before = new ExpenseDto(id, "Uber", new BigDecimal("18.90"), Status.PAID, LocalDate.of(2024, 5, 3));
+        ExpenseDto after = new ExpenseDto(id, "Táxi", new BigDecimal("18.90"), Status.PAID, LocalDate.of(2024, 5, 3));
+        jdbcTemplate.update("UPDATE tb_expense SET description = 'Táxi' WHERE id = ?", bytes(id));
+        expenseSearchService.onExpenseChanged(ExpenseChangedEvent.updated(1L, before, after));
+        entityManager.flush();
+
+        assertThrows(ExpenseNotFoundException.class, () -> expenseSearchService.search(user, "uber", null, null));
+        assertEquals(List.of(after), expenseSearchService.search(user, "taxi", null, null).expenses());
+
+        expenseSearchService.onExpenseChanged(ExpenseChangedEvent.deleted(1L, after));
+        entityManager.flush();
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_expense_search_term", Integer.class));
+    }
+
+    // Bytes na ordem em que o Hibernate grava o UUID em binary(16), aceitos pelo H2 e pelo MySQL.
+    private UUID insertExpense(Long userId, String description, LocalDate date) {
+
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO tb_expense (id, description, amount, date, user_id, status)
+                VALUES (?, ?, 18.90, ?, ?, 'PAID')""",
+                bytes(id), description, date, userId);
+        return id;
+    }
+
+    private static byte[] bytes(UUID id) {
+
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.mybudget.repository;
+
+import com.mybudget.domain.dto.VersionedExpenseDto;
+import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.repository.ExpenseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Executa as consultas da alteração de status em lote sobre o H2: a leitura bloqueia apenas as despesas do
+ * usuário e a alteração é um único UPDATE para todos os ids.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.mybudget.repository.SqlCapture")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class ExpenseStatusBatchQueryTest {
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID rent;
+
+    private UUID internet;
+
+    private UUID market;
+
+    private UUID otherUser;
+
+    @BeforeEach
+    public void setUp() {
+
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (1, 'User 1', 'user1@email.com', 'password', 'USER')");
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (2, 'User 2', 'user2@email.com', 'password', 'USER')");
+
+        rent = insert(1, "Aluguel", "2024-06-01", Status.PENDING);
+        internet = insert(1, "Internet", "2024-06-10", Status.PENDING);
+        market = insert(1, "Mercado", "2024-05-20", Status.PAID);
+        otherUser = insert(2, "Aluguel", "2024-06-01", Status.PENDING);
+    }
+
+    @Test
+    @DisplayName("Deve ler com bloqueio apenas as despesas do usuário entre os ids informados")
+    public void testFindForUpdate_OnlyUserExpenses() {
+
+        SqlCapture.clear();
+        List<VersionedExpenseDto> found = expenseRepository.findForUpdate(1L, List.of(rent, market, otherUser));
+
+        assertEquals(2, found.size());
+        assertTrue(found.stream().allMatch(expense -> expense.userId() == 1L));
+        assertTrue(SqlCapture.first().toLowerCase().contains("for update"));
+    }
+
+    @Test
+    @DisplayName("Deve selecionar as despesas com outro status e data anterior à data limite")
+    public void testFindForStatusChangeBefore() {
+
+        List<VersionedExpenseDto> found = expenseRepository.findForStatusChangeBefore(1L, Status.PAID,
+                LocalDate.parse("2024-06-05"), Limit.of(10));
+
+        assertEquals(List.of(rent), found.stream().map(expense -> expense.expense().id()).toList());
+    }
+
+    @Test
+    @DisplayName("Deve alterar o status e incrementar a versão de todas as despesas em um único UPDATE")
+    public void testUpdateStatus_SingleStatement() {
+
+        SqlCapture.clear();
+        int updated = expenseRepository.updateStatus(1L, List.of(rent, internet, otherUser), Status.PAID, Instant.now());
+
+        assertEquals(2, updated);
+        assertTrue(SqlCapture.first().toLowerCase().startsWith("update"));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tb_expense WHERE user_id = 1 AND status = 'PAID' AND version = 1", Integer.class));
+        assertEquals("PENDING", jdbcTemplate.queryForObject("SELECT status FROM tb_expense WHERE id = ?", String.class, otherUser));
+    }
+
+    private UUID insert(long userId, String description, String date, Status status) {
+
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO tb_expense (id, description, amount, date, user_id, status) VALUES (?, ?, 100.00, ?, ?, ?)",
+                id, description, LocalDate.parse(date), userId, status.name());
+        return id;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.mybudget.repository;
+
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.MonthlySummaryDto;
+import com.mybudget.domain.dto.StatusSummaryDto;
+import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.repository.ExpenseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class ExpenseSummaryQueryTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+
+    private static final LocalDate TO = LocalDate.of(2024, 12, 31);
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (1, 'User 1', 'user1@email.com', 'password', 'USER')");
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (2, 'User 2', 'user2@email.com', 'password', 'USER')");
+
+        insert(1L, "Aluguel", "1500.00", "2024-01-05", Status.PAID);
+        insert(1L, "Mercado", "250.40", "2024-01-20", Status.PAID);
+        insert(1L, "Internet", "99.90", "2024-01-25", Status.PENDING);
+        insert(1L, "Farmácia", "45.10", "2024-02-02", Status.PENDING);
+        insert(1L, "Viagem", "3000.00", "2023-12-30", Status.PAID);
+        insert(2L, "Outro usuário", "999.99", "2024-01-10", Status.PENDING);
+    }
+
+    @Test
+    @DisplayName("Deve somar as despesas do usuário por mês e status dentro do período")
+    public void testSummarizeByMonth() {
+
+        List<MonthlySummaryDto> months = expenseRepository.summarizeByMonth(1L, FROM, TO);
+
+        assertEquals(List.of(
+                new MonthlySummaryDto(2024, 1, Status.PENDING, new BigDecimal("99.90"), 1),
+                new MonthlySummaryDto(2024, 1, Status.PAID, new BigDecimal("1750.40"), 2),
+                new MonthlySummaryDto(2024, 2, Status.PENDING, new BigDecimal("45.10"), 1)), months);
+    }
+
+    @Test
+    @DisplayName("Deve somar as despesas pendentes e pagas do usuário dentro do período")
+    public void testSummarizeByStatus() {
+
+        List<StatusSummaryDto> statuses = expenseRepository.summarizeByStatus(1L, FROM, TO);
+
+        assertEquals(List.of(
+                new StatusSummaryDto(Status.PENDING, new BigDecimal("145.00"), 2),
+                new StatusSummaryDto(Status.PAID, new BigDecimal("1750.40"), 2)), statuses);
+    }
+
+    @Test
+    @DisplayName("Deve retornar as maiores despesas do usuário dentro do período")
+    public void testFindTopByAmount() {
+
+        List<ExpenseDto> top = expenseRepository.findTopByAmount(1L, FROM, TO, Limit.of(2));
+
+        assertEquals(2, top.size());
+        assertEquals("Aluguel", top.get(0).description());
+        assertEquals("Mercado", top.get(1).description());
+    }
+
+    private void insert(Long user, String description, String amount, String date, Status status) {
+
+        jdbcTemplate.update("""
+                INSERT INTO tb_expense (id, description, amount, date, user_id, status)
+                VALUES (CAST(RANDOM_UUID() AS BINARY(16)), ?, ?, ?, ?, ?)""",
+                description, new BigDecimal(amount), LocalDate.parse(date), user, status.name());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.mybudget.repository;
+
+import com.mybudget.domain.dto.ExpenseSyncDto;
+import com.mybudget.domain.expense.Expense;
+import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.expense.SyncWatermark;
+import com.mybudget.domain.repository.ExpenseRepository;
+import com.mybudget.domain.service.ExpenseSyncService;
+import com.mybudget.domain.user.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Executa a sincronização sobre o H2: as consultas de tb_expense e tb_expense_tombstone intercaladas por
+ * (changedAt, id) e a marca devolvida a cada página.
+ */
+@DataJpaTest(properties = "api.sync.commit-lag=0s")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(ExpenseSyncService.class)
+public class ExpenseSyncQueryTest {
+
+    private static final Instant T0 = Instant.parse("2024-06-01T00:00:00Z");
+
+    @Autowired
+    private ExpenseSyncService expenseSyncService;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (1, 'User 1', 'user1@email.com', 'password', 'USER')");
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (2, 'User 2', 'user2@email.com', 'password', 'USER')");
+
+        user = new User();
+        user.setId(1L);
+    }
+
+    @Test
+    @DisplayName("Deve entregar alterações e exclusões em ordem, página a página, até a marca alcançar o presente")
+    public void testGetChanges_Pages() {
+
+        UUID first = insertExpense(1L, T0.plusSeconds(1));
+        UUID second = insertExpense(1L, T0.plusSeconds(2));
+        UUID deleted = insertTombstone(1L, T0.plusSeconds(3));
+        UUID third = insertExpense(1L, T0.plusSeconds(4));
+        insertExpense(2L, T0.plusSeconds(2));
+
+        ExpenseSyncDto page = expenseSyncService.getChanges(user, null, 2);
+
+        assertEquals(List.of(first, second), page.changed().stream().map(change -> change.id()).toList());
+        assertTrue(page.deleted().isEmpty());
+        assertTrue(page.hasMore());
+
+        page = expenseSyncService.getChanges(user, page.watermark(), 2);
+
+        assertEquals(List.of(third), page.changed().stream().map(change -> change.id()).toList());
+        assertEquals(List.of(deleted), page.deleted().stream().map(tombstone -> tombstone.id()).toList());
+        assertFalse(page.hasMore());
+        assertTrue(SyncWatermark.decode(page.watermark()).changedAt().isAfter(T0.plusSeconds(4)));
+
+        page = expenseSyncService.getChanges(user, page.watermark(), 2);
+
+        assertTrue(page.changed().isEmpty());
+        assertTrue(page.deleted().isEmpty());
+        assertFalse(page.hasMore());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar updated_at a cada alteração da despesa, mantendo created_at")
+    public void testSave_UpdatesTimestamps() {
+
+        Expense expense = new Expense(null, "Mercado", BigDecimal.TEN, LocalDate.now(), entityManager.getReference(User.class, 1L), Status.PENDING);
+        expenseRepository.saveAndFlush(expense);
+
+        Instant createdAt = expense.getCreatedAt();
+        Instant updatedAt = expense.getUpdatedAt();
+        assertNotNull(createdAt);
+        assertNotNull(updatedAt);
+
+        expense.setStatus(Status.PAID);
+        expenseRepository.saveAndFlush(expense);
+
+        assertEquals(createdAt, expense.getCreatedAt());
+        assertTrue(expense.getUpdatedAt().isAfter(updatedAt));
+    }
+
+    private UUID insertExpense(Long userId, Instant updatedAt) {
+
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO tb_expense (id, description, amount, date, user_id, status, created_at, updated_at)
+                VALUES (?, 'Despesa', 10.00, DATE '2024-06-01', ?, 'PENDING', ?, ?)""",
+                id, userId, Timestamp.from(T0), Timestamp.from(updatedAt));
+        return id;
+    }
+
+    private UUID insertTombstone(Long userId, Instant deletedAt) {
+
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO tb_expense_tombstone (id, user_id, deleted_at) VALUES (?, ?, ?)",
+                id, userId, Timestamp.from(deletedAt));
+        return id;
+    }
+}
\ No newline at end of file
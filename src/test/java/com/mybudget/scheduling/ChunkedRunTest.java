@@ -0,0 +1,61 @@
+package com.mybudget.scheduling;
+
+import com.mybudget.infra.scheduling.ChunkedRun;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkedRunTest {
+
+    @Test
+    @DisplayName("Deve parar quando o bloco informar que não há mais trabalho")
+    public void testStopsWhenDone() {
+
+        AtomicInteger chunks = new AtomicInteger();
+
+        boolean hasMore = ChunkedRun.run(10, Duration.ZERO, () -> chunks.incrementAndGet() < 3);
+
+        assertFalse(hasMore);
+        assertEquals(3, chunks.get());
+    }
+
+    @Test
+    @DisplayName("Deve parar no limite de blocos e informar que há trabalho pendente")
+    public void testStopsAtMaxChunks() {
+
+        AtomicInteger chunks = new AtomicInteger();
+
+        boolean hasMore = ChunkedRun.run(4, Duration.ofMillis(1), () -> {
+            chunks.incrementAndGet();
+            return true;
+        });
+
+        assertTrue(hasMore);
+        assertEquals(4, chunks.get());
+    }
+
+    @Test
+    @DisplayName("Deve parar na pausa quando a thread for interrompida")
+    public void testStopsWhenInterrupted() {
+
+        AtomicInteger chunks = new AtomicInteger();
+
+        try {
+            boolean hasMore = ChunkedRun.run(10, Duration.ofSeconds(10), () -> {
+                chunks.incrementAndGet();
+                Thread.currentThread().interrupt();
+                return true;
+            });
+
+            assertTrue(hasMore);
+            assertEquals(1, chunks.get());
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
\ No newline at end of file
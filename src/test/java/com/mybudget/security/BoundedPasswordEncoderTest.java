@@ -0,0 +1,98 @@
+package com.mybudget.security;
+
+import com.mybudget.infra.exception.PasswordHashingUnavailableException;
+import com.mybudget.infra.security.BoundedPasswordEncoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve codificar e conferir a senha no pool de hashing")
+    public void testEncodeAndMatches() {
+
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, Duration.ofSeconds(5));
+
+        String encoded = passwordEncoder.encode("123456");
+
+        assertTrue(passwordEncoder.matches("123456", encoded));
+        assertFalse(passwordEncoder.matches("654321", encoded));
+    }
+
+    @Test
+    @DisplayName("Deve recusar o hash quando a fila do pool estiver cheia")
+    public void testRejectsWhenQueueIsFull() throws Exception {
+
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, Duration.ofSeconds(5));
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        try {
+            callers.submit(() -> passwordEncoder.encode("em execução"));
+            callers.submit(() -> passwordEncoder.encode("na fila"));
+
+            while (passwordEncoder.getExecutor().getActiveCount() < 1 || passwordEncoder.getExecutor().getQueue().isEmpty()) {
+                Thread.sleep(10);
+            }
+
+            assertThrows(PasswordHashingUnavailableException.class, () -> passwordEncoder.encode("recusada"));
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve desistir do hash quando o resultado não ficar pronto dentro do timeout")
+    public void testTimeout() {
+
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, Duration.ofMillis(50));
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> passwordEncoder.matches("123456", "hash"));
+    }
+
+    private PasswordEncoder blockingEncoder() {
+
+        return new PasswordEncoder() {
+
+            @Override
+            public String encode(CharSequence rawPassword) {
+                await();
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                await();
+                return rawPassword.toString().equals(encodedPassword);
+            }
+
+            private void await() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+}
\ No newline at end of file
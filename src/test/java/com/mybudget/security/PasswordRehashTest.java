@@ -0,0 +1,49 @@
+package com.mybudget.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "api.security.password.encoder=argon2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class PasswordRehashTest {
+
+    private static final String LOGIN = """
+            {"email": "rehash@email.com", "password": "123456"}""";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve regravar no encoder configurado a senha com hash antigo após o login")
+    public void testRehashOnLogin() throws Exception {
+
+        String legacyHash = new BCryptPasswordEncoder(4).encode("123456");
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (300, 'Rehash', 'rehash@email.com', ?, 'USER')",
+                legacyHash);
+
+        mockMvc.perform(post("/mybudget/login").contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                .andExpect(status().isOk());
+
+        String password = jdbcTemplate.queryForObject("SELECT password FROM tb_user WHERE id = 300", String.class);
+        assertTrue(password.startsWith("{argon2}"), password);
+
+        mockMvc.perform(post("/mybudget/login").contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                .andExpect(status().isOk());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,155 @@
+package com.mybudget.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mybudget.domain.service.RefreshTokenPurgeScheduler;
+import com.mybudget.domain.service.RefreshTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class RefreshTokenTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenPurgeScheduler refreshTokenPurgeScheduler;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    public void setUp() {
+
+        jdbcTemplate.update("DELETE FROM tb_refresh_token WHERE user_id = 400");
+        jdbcTemplate.update("DELETE FROM tb_user WHERE id = 400");
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (400, 'Refresh', 'refresh@email.com', ?, 'USER')",
+                passwordEncoder.encode("123456"));
+    }
+
+    @Test
+    @DisplayName("Deve rotacionar o refresh token e revogar a família quando um token antigo for reutilizado")
+    public void testRefreshRotation() throws Exception {
+
+        JsonNode login = login();
+
+        mockMvc.perform(get("/mybudget/expense/summary")
+                        .header("Authorization", "Bearer " + login.get("token").asText()))
+                .andExpect(status().isOk());
+
+        JsonNode refreshed = body(refresh(login.get("refreshToken").asText()).andExpect(status().isOk()));
+        assertNotEquals(login.get("refreshToken").asText(), refreshed.get("refreshToken").asText());
+
+        mockMvc.perform(get("/mybudget/expense/summary")
+                        .header("Authorization", "Bearer " + refreshed.get("token").asText()))
+                .andExpect(status().isOk());
+
+        refresh(login.get("refreshToken").asText()).andExpect(status().isUnauthorized());
+        refresh(refreshed.get("refreshToken").asText()).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Deve revogar o refresh token no logout")
+    public void testLogout() throws Exception {
+
+        String refreshToken = login().get("refreshToken").asText();
+
+        mockMvc.perform(post("/mybudget/logout").contentType(MediaType.APPLICATION_JSON)
+                        .content(json(refreshToken)))
+                .andExpect(status().isNoContent());
+
+        refresh(refreshToken).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Deve recusar refresh tokens malformados ou desconhecidos")
+    public void testInvalidRefreshToken() throws Exception {
+
+        refresh("token-invalido").andExpect(status().isUnauthorized());
+        refresh("0190f1a2-0000-7000-8000-000000000000.AAAA").andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Deve excluir em blocos os refresh tokens expirados, revogados ou não, e manter os ainda válidos")
+    public void testPurgeExpired() throws Exception {
+
+        // O login já exclui os tokens expirados do próprio usuário, então os demais são gravados depois dele.
+        String refreshToken = login().get("refreshToken").asText();
+        insertToken("DATEADD('DAY', -1, CURRENT_TIMESTAMP)", true);
+        insertToken("DATEADD('DAY', -2, CURRENT_TIMESTAMP)", false);
+        insertToken("DATEADD('DAY', -3, CURRENT_TIMESTAMP)", true);
+        insertToken("DATEADD('DAY', 1, CURRENT_TIMESTAMP)", true);
+
+        assertEquals(1, refreshTokenService.purgeExpiredChunk(Instant.now(), 1));
+        assertEquals(2, countTokens("expires_at < CURRENT_TIMESTAMP"));
+
+        assertTrue(refreshTokenPurgeScheduler.run() >= 2);
+
+        assertEquals(0, countTokens("expires_at < CURRENT_TIMESTAMP"));
+        assertEquals(1, countTokens("revoked = true"));
+        refresh(refreshToken).andExpect(status().isOk());
+    }
+
+    private void insertToken(String expiresAt, boolean revoked) {
+
+        jdbcTemplate.update("INSERT INTO tb_refresh_token (id, family_id, user_id, secret_hash, expires_at, revoked) "
+                + "VALUES (CAST(RANDOM_UUID() AS BINARY(16)), CAST(RANDOM_UUID() AS BINARY(16)), 400, "
+                + "CAST(REPEAT('0', 32) AS BINARY(32)), " + expiresAt + ", ?)", revoked);
+    }
+
+    private int countTokens(String condition) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_refresh_token WHERE user_id = 400 AND " + condition, Integer.class);
+    }
+
+    private JsonNode login() throws Exception {
+
+        return body(mockMvc.perform(post("/mybudget/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"refresh@email.com\", \"password\": \"123456\"}"))
+                .andExpect(status().isOk()));
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+
+        return mockMvc.perform(post("/mybudget/token/refresh").contentType(MediaType.APPLICATION_JSON)
+                .content(json(refreshToken)));
+    }
+
+    private String json(String refreshToken) throws Exception {
+        return objectMapper.writeValueAsString(Map.of("refreshToken", refreshToken));
+    }
+
+    private JsonNode body(ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andReturn().getResponse().getContentAsString());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.mybudget.security;
+
+import com.mybudget.domain.service.AuthenticationService;
+import com.mybudget.domain.user.User;
+import com.mybudget.domain.user.UserRole;
+import com.mybudget.infra.security.SecurityFilter;
+import com.mybudget.infra.security.TokenService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SecurityFilterTest {
+
+    @Mock
+    private TokenService tokenService;
+
+    @Mock
+    private AuthenticationService authenticationService;
+
+    @InjectMocks
+    private SecurityFilter securityFilter;
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve autenticar pelas claims do token sem carregar o usuário")
+    public void testAuthenticateFromClaims() throws Exception {
+
+        User user = user(UserRole.ADMIN);
+        when(tokenService.getUserFromToken("token")).thenReturn(Optional.of(user));
+
+        securityFilter.doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertEquals(user, authentication.getPrincipal());
+        assertEquals("ROLE_ADMIN", authentication.getAuthorities().iterator().next().getAuthority());
+        verifyNoInteractions(authenticationService);
+    }
+
+    @Test
+    @DisplayName("Deve carregar o usuário pelo subject quando o token não tiver as claims de perfil")
+    public void testAuthenticateLegacyToken() throws Exception {
+
+        User user = user(UserRole.USER);
+        when(tokenService.getUserFromToken("token")).thenReturn(Optional.empty());
+        when(tokenService.getSubject("token")).thenReturn("42");
+        when(authenticationService.loadUserById(42L)).thenReturn(user);
+
+        securityFilter.doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals(user, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        verify(authenticationService).loadUserById(42L);
+    }
+
+    private MockHttpServletRequest request() {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/mybudget/expense/list-all");
+        request.addHeader("Authorization", "Bearer token");
+        return request;
+    }
+
+    private User user(UserRole role) {
+
+        User user = new User();
+        user.setId(42L);
+        user.setUserRole(role);
+        return user;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.mybudget.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.mybudget.domain.user.User;
+import com.mybudget.domain.user.UserRole;
+import com.mybudget.infra.security.TokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenServiceTest {
+
+    private TokenService tokenService;
+
+    @BeforeEach
+    public void setUp() {
+        tokenService = new TokenService();
+        ReflectionTestUtils.setField(tokenService, "secret", "test-secret");
+        ReflectionTestUtils.setField(tokenService, "accessTokenTtl", Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(tokenService, "verifiedTokensMaximumSize", 100L);
+        tokenService.init();
+    }
+
+    @Test
+    @DisplayName("Deve gerar um token e recuperar o subject com sucesso, inclusive a partir do cache")
+    public void testGetSubject_Success() {
+
+        User user = new User();
+        user.setId(42L);
+
+        String token = tokenService.generateToken(user);
+
+        assertEquals("42", tokenService.getSubject(token));
+        assertEquals("42", tokenService.getSubject("Bearer " + token));
+    }
+
+    @Test
+    @DisplayName("Deve lançar uma exceção quando o token for assinado com outro segredo")
+    public void testGetSubject_InvalidSignature() {
+
+        String token = JWT.create()
+                .withIssuer("MyBudget-api")
+                .withSubject("42")
+                .withExpiresAt(Instant.now().plusSeconds(60))
+                .sign(Algorithm.HMAC256("other-secret"));
+
+        Exception exception = assertThrows(RuntimeException.class, () -> tokenService.getSubject(token));
+        assertEquals("Token JWT inválido ou expirado!", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve lançar uma exceção quando o token estiver expirado")
+    public void testGetSubject_ExpiredToken() {
+
+        String token = JWT.create()
+                .withIssuer("MyBudget-api")
+                .withSubject("42")
+                .withExpiresAt(Instant.now().minusSeconds(60))
+                .sign(Algorithm.HMAC256("test-secret"));
+
+        assertThrows(RuntimeException.class, () -> tokenService.getSubject(token));
+        assertThrows(RuntimeException.class, () -> tokenService.getSubject(token));
+    }
+
+    @Test
+    @DisplayName("Deve montar o usuário a partir das claims do token, sem consultar o banco")
+    public void testGetUserFromToken_Claims() {
+
+        User user = new User();
+        user.setId(42L);
+        user.setEmail("admin@email.com");
+        user.setUserRole(UserRole.ADMIN);
+
+        User authenticated = tokenService.getUserFromToken("Bearer " + tokenService.generateToken(user)).orElseThrow();
+
+        assertEquals(42L, authenticated.getId());
+        assertEquals("admin@email.com", authenticated.getEmail());
+        assertEquals(UserRole.ADMIN, authenticated.getUserRole());
+        assertEquals("ROLE_ADMIN", authenticated.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    @DisplayName("Não deve montar o usuário a partir de tokens emitidos sem as claims de perfil")
+    public void testGetUserFromToken_LegacyToken() {
+
+        String token = JWT.create()
+                .withIssuer("MyBudget-api")
+                .withSubject("42")
+                .withExpiresAt(Instant.now().plusSeconds(60))
+                .sign(Algorithm.HMAC256("test-secret"));
+
+        assertTrue(tokenService.getUserFromToken(token).isEmpty());
+        assertEquals("42", tokenService.getSubject(token));
+    }
+
+    @Test
+    @DisplayName("Deve guardar no cache apenas as claims, sem o texto do token")
+    public void testVerifiedTokens_NoRawToken() {
+
+        User user = new User();
+        user.setId(42L);
+        user.setEmail("user@email.com");
+        user.setUserRole(UserRole.USER);
+
+        String token = tokenService.generateToken(user);
+        tokenService.getUserFromToken("Bearer " + token);
+
+        Cache<?, ?> verifiedTokens = (Cache<?, ?>) ReflectionTestUtils.getField(tokenService, "verifiedTokens");
+        Object cached = verifiedTokens.asMap().values().iterator().next();
+
+        assertEquals(1, verifiedTokens.asMap().size());
+        assertFalse(verifiedTokens.asMap().containsKey(token));
+        assertTrue(cached.getClass().isRecord());
+        assertFalse(cached.toString().contains(token));
+        assertFalse(cached.toString().contains(token.substring(token.lastIndexOf('.') + 1)));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.mybudget.service;
+
+import com.mybudget.domain.dto.ExpenseDeleteResultDto;
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.ExpensePageDto;
+import com.mybudget.domain.dto.ExpenseSummaryDto;
+import com.mybudget.domain.dto.StatusSummaryDto;
+import com.mybudget.domain.expense.DeleteOutcome;
+import com.mybudget.domain.expense.ExportFormat;
+import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.repository.UserRepository;
+import com.mybudget.domain.service.ExpenseArchiveScheduler;
+import com.mybudget.domain.service.ExpenseArchiveService;
+import com.mybudget.domain.service.ExpenseExportService;
+import com.mybudget.domain.service.ExpenseService;
+import com.mybudget.domain.service.ExpenseSummaryService;
+import com.mybudget.domain.service.UserExpenseSummaryService;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.exception.ExpenseNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Arquiva despesas pagas pelo ExpenseArchiveScheduler sobre o H2 e confere tb_expense, tb_expense_archive, os
+ * totais, o resumo, a exportação e a sincronização do usuário. As despesas são de 1999 e o corte em 2000, para não arquivar despesas de
+ * outros testes que compartilham o banco.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ExpenseArchiveServiceTest {
+
+    private static final long USER_ID = 600L;
+
+    private static final LocalDate CUTOFF = LocalDate.of(2000, 1, 1);
+
+    @Autowired
+    private ExpenseArchiveScheduler expenseArchiveScheduler;
+
+    @Autowired
+    private ExpenseArchiveService expenseArchiveService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private UserExpenseSummaryService userExpenseSummaryService;
+
+    @Autowired
+    private ExpenseSummaryService expenseSummaryService;
+
+    @Autowired
+    private ExpenseExportService expenseExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+
+        jdbcTemplate.update("DELETE FROM tb_expense_archive WHERE user_id = ?", USER_ID);
+        jdbcTemplate.update("DELETE FROM tb_expense_tombstone WHERE user_id = ?", USER_ID);
+        jdbcTemplate.update("DELETE FROM tb_user_expense_summary WHERE user_id = ?", USER_ID);
+        jdbcTemplate.update("DELETE FROM tb_expense WHERE user_id = ?", USER_ID);
+        jdbcTemplate.update("MERGE INTO tb_user (id, name, email, password, user_role) KEY (id) VALUES (?, 'Archive', 'archive@email.com', 'password', 'USER')", USER_ID);
+
+        ReflectionTestUtils.setField(expenseArchiveScheduler, "maxAge", Duration.ofDays(ChronoUnit.DAYS.between(CUTOFF, LocalDate.now())));
+        ReflectionTestUtils.setField(expenseArchiveScheduler, "chunkSize", 2);
+        ReflectionTestUtils.setField(expenseArchiveScheduler, "maxChunks", 10);
+        ReflectionTestUtils.setField(expenseArchiveScheduler, "chunkPause", Duration.ZERO);
+
+        user = userRepository.findById(USER_ID).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Deve mover as despesas pagas antigas em blocos para o arquivo, mantendo totais, resumo, exportação e sincronização")
+    public void testRun_ArchivesOldPaidExpenses() throws IOException {
+
+        UUID first = insert("Aluguel", "1999-03-01", "PAID");
+        UUID second = insert("Internet", "1999-05-10", "PAID");
+        UUID third = insert("Luz", "1999-12-31", "PAID");
+        UUID pending = insert("Água", "1999-06-01", "PENDING");
+        UUID recent = insert("Mercado", "2000-01-01", "PAID");
+        userExpenseSummaryService.rebuild(USER_ID);
+
+        assertEquals(3, expenseArchiveScheduler.run().archived());
+
+        assertEquals(List.of(pending, recent), jdbcTemplate.queryForList(
+                "SELECT id FROM tb_expense WHERE user_id = ? ORDER BY date", UUID.class, USER_ID));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_expense_archive WHERE user_id = ?", Integer.class, USER_ID));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_expense_tombstone WHERE user_id = ?", Integer.class, USER_ID));
+        assertTrue(userExpenseSummaryService.check(USER_ID).isEmpty());
+
+        ExpenseSummaryDto total = expenseSummaryService.getSummary(user, null, null, 0);
+        assertEquals(List.of(new StatusSummaryDto(Status.PENDING, new BigDecimal("100.00"), 1),
+                new StatusSummaryDto(Status.PAID, new BigDecimal("400.00"), 4)), total.statuses());
+
+        ExpenseSummaryDto period = expenseSummaryService.getSummary(user, LocalDate.of(1999, 1, 1), LocalDate.of(1999, 12, 31), 10);
+        assertEquals(List.of(new StatusSummaryDto(Status.PENDING, new BigDecimal("100.00"), 1),
+                new StatusSummaryDto(Status.PAID, new BigDecimal("300.00"), 3)), period.statuses());
+        assertEquals(4, period.months().size());
+        assertEquals(4, period.topExpenses().size());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        expenseExportService.export(user, ExportFormat.CSV, output);
+        assertEquals(List.of(first, second, pending, third, recent), output.toString(StandardCharsets.UTF_8).lines()
+                .skip(1)
+                .map(line -> UUID.fromString(line.substring(0, line.indexOf(','))))
+                .toList());
+
+        ExpensePageDto page = expenseArchiveService.getArchivedExpenses(user, null, 2);
+        assertEquals(List.of(first, second), page.expenses().stream().map(ExpenseDto::id).toList());
+
+        ExpensePageDto next = expenseArchiveService.getArchivedExpenses(user, page.nextCursor(), 2);
+        assertEquals(List.of(third), next.expenses().stream().map(ExpenseDto::id).toList());
+        assertNull(next.nextCursor());
+
+        assertEquals(0, expenseArchiveScheduler.run().archived());
+    }
+
+    @Test
+    @DisplayName("Deve excluir em lote despesas pagas, inclusive arquivadas, e informar o resultado de cada id")
+    public void testDeleteExpenses_HotAndArchived() {
+
+        UUID archived = insert("Aluguel", "1999-03-01", "PAID");
+        UUID paid = insert("Mercado", "2024-05-20", "PAID");
+        UUID pending = insert("Água", "2024-06-01", "PENDING");
+        UUID missing = UUID.randomUUID();
+        userExpenseSummaryService.rebuild(USER_ID);
+        expenseArchiveScheduler.run();
+
+        List<ExpenseDeleteResultDto> results = expenseService.deleteExpenses(user, List.of(archived, paid, pending, missing));
+
+        assertEquals(List.of(
+                new ExpenseDeleteResultDto(archived, DeleteOutcome.DELETED),
+                new ExpenseDeleteResultDto(paid, DeleteOutcome.DELETED),
+                new ExpenseDeleteResultDto(pending, DeleteOutcome.NOT_PAID),
+                new ExpenseDeleteResultDto(missing, DeleteOutcome.NOT_FOUND)), results);
+        assertEquals(List.of(pending), jdbcTemplate.queryForList("SELECT id FROM tb_expense WHERE user_id = ?", UUID.class, USER_ID));
+        assertThrows(ExpenseNotFoundException.class, () -> expenseArchiveService.getArchivedExpenses(user, null, null));
+        assertEquals(List.of(archived, paid).stream().sorted().toList(), jdbcTemplate.queryForList(
+                "SELECT id FROM tb_expense_tombstone WHERE user_id = ?", UUID.class, USER_ID).stream().sorted().toList());
+        assertTrue(userExpenseSummaryService.check(USER_ID).isEmpty());
+        assertEquals(List.of(new StatusSummaryDto(Status.PENDING, new BigDecimal("100.00"), 1)),
+                expenseSummaryService.getSummary(user, null, null, 0).statuses());
+    }
+
+    private UUID insert(String description, String date, String status) {
+
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO tb_expense (id, description, amount, date, user_id, status) VALUES (?, ?, 100.00, ?, ?, ?)",
+                id, description, LocalDate.parse(date), USER_ID, status);
+        return id;
+    }
+}
\ No newline at end of file
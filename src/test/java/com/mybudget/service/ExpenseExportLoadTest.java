@@ -0,0 +1,109 @@
+package com.mybudget.service;
+
+import com.mybudget.domain.expense.ExportFormat;
+import com.mybudget.domain.service.ExpenseExportService;
+import com.mybudget.domain.user.User;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Exporta 1.000.000 de despesas sintéticas do H2 embarcado. A saída é apenas contada,
+ * sem ser guardada, de forma que o teste só passa se as linhas forem escritas enquanto são lidas.
+ * <p>
+ * Leva perto de dois minutos, então fica fora do {@code mvn test}; executa com {@code mvn test -Pload-test}.
+ */
+@Tag("load")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ExpenseExportLoadTest {
+
+    private static final int ROWS = 1_000_000;
+
+    private static final int CHUNK = 50_000;
+
+    @Autowired
+    private ExpenseExportService expenseExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    public void setUp() {
+
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (1, 'User 1', 'user1@email.com', 'password', 'USER')");
+
+        // Ids e datas crescentes mantêm a carga nos índices sequencial; os blocos evitam uma única transação
+        // com 1.000.000 de linhas no H2.
+        for (int start = 1; start <= ROWS; start += CHUNK) {
+            jdbcTemplate.update("""
+                    INSERT INTO tb_expense (id, description, amount, date, user_id, status)
+                    SELECT CAST(CAST("X" AS BINARY(8)) || X'0000000000000000' AS BINARY(16)), CONCAT('Despesa ', "X"), 10.00,
+                           DATEADD('DAY', "X" / 300, DATE '2015-01-01'), 1,
+                           CASE WHEN MOD("X", 3) = 0 THEN 'PAID' ELSE 'PENDING' END
+                    FROM SYSTEM_RANGE(?, ?)""", start, start + CHUNK - 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve exportar 1.000.000 de despesas em NDJSON, uma por linha")
+    public void testExportNdjson_MillionRows() throws IOException {
+
+        LineCountingOutputStream output = new LineCountingOutputStream();
+
+        expenseExportService.export(user(1L), ExportFormat.NDJSON, output);
+
+        assertEquals(ROWS, output.lines);
+    }
+
+    @Test
+    @DisplayName("Deve exportar 1.000.000 de despesas em CSV, com cabeçalho")
+    public void testExportCsv_MillionRows() throws IOException {
+
+        LineCountingOutputStream output = new LineCountingOutputStream();
+
+        expenseExportService.export(user(1L), ExportFormat.CSV, output);
+
+        assertEquals(ROWS + 1, output.lines);
+    }
+
+    private User user(Long id) {
+
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private static class LineCountingOutputStream extends OutputStream {
+
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.mybudget.service;
+
+import com.mybudget.domain.expense.ExportFormat;
+import com.mybudget.domain.service.ExpenseExportService;
+import com.mybudget.domain.user.User;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Formato das linhas exportadas. O volume de 1.000.000 de despesas fica em {@link ExpenseExportLoadTest}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ExpenseExportServiceTest {
+
+    @Autowired
+    private ExpenseExportService expenseExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    public void setUp() {
+
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (2, 'User 2', 'user2@email.com', 'password', 'USER')");
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (3, 'User 3', 'user3@email.com', 'password', 'USER')");
+
+        jdbcTemplate.update("""
+                INSERT INTO tb_expense (id, description, amount, date, user_id, status)
+                VALUES (CAST(RANDOM_UUID() AS BINARY(16)), 'Mercado, "extra"', 85.50, DATE '2024-08-07', 2, 'PAID')""");
+
+        List<String> descriptions = List.of("=HYPERLINK(\"http://exemplo.com\")", "+55 11 99999-0000", "-10", "@SUM(A1:A2)", "Mercado = feira");
+        for (int i = 0; i < descriptions.size(); i++) {
+            jdbcTemplate.update("""
+                    INSERT INTO tb_expense (id, description, amount, date, user_id, status)
+                    VALUES (CAST(RANDOM_UUID() AS BINARY(16)), ?, 10.00, DATEADD('DAY', ?, DATE '2024-08-01'), 3, 'PAID')""",
+                    descriptions.get(i), i);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve exportar apenas as despesas do usuário, escapando os campos do CSV")
+    public void testExport_OnlyUserExpenses() throws IOException {
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+
+        expenseExportService.export(user(2L), ExportFormat.NDJSON, ndjson);
+        expenseExportService.export(user(2L), ExportFormat.CSV, csv);
+
+        String json = ndjson.toString(StandardCharsets.UTF_8);
+        String[] lines = csv.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(1, json.lines().count());
+        assertTrue(json.contains("\"description\":\"Mercado, \\\"extra\\\"\""));
+        assertTrue(json.contains("\"date\":\"2024-08-07\""));
+        assertEquals(2, lines.length);
+        assertEquals("id,description,amount,status,date", lines[0]);
+        assertTrue(lines[1].endsWith(",\"Mercado, \"\"extra\"\"\",85.50,PAID,2024-08-07"));
+    }
+
+    @Test
+    @DisplayName("Deve prefixar com apóstrofo as descrições que uma planilha executaria como fórmula")
+    public void testExportCsv_FormulaInjection() throws IOException {
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+
+        expenseExportService.export(user(3L), ExportFormat.CSV, csv);
+        expenseExportService.export(user(3L), ExportFormat.NDJSON, ndjson);
+
+        String[] lines = csv.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(6, lines.length);
+        assertTrue(lines[1].endsWith(",\"'=HYPERLINK(\"\"http://exemplo.com\"\")\",10.00,PAID,2024-08-01"));
+        assertTrue(lines[2].endsWith(",'+55 11 99999-0000,10.00,PAID,2024-08-02"));
+        assertTrue(lines[3].endsWith(",'-10,10.00,PAID,2024-08-03"));
+        assertTrue(lines[4].endsWith(",'@SUM(A1:A2),10.00,PAID,2024-08-04"));
+        assertTrue(lines[5].endsWith(",Mercado = feira,10.00,PAID,2024-08-05"));
+        // O NDJSON não é aberto em planilhas e mantém a descrição original.
+        assertTrue(ndjson.toString(StandardCharsets.UTF_8).contains("\"description\":\"-10\""));
+    }
+
+    private User user(Long id) {
+
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,190 @@
+package com.mybudget.service;
+
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.ExpensePageDto;
+import com.mybudget.domain.expense.ExpenseArchivedEvent;
+import com.mybudget.domain.expense.ExpenseChangedEvent;
+import com.mybudget.domain.expense.ExpenseSearchTerm;
+import com.mybudget.domain.expense.ExpenseSearchTermId;
+import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.repository.ExpenseRepository;
+import com.mybudget.domain.repository.ExpenseSearchTermRepository;
+import com.mybudget.domain.service.ExpenseSearchService;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.exception.ExpenseNotFoundException;
+import com.mybudget.infra.exception.InvalidRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExpenseSearchServiceTest {
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @Mock
+    private ExpenseSearchTermRepository searchTermRepository;
+
+    @InjectMocks
+    private ExpenseSearchService expenseSearchService;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+
+        user = new User();
+        user.setId(1L);
+    }
+
+    @Test
+    @DisplayName("Deve converter as linhas da busca em despesas, mantendo a ordem de relevância")
+    public void testSearch_MapsRows() {
+
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        when(searchTermRepository.search(1L, Set.of("uber"), 3, 0)).thenReturn(List.<Object[]>of(
+                row(first, "Uber aeroporto", "120.00", "PAID", LocalDate.of(2024, 5, 25)),
+                row(second, "Uber centro", "35.90", "PENDING", LocalDate.of(2024, 5, 10))));
+
+        ExpensePageDto result = expenseSearchService.search(user, " uber ", null, 2);
+
+        assertEquals(List.of(
+                new ExpenseDto(first, "Uber aeroporto", new BigDecimal("120.00"), Status.PAID, LocalDate.of(2024, 5, 25)),
+                new ExpenseDto(second, "Uber centro", new BigDecimal("35.90"), Status.PENDING, LocalDate.of(2024, 5, 10))),
+                result.expenses());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve devolver o cursor da próxima página e continuar a partir dele")
+    public void testSearch_NextCursor() {
+
+        when(searchTermRepository.search(1L, Set.of("mercado"), 2, 0)).thenReturn(List.<Object[]>of(
+                row(UUID.randomUUID(), "Mercado", "250.40", "PAID", LocalDate.of(2024, 5, 20)),
+                row(UUID.randomUUID(), "Mercado", "85.50", "PAID", LocalDate.of(2024, 5, 2))));
+
+        ExpensePageDto first = expenseSearchService.search(user, "mercado", null, 1);
+
+        assertEquals(1, first.expenses().size());
+        assertNotNull(first.nextCursor());
+
+        when(searchTermRepository.search(1L, Set.of("mercado"), 2, 1)).thenReturn(List.<Object[]>of(
+                row(UUID.randomUUID(), "Mercado", "85.50", "PAID", LocalDate.of(2024, 5, 2))));
+
+        ExpensePageDto second = expenseSearchService.search(user, "mercado", first.nextCursor(), 1);
+
+        assertEquals(1, second.expenses().size());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve lançar ExpenseNotFoundException quando a busca não encontrar despesas")
+    public void testSearch_NotFound() {
+
+        when(searchTermRepository.search(eq(1L), anyCollection(), anyInt(), anyInt())).thenReturn(List.<Object[]>of());
+
+        assertThrows(ExpenseNotFoundException.class, () -> expenseSearchService.search(user, "viagem", null, null));
+    }
+
+    @Test
+    @DisplayName("Deve lançar InvalidRequestException quando o texto ou o cursor da busca forem inválidos")
+    public void testSearch_InvalidRequest() {
+
+        assertThrows(InvalidRequestException.class, () -> expenseSearchService.search(user, " ", null, null));
+        assertThrows(InvalidRequestException.class,
+                () -> expenseSearchService.search(user, "x".repeat(ExpenseSearchService.MAX_QUERY_LENGTH + 1), null, null));
+        assertThrows(InvalidRequestException.class, () -> expenseSearchService.search(user, "uber", "cursor-invalido", null));
+        assertThrows(InvalidRequestException.class, () -> expenseSearchService.search(user, "de a", null, null));
+        verifyNoInteractions(searchTermRepository);
+    }
+
+    @Test
+    @DisplayName("Deve buscar pelos termos sem acentos, em minúsculas e sem stopwords")
+    public void testSearch_NormalizesTerms() {
+
+        when(searchTermRepository.search(1L, Set.of("farmacia", "sao", "joao"), 51, 0)).thenReturn(List.<Object[]>of(
+                row(UUID.randomUUID(), "Farmácia São João", "42.00", "PAID", LocalDate.of(2024, 5, 3))));
+
+        ExpensePageDto result = expenseSearchService.search(user, "Farmácia de São-João", null, null);
+
+        assertEquals(1, result.expenses().size());
+    }
+
+    @Test
+    @DisplayName("Deve reindexar apenas as despesas criadas, excluídas ou com a descrição alterada")
+    public void testOnExpenseChanged_IndexesDescriptions() {
+
+        UUID created = UUID.randomUUID();
+        UUID renamed = UUID.randomUUID();
+        UUID paid = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+
+        expenseSearchService.onExpenseChanged(new ExpenseChangedEvent(1L,
+                List.of(expense(renamed, "Uber"), expense(paid, "Mercado"), expense(deleted, "Cinema")),
+                List.of(expense(created, "Conta de luz"), expense(renamed, "Uber Eats"), expense(paid, "Mercado"))));
+
+        verify(searchTermRepository).deleteByExpenseIds(1L, Set.of(renamed, deleted));
+        verify(searchTermRepository).saveAll(List.of(
+                term(created, "conta"), term(created, "luz"), term(renamed, "uber"), term(renamed, "eats")));
+    }
+
+    @Test
+    @DisplayName("Não deve tocar o índice quando só o valor, a data ou o status mudarem")
+    public void testOnExpenseChanged_SameDescription() {
+
+        UUID id = UUID.randomUUID();
+
+        expenseSearchService.onExpenseChanged(ExpenseChangedEvent.updated(1L, expense(id, "Mercado"), expense(id, "Mercado")));
+
+        verifyNoInteractions(searchTermRepository);
+    }
+
+    @Test
+    @DisplayName("Deve remover do índice as despesas arquivadas")
+    public void testOnExpenseArchived_RemovesTerms() {
+
+        UUID id = UUID.randomUUID();
+
+        expenseSearchService.onExpenseArchived(new ExpenseArchivedEvent(1L, List.of(expense(id, "Mercado"))));
+
+        verify(searchTermRepository).deleteByExpenseIds(1L, List.of(id));
+    }
+
+    private static ExpenseDto expense(UUID id, String description) {
+        return new ExpenseDto(id, description, new BigDecimal("10.00"), Status.PAID, LocalDate.of(2024, 5, 1));
+    }
+
+    private static ExpenseSearchTerm term(UUID expenseId, String term) {
+        return new ExpenseSearchTerm(new ExpenseSearchTermId(1L, term, expenseId));
+    }
+
+    private static Object[] row(UUID id, String description, String amount, String status, LocalDate date) {
+
+        byte[] bytes = ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+        return new Object[]{bytes, description, new BigDecimal(amount), status, Date.valueOf(date)};
+    }
+}
\ No newline at end of file
@@ -1,23 +1,42 @@
 package com.mybudget.service;
 
+import com.mybudget.domain.dto.ExpenseBatchErrorDto;
+import com.mybudget.domain.dto.ExpenseDeleteResultDto;
 import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.ExpenseFilterDto;
+import com.mybudget.domain.dto.ExpensePageDto;
+import com.mybudget.domain.dto.ExpenseStatusBatchDto;
+import com.mybudget.domain.dto.ExpenseStatusBatchResultDto;
+import com.mybudget.domain.dto.ExpenseStatusResultDto;
 import com.mybudget.domain.dto.UpdateExpenseDto;
+import com.mybudget.domain.dto.VersionedExpenseDto;
+import com.mybudget.domain.expense.DeleteOutcome;
 import com.mybudget.domain.expense.Expense;
+import com.mybudget.domain.expense.ExpenseChangedEvent;
+import com.mybudget.domain.expense.ExpenseCursor;
 import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.expense.StatusChangeOutcome;
+import com.mybudget.domain.repository.ExpenseArchiveRepository;
 import com.mybudget.domain.repository.ExpenseRepository;
 import com.mybudget.domain.service.ExpenseService;
 import com.mybudget.domain.service.validation.ValidateDeleteExpense;
 import com.mybudget.domain.service.validation.ValidateNewExpense;
 import com.mybudget.domain.user.User;
+import com.mybudget.infra.exception.ExpenseBatchException;
 import com.mybudget.infra.exception.ExpenseNotFoundException;
+import com.mybudget.infra.exception.ExpenseProcessingException;
+import com.mybudget.infra.exception.InvalidRequestException;
+import com.mybudget.infra.exception.PreconditionFailedException;
 import com.mybudget.infra.exception.UnauthorizedAccessException;
-import com.mybudget.infra.security.TokenService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -25,14 +44,15 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class ExpenseServiceTest {
 
-    @Mock
-    private TokenService tokenService;
-
     @Mock
     private ValidateNewExpense validateNewExpense;
 
@@ -42,6 +62,12 @@ public class ExpenseServiceTest {
     @Mock
     private ExpenseRepository expenseRepository;
 
+    @Mock
+    private ExpenseArchiveRepository expenseArchiveRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ExpenseService expenseService;
 
@@ -49,16 +75,14 @@ public class ExpenseServiceTest {
     @DisplayName("Deve criar uma nova despesa com sucesso")
     public void testNewExpense_Success() {
 
-        String token = "valid-token";
         ExpenseDto expenseDto = new ExpenseDto(null, "Description", BigDecimal.valueOf(100.00), Status.PENDING, LocalDate.now());
         User user = new User();
         Expense expense = new Expense();
 
-        when(tokenService.getUserFromToken(token)).thenReturn(user);
         doNothing().when(validateNewExpense).validate(expenseDto);
         when(expenseRepository.save(any(Expense.class))).thenReturn(expense);
 
-        ExpenseDto result = expenseService.newExpense(token, expenseDto);
+        ExpenseDto result = expenseService.newExpense(user, expenseDto);
 
         assertNotNull(result);
         assertEquals(expenseDto.amount(), result.amount());
@@ -67,61 +91,170 @@ public class ExpenseServiceTest {
     }
 
     @Test
-    @DisplayName("Deve lançar uma exceção quando o token for inválido")
+    @DisplayName("Deve lançar uma exceção quando ocorrer um erro inesperado ao salvar a despesa")
     public void testNewExpense_Exception() {
 
-        String token = "invalid-token";
+        User user = new User();
         ExpenseDto expenseDto = new ExpenseDto(null, "Description", BigDecimal.valueOf(100.00), Status.PENDING, LocalDate.now());
 
-        when(tokenService.getUserFromToken(token)).thenThrow(new RuntimeException("Token inválido"));
+        when(expenseRepository.save(any(Expense.class))).thenThrow(new RuntimeException("Erro inesperado"));
 
         Exception exception = assertThrows(RuntimeException.class, () -> {
-            expenseService.newExpense(token, expenseDto);
+            expenseService.newExpense(user, expenseDto);
         });
 
         assertTrue(exception.getMessage().contains("Erro ao processar despesa."));
     }
 
+    @Test
+    @DisplayName("Deve registrar um lote de despesas com uma única chamada ao repositório")
+    public void testNewExpenses_Success() {
+
+        User user = new User();
+        List<ExpenseDto> expenseDtos = List.of(
+                new ExpenseDto(null, "Mercado", BigDecimal.valueOf(85.50), null, null),
+                new ExpenseDto(null, "Farmácia", BigDecimal.valueOf(30.00), null, null));
+
+        List<ExpenseDto> result = expenseService.newExpenses(user, expenseDtos);
+
+        assertEquals(2, result.size());
+        assertEquals("Mercado", result.get(0).description());
+        assertEquals(Status.PENDING, result.get(1).status());
+        verify(validateNewExpense, times(2)).validate(any(ExpenseDto.class));
+        verify(expenseRepository).saveAll(anyList());
+        verify(expenseRepository, never()).save(any(Expense.class));
+    }
+
+    @Test
+    @DisplayName("Deve retornar os erros de cada item inválido do lote sem salvar nenhuma despesa")
+    public void testNewExpenses_InvalidItems() {
+
+        User user = new User();
+        ExpenseDto valid = new ExpenseDto(null, "Mercado", BigDecimal.valueOf(85.50), null, null);
+        ExpenseDto invalid = new ExpenseDto(null, "Farmácia", BigDecimal.ZERO, null, null);
+
+        lenient().doThrow(new ExpenseProcessingException("O valor da despesa deve ser maior que zero."))
+                .when(validateNewExpense).validate(invalid);
+
+        ExpenseBatchException exception = assertThrows(ExpenseBatchException.class, () ->
+                expenseService.newExpenses(user, Arrays.asList(valid, invalid, null))
+        );
+
+        assertEquals(2, exception.getErrors().size());
+        assertEquals(new ExpenseBatchErrorDto(1, "O valor da despesa deve ser maior que zero."), exception.getErrors().get(0));
+        assertEquals(new ExpenseBatchErrorDto(2, "Despesa inválida."), exception.getErrors().get(1));
+        verify(expenseRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar um lote vazio ou maior que o limite")
+    public void testNewExpenses_InvalidBatchSize() {
+
+        User user = new User();
+        List<ExpenseDto> tooLarge = Collections.nCopies(ExpenseService.MAX_BATCH_SIZE + 1,
+                new ExpenseDto(null, "Mercado", BigDecimal.ONE, null, null));
+
+        assertThrows(InvalidRequestException.class, () -> expenseService.newExpenses(user, List.of()));
+        assertThrows(InvalidRequestException.class, () -> expenseService.newExpenses(user, tooLarge));
+        verifyNoInteractions(validateNewExpense, expenseRepository);
+    }
+
     @Test
     @DisplayName("Deve atualizar a despesa com sucesso quando fornecido um token válido e uma despesa existente")
     public void testUpdateExpense_Success() {
 
-        String token = "valid-token";
         UUID expenseId = UUID.randomUUID();
         UpdateExpenseDto updateExpenseDto = new UpdateExpenseDto(BigDecimal.valueOf(150.00), "Updated Description", Status.PENDING);
         User user = new User();
-        Expense existingExpense = new Expense();
-        existingExpense.setUser(user);
-        existingExpense.setAmount(BigDecimal.valueOf(100.00));
-        existingExpense.setDescription("Old Description");
-        existingExpense.setStatus(Status.PAID);
+        user.setId(1L);
+        VersionedExpenseDto existingExpense = new VersionedExpenseDto(expenseId, "Old Description", BigDecimal.valueOf(100.00),
+                Status.PAID, LocalDate.now(), 1L, 3);
 
-        when(tokenService.getUserFromToken(token)).thenReturn(user);
-        when(expenseRepository.findById(expenseId)).thenReturn(Optional.of(existingExpense));
-        when(expenseRepository.save(any(Expense.class))).thenReturn(existingExpense);
+        when(expenseRepository.findVersionedById(expenseId)).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.updateIfVersion(eq(expenseId), eq(1L), eq(3L), eq(updateExpenseDto.amount()),
+                eq(updateExpenseDto.description()), eq(updateExpenseDto.status()), any())).thenReturn(1);
 
-        ExpenseDto result = expenseService.updateExpense(token, expenseId, updateExpenseDto);
+        ExpenseDto result = expenseService.updateExpense(user, expenseId, updateExpenseDto);
 
         assertNotNull(result);
         assertEquals(updateExpenseDto.amount(), result.amount());
         assertEquals(updateExpenseDto.description(), result.description());
         assertEquals(updateExpenseDto.status(), result.status());
-        verify(expenseRepository).save(existingExpense);
+        verify(expenseRepository, never()).findById(any());
+        verify(expenseRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(ExpenseChangedEvent.updated(1L, existingExpense.expense(), result));
+    }
+
+    @Test
+    @DisplayName("Deve manter os campos não informados e devolver a nova versão da despesa")
+    public void testUpdateExpense_PartialWithVersion() {
+
+        UUID expenseId = UUID.randomUUID();
+        UpdateExpenseDto updateExpenseDto = new UpdateExpenseDto(null, null, Status.PAID);
+        User user = new User();
+        user.setId(1L);
+        VersionedExpenseDto existingExpense = new VersionedExpenseDto(expenseId, "Aluguel", BigDecimal.valueOf(1500.00),
+                Status.PENDING, LocalDate.now(), 1L, 7);
+
+        when(expenseRepository.findVersionedById(expenseId)).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.updateIfVersion(eq(expenseId), eq(1L), eq(7L), isNull(), isNull(), eq(Status.PAID), any())).thenReturn(1);
+
+        VersionedExpenseDto result = expenseService.updateExpense(user, expenseId, updateExpenseDto, 7L);
+
+        assertEquals(8, result.version());
+        assertEquals("Aluguel", result.expense().description());
+        assertEquals(BigDecimal.valueOf(1500.00), result.expense().amount());
+        assertEquals(Status.PAID, result.expense().status());
+    }
+
+    @Test
+    @DisplayName("Deve lançar PreconditionFailedException quando o If-Match não corresponde à versão atual")
+    public void testUpdateExpense_VersionMismatch() {
+
+        UUID expenseId = UUID.randomUUID();
+        User user = new User();
+        user.setId(1L);
+        VersionedExpenseDto existingExpense = new VersionedExpenseDto(expenseId, "Aluguel", BigDecimal.valueOf(1500.00),
+                Status.PENDING, LocalDate.now(), 1L, 7);
+
+        when(expenseRepository.findVersionedById(expenseId)).thenReturn(Optional.of(existingExpense));
+
+        assertThrows(PreconditionFailedException.class, () ->
+                expenseService.updateExpense(user, expenseId, new UpdateExpenseDto(null, null, Status.PAID), 6L));
+        verify(expenseRepository, never()).updateIfVersion(any(), any(), anyLong(), any(), any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve lançar OptimisticLockingFailureException quando outra requisição altera a despesa antes do UPDATE")
+    public void testUpdateExpense_ConcurrentUpdate() {
+
+        UUID expenseId = UUID.randomUUID();
+        User user = new User();
+        user.setId(1L);
+        VersionedExpenseDto existingExpense = new VersionedExpenseDto(expenseId, "Aluguel", BigDecimal.valueOf(1500.00),
+                Status.PENDING, LocalDate.now(), 1L, 7);
+
+        when(expenseRepository.findVersionedById(expenseId)).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.updateIfVersion(eq(expenseId), eq(1L), eq(7L), any(), any(), any(), any())).thenReturn(0);
+
+        assertThrows(OptimisticLockingFailureException.class, () ->
+                expenseService.updateExpense(user, expenseId, new UpdateExpenseDto(null, null, Status.PAID)));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     @DisplayName("Deve lançar uma exceção ExpenseNotFoundException quando a despesa não for encontrada")
     public void testUpdateExpense_ExpenseNotFound() {
 
-        String token = "valid-token";
         UUID expenseId = UUID.randomUUID();
         UpdateExpenseDto updateExpenseDto = new UpdateExpenseDto(null, "Description", null);
 
-        when(tokenService.getUserFromToken(token)).thenReturn(new User());
-        when(expenseRepository.findById(expenseId)).thenReturn(Optional.empty());
+        User user = new User();
+        when(expenseRepository.findVersionedById(expenseId)).thenReturn(Optional.empty());
 
         Exception exception = assertThrows(ExpenseNotFoundException.class, () -> {
-            expenseService.updateExpense(token, expenseId, updateExpenseDto);
+            expenseService.updateExpense(user, expenseId, updateExpenseDto);
         });
 
         assertTrue(exception.getMessage().contains("Despesa não encontrada"));
@@ -131,33 +264,138 @@ public class ExpenseServiceTest {
     @DisplayName("Deve lançar uma exceção UnauthorizedAccessException quando o usuário tentar atualizar uma despesa que não possui")
     public void testUpdateExpense_UnauthorizedAccess() {
 
-        String token = "invalid-token";
         UUID expenseId = UUID.randomUUID();
         UpdateExpenseDto updateExpenseDto = new UpdateExpenseDto(null, "Description", null);
 
         User user = new User();
         user.setId(1L);
 
-        User differentUser = new User();
-        differentUser.setId(2L);
-        Expense existingExpense = new Expense();
-        existingExpense.setUser(differentUser);
+        VersionedExpenseDto existingExpense = new VersionedExpenseDto(expenseId, "Description", BigDecimal.TEN,
+                Status.PENDING, LocalDate.now(), 2L, 0);
 
-        when(tokenService.getUserFromToken(token)).thenReturn(user);
-        when(expenseRepository.findById(expenseId)).thenReturn(Optional.of(existingExpense));
+        when(expenseRepository.findVersionedById(expenseId)).thenReturn(Optional.of(existingExpense));
 
         UnauthorizedAccessException exception = assertThrows(UnauthorizedAccessException.class, () -> {
-            expenseService.updateExpense(token, expenseId, updateExpenseDto);
+            expenseService.updateExpense(user, expenseId, updateExpenseDto);
         });
 
         assertTrue(exception.getMessage().contains("Você não tem permissão para atualizar esta despesa."));
     }
 
+    @Test
+    @DisplayName("Deve alterar o status das despesas em lote e informar o resultado de cada id")
+    public void testUpdateStatuses_ByIds() {
+
+        User user = new User();
+        user.setId(1L);
+        UUID rentId = UUID.randomUUID();
+        UUID paidId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        VersionedExpenseDto rent = new VersionedExpenseDto(rentId, "Aluguel", BigDecimal.valueOf(1500.00),
+                Status.PENDING, LocalDate.now(), 1L, 2);
+        VersionedExpenseDto paid = new VersionedExpenseDto(paidId, "Internet", BigDecimal.valueOf(99.90),
+                Status.PAID, LocalDate.now(), 1L, 4);
+
+        when(expenseRepository.findForUpdate(1L, List.of(rentId, paidId, missingId))).thenReturn(List.of(paid, rent));
+
+        ExpenseStatusBatchResultDto result = expenseService.updateStatuses(user,
+                new ExpenseStatusBatchDto(List.of(rentId, paidId, missingId, rentId), null, Status.PAID));
+
+        assertEquals(List.of(
+                new ExpenseStatusResultDto(rentId, StatusChangeOutcome.UPDATED, 3L),
+                new ExpenseStatusResultDto(paidId, StatusChangeOutcome.UNCHANGED, 4L),
+                new ExpenseStatusResultDto(missingId, StatusChangeOutcome.NOT_FOUND, null)), result.results());
+        assertFalse(result.hasMore());
+        verify(expenseRepository).updateStatus(eq(1L), eq(List.of(rentId)), eq(Status.PAID), any());
+        verify(eventPublisher).publishEvent(ExpenseChangedEvent.updated(1L, List.of(rent.expense()),
+                List.of(new ExpenseDto(rentId, "Aluguel", BigDecimal.valueOf(1500.00), Status.PAID, rent.expense().date()))));
+    }
+
+    @Test
+    @DisplayName("Deve alterar no máximo um lote de despesas anteriores à data limite e indicar que restam outras")
+    public void testUpdateStatuses_Before() {
+
+        User user = new User();
+        user.setId(1L);
+        LocalDate before = LocalDate.of(2024, 6, 1);
+        List<VersionedExpenseDto> pending = new ArrayList<>();
+        for (int i = 0; i <= ExpenseService.MAX_BATCH_SIZE; i++) {
+            pending.add(new VersionedExpenseDto(UUID.randomUUID(), "Despesa " + i, BigDecimal.TEN,
+                    Status.PENDING, before.minusDays(1), 1L, 0));
+        }
+
+        when(expenseRepository.findForStatusChangeBefore(1L, Status.PAID, before, Limit.of(ExpenseService.MAX_BATCH_SIZE + 1)))
+                .thenReturn(pending);
+
+        ExpenseStatusBatchResultDto result = expenseService.updateStatuses(user, new ExpenseStatusBatchDto(null, before, Status.PAID));
+
+        assertEquals(ExpenseService.MAX_BATCH_SIZE, result.results().size());
+        assertTrue(result.results().stream().allMatch(item -> item.outcome() == StatusChangeOutcome.UPDATED));
+        assertTrue(result.hasMore());
+        verify(expenseRepository).updateStatus(eq(1L), argThat(ids -> ids.size() == ExpenseService.MAX_BATCH_SIZE), eq(Status.PAID), any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar InvalidRequestException sem status ou sem exatamente um critério de seleção")
+    public void testUpdateStatuses_InvalidRequest() {
+
+        User user = new User();
+        user.setId(1L);
+        List<UUID> ids = List.of(UUID.randomUUID());
+
+        assertThrows(InvalidRequestException.class, () -> expenseService.updateStatuses(user, new ExpenseStatusBatchDto(ids, null, null)));
+        assertThrows(InvalidRequestException.class, () -> expenseService.updateStatuses(user, new ExpenseStatusBatchDto(null, null, Status.PAID)));
+        assertThrows(InvalidRequestException.class, () -> expenseService.updateStatuses(user,
+                new ExpenseStatusBatchDto(ids, LocalDate.now(), Status.PAID)));
+        assertThrows(InvalidRequestException.class, () -> expenseService.updateStatuses(user,
+                new ExpenseStatusBatchDto(Arrays.asList(UUID.randomUUID(), null), null, Status.PAID)));
+        verifyNoInteractions(expenseRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve excluir em lote apenas as despesas pagas e consultar o arquivo só para os ids não encontrados")
+    public void testDeleteExpenses_Outcomes() {
+
+        User user = new User();
+        user.setId(1L);
+        UUID paidId = UUID.randomUUID();
+        UUID pendingId = UUID.randomUUID();
+        UUID archivedId = UUID.randomUUID();
+        VersionedExpenseDto paid = new VersionedExpenseDto(paidId, "Mercado", BigDecimal.TEN, Status.PAID, LocalDate.now(), 1L, 0);
+        VersionedExpenseDto pending = new VersionedExpenseDto(pendingId, "Água", BigDecimal.ONE, Status.PENDING, LocalDate.now(), 1L, 0);
+        ExpenseDto archived = new ExpenseDto(archivedId, "Aluguel", BigDecimal.TEN, Status.PAID, LocalDate.of(2020, 1, 1));
+
+        when(expenseRepository.findForUpdate(1L, List.of(paidId, pendingId, archivedId))).thenReturn(List.of(paid, pending));
+        when(expenseArchiveRepository.findForDelete(1L, List.of(archivedId))).thenReturn(List.of(archived));
+
+        List<ExpenseDeleteResultDto> result = expenseService.deleteExpenses(user, List.of(paidId, pendingId, archivedId));
+
+        assertEquals(List.of(
+                new ExpenseDeleteResultDto(paidId, DeleteOutcome.DELETED),
+                new ExpenseDeleteResultDto(pendingId, DeleteOutcome.NOT_PAID),
+                new ExpenseDeleteResultDto(archivedId, DeleteOutcome.DELETED)), result);
+        verify(expenseRepository).deleteByUserAndIds(1L, List.of(paidId));
+        verify(expenseArchiveRepository).deleteByUserAndIds(1L, Set.of(archivedId));
+        verify(eventPublisher).publishEvent(ExpenseChangedEvent.deleted(1L, List.of(paid.expense(), archived)));
+    }
+
+    @Test
+    @DisplayName("Deve lançar InvalidRequestException para um lote de exclusão vazio ou com mais de 1000 despesas")
+    public void testDeleteExpenses_InvalidBatch() {
+
+        User user = new User();
+        user.setId(1L);
+        List<UUID> tooMany = Collections.nCopies(ExpenseService.MAX_BATCH_SIZE + 1, UUID.randomUUID());
+
+        assertThrows(InvalidRequestException.class, () -> expenseService.deleteExpenses(user, List.of()));
+        assertThrows(InvalidRequestException.class, () -> expenseService.deleteExpenses(user, tooMany));
+        verifyNoInteractions(expenseRepository, expenseArchiveRepository, eventPublisher);
+    }
+
     @Test()
     @DisplayName("Deve deletar a despesa com sucesso quando o usuário está autorizado e a despesa é encontrada")
     public void testDeleteExpense_Success() {
 
-        String token = "valid-token";
         UUID expenseId = UUID.randomUUID();
 
         User user = new User();
@@ -166,11 +404,10 @@ public class ExpenseServiceTest {
         Expense expense = new Expense();
         expense.setUser(user);
 
-        when(tokenService.getUserFromToken(token)).thenReturn(user);
         when(expenseRepository.findById(expenseId)).thenReturn(Optional.of(expense));
         doNothing().when(validateDeleteExpense).validate(expense, user);
 
-        expenseService.deleteExpense(token, expenseId);
+        expenseService.deleteExpense(user, expenseId);
 
         verify(expenseRepository).delete(expense);
     }
@@ -179,15 +416,13 @@ public class ExpenseServiceTest {
     @DisplayName("Deve lançar ExpenseNotFoundException quando a despesa não for encontrada para exclusão")
     public void testDeleteExpense_ExpenseNotFound() {
 
-        String token = "valid-token";
         UUID expenseId = UUID.randomUUID();
         User user = new User();
 
-        when(tokenService.getUserFromToken(token)).thenReturn(user);
         when(expenseRepository.findById(expenseId)).thenReturn(Optional.empty());
 
         Exception exception = assertThrows(ExpenseNotFoundException.class, () -> {
-            expenseService.deleteExpense(token, expenseId);
+            expenseService.deleteExpense(user, expenseId);
         });
 
         assertTrue(exception.getMessage().contains("Despesa não encontrada"));
@@ -197,7 +432,6 @@ public class ExpenseServiceTest {
     @DisplayName("Verifica se o método deleteExpense lança UnauthorizedAccessException quando um usuário não autorizado tenta deletar uma despesa.")
     public void testDeleteExpense_UnauthorizedAccess() {
 
-        String token = "invalid-token";
         UUID expenseId = UUID.randomUUID();
         User unauthorizedUser = new User();
         unauthorizedUser.setId(1L);
@@ -209,14 +443,13 @@ public class ExpenseServiceTest {
         expense.setId(expenseId);
 
 
-        when(tokenService.getUserFromToken(token)).thenReturn(unauthorizedUser);
         when(expenseRepository.findById(expenseId)).thenReturn(Optional.of(expense));
 
         doThrow(new UnauthorizedAccessException("Você não tem permissão para deletar esta despesa."))
                 .when(validateDeleteExpense).validate(any(Expense.class), any(User.class));
 
         assertThrows(UnauthorizedAccessException.class, () -> {
-            expenseService.deleteExpense(token, expenseId);
+            expenseService.deleteExpense(unauthorizedUser, expenseId);
         });
     }
 
@@ -224,45 +457,37 @@ public class ExpenseServiceTest {
     @DisplayName("Deve retornar a lista de despesas do usuário com sucesso")
     public void testGetExpenses_Success() {
 
-        String token = "valid-token";
         User user = new User();
         user.setId(1L);
 
-        Expense expense1 = new Expense();
-        expense1.setDate(LocalDate.of(2024, 8, 20));
-
-        Expense expense2 = new Expense();
-        expense2.setDate(LocalDate.of(2024, 8, 22));
+        ExpenseDto expense1 = new ExpenseDto(UUID.randomUUID(), "Description", BigDecimal.valueOf(100.00), Status.PENDING, LocalDate.of(2024, 8, 20));
+        ExpenseDto expense2 = new ExpenseDto(UUID.randomUUID(), "Description", BigDecimal.valueOf(100.00), Status.PENDING, LocalDate.of(2024, 8, 22));
 
-        List<Expense> expenseList = new ArrayList<>();
-        expenseList.add(expense1);
-        expenseList.add(expense2);
+        List<ExpenseDto> expenseList = List.of(expense1, expense2);
 
-        when(tokenService.getUserFromToken(token)).thenReturn(user);
-        when(expenseRepository.findByUserInvolved(user.getId())).thenReturn(expenseList);
+        when(expenseRepository.findPageByUserInvolved(eq(user.getId()), any(Limit.class))).thenReturn(expenseList);
 
-        List<ExpenseDto> result = expenseService.getExpenses(token);
+        ExpensePageDto result = expenseService.getExpenses(user, null, null);
 
         assertNotNull(result);
-        assertEquals(2, result.size());
+        assertEquals(2, result.expenses().size());
+        assertNull(result.nextCursor());
 
-        assertEquals(expense1.getDate(), result.get(0).date());
-        assertEquals(expense2.getDate(), result.get(1).date());
+        assertEquals(expense1.date(), result.expenses().get(0).date());
+        assertEquals(expense2.date(), result.expenses().get(1).date());
     }
 
     @Test
     @DisplayName("Deve lançar uma exceção quando não houver despesas registradas")
     public void testGetExpenses_ExpenseNotFound() {
 
-        String token = "valid-token";
         User user = new User();
         user.setId(1L);
 
-        when(tokenService.getUserFromToken(token)).thenReturn(user);
-        when(expenseRepository.findByUserInvolved(user.getId())).thenReturn(Collections.emptyList());
+        when(expenseRepository.findPageByUserInvolved(eq(user.getId()), any(Limit.class))).thenReturn(Collections.emptyList());
 
         Exception exception = assertThrows(ExpenseNotFoundException.class, () -> {
-            expenseService.getExpenses(token);
+            expenseService.getExpenses(user, null, null);
         });
 
         assertTrue(exception.getMessage().contains("Você não tem despesas registradas no momento."));
@@ -272,15 +497,13 @@ public class ExpenseServiceTest {
     @DisplayName("Deve lançar uma exceção quando ocorrer um erro inesperado ao listar despesas")
     public void testGetExpenses_Exception() {
 
-        String token = "valid-token";
         User user = new User();
         user.setId(1L);
 
-        when(tokenService.getUserFromToken(token)).thenReturn(user);
-        when(expenseRepository.findByUserInvolved(user.getId())).thenThrow(new RuntimeException("Erro inesperado"));
+        when(expenseRepository.findPageByUserInvolved(eq(user.getId()), any(Limit.class))).thenThrow(new RuntimeException("Erro inesperado"));
 
         Exception exception = assertThrows(RuntimeException.class, () -> {
-            expenseService.getExpenses(token);
+            expenseService.getExpenses(user, null, null);
         });
 
         assertTrue(exception.getMessage().contains("Erro ao listar despesa."));
@@ -290,47 +513,37 @@ public class ExpenseServiceTest {
     @DisplayName("Deve retornar a lista de despesas pendentes do usuário com sucesso")
     public void testGetExpensesPending_Success() {
 
-        String token = "valid-token";
         User user = new User();
         user.setId(1L);
 
-        Expense expense1 = new Expense();
-        expense1.setStatus(Status.PENDING);
-        expense1.setDate(LocalDate.of(2024, 8, 20));
-
-        Expense expense2 = new Expense();
-        expense2.setStatus(Status.PENDING);
-        expense2.setDate(LocalDate.of(2024, 8, 22));
+        ExpenseDto expense1 = new ExpenseDto(UUID.randomUUID(), "Description", BigDecimal.valueOf(100.00), Status.PENDING, LocalDate.of(2024, 8, 20));
+        ExpenseDto expense2 = new ExpenseDto(UUID.randomUUID(), "Description", BigDecimal.valueOf(100.00), Status.PENDING, LocalDate.of(2024, 8, 22));
 
-        List<Expense> expenseList = new ArrayList<>();
-        expenseList.add(expense1);
-        expenseList.add(expense2);
+        List<ExpenseDto> expenseList = List.of(expense1, expense2);
 
-        when(tokenService.getUserFromToken(token)).thenReturn(user);
-        when(expenseRepository.findByUserInvolvedAndStatus(user.getId(), Status.PENDING)).thenReturn(expenseList);
+        when(expenseRepository.findPageByUserInvolvedAndStatus(eq(user.getId()), eq(Status.PENDING), any(Limit.class))).thenReturn(expenseList);
 
-        List<ExpenseDto> result = expenseService.getExpensesPending(token);
+        ExpensePageDto result = expenseService.getExpensesPending(user, null, null);
 
         assertNotNull(result);
-        assertEquals(2, result.size());
+        assertEquals(2, result.expenses().size());
+        assertNull(result.nextCursor());
 
-        assertEquals(expense1.getStatus(), result.get(0).status());
-        assertEquals(expense2.getStatus(), result.get(1).status());
+        assertEquals(expense1.status(), result.expenses().get(0).status());
+        assertEquals(expense2.status(), result.expenses().get(1).status());
     }
 
     @Test
     @DisplayName("Deve lançar uma exceção quando não houver despesas pendentes")
     public void testGetExpensesPending_ExpenseNotFound() {
 
-        String token = "valid-token";
         User user = new User();
         user.setId(1L);
 
-        when(tokenService.getUserFromToken(token)).thenReturn(user);
-        when(expenseRepository.findByUserInvolvedAndStatus(user.getId(), Status.PENDING)).thenReturn(Collections.emptyList());
+        when(expenseRepository.findPageByUserInvolvedAndStatus(eq(user.getId()), eq(Status.PENDING), any(Limit.class))).thenReturn(Collections.emptyList());
 
         Exception exception = assertThrows(ExpenseNotFoundException.class, () -> {
-            expenseService.getExpensesPending(token);
+            expenseService.getExpensesPending(user, null, null);
         });
 
         assertTrue(exception.getMessage().contains("Não há despesas pendentes no momento."));
@@ -340,49 +553,127 @@ public class ExpenseServiceTest {
     @DisplayName("Deve retornar a lista de despesas pagas do usuário com sucesso")
     public void testGetExpensesPaid_Success() {
 
-        String token = "valid-token";
         User user = new User();
         user.setId(1L);
 
-        Expense expense1 = new Expense();
-        expense1.setStatus(Status.PAID);
-        expense1.setDate(LocalDate.of(2024, 8, 20));
-
-        Expense expense2 = new Expense();
-        expense2.setStatus(Status.PAID);
-        expense2.setDate(LocalDate.of(2024, 8, 22));
+        ExpenseDto expense1 = new ExpenseDto(UUID.randomUUID(), "Description", BigDecimal.valueOf(100.00), Status.PAID, LocalDate.of(2024, 8, 20));
+        ExpenseDto expense2 = new ExpenseDto(UUID.randomUUID(), "Description", BigDecimal.valueOf(100.00), Status.PAID, LocalDate.of(2024, 8, 22));
 
-        List<Expense> expenseList = new ArrayList<>();
-        expenseList.add(expense1);
-        expenseList.add(expense2);
+        List<ExpenseDto> expenseList = List.of(expense1, expense2);
 
-        when(tokenService.getUserFromToken(token)).thenReturn(user);
-        when(expenseRepository.findByUserInvolvedAndStatus(user.getId(), Status.PAID)).thenReturn(expenseList);
+        when(expenseRepository.findPageByUserInvolvedAndStatus(eq(user.getId()), eq(Status.PAID), any(Limit.class))).thenReturn(expenseList);
 
-        List<ExpenseDto> result = expenseService.getExpensesPaid(token);
+        ExpensePageDto result = expenseService.getExpensesPaid(user, null, null);
 
         assertNotNull(result);
-        assertEquals(2, result.size());
+        assertEquals(2, result.expenses().size());
+        assertNull(result.nextCursor());
 
-        assertEquals(expense1.getStatus(), result.get(0).status());
-        assertEquals(expense2.getStatus(), result.get(1).status());
+        assertEquals(expense1.status(), result.expenses().get(0).status());
+        assertEquals(expense2.status(), result.expenses().get(1).status());
     }
 
     @Test
     @DisplayName("Deve lançar uma exceção quando não houver despesas pagas")
     public void testGetExpensesPaid_ExpenseNotFound() {
 
-        String token = "valid-token";
         User user = new User();
         user.setId(1L);
 
-        when(tokenService.getUserFromToken(token)).thenReturn(user);
-        when(expenseRepository.findByUserInvolvedAndStatus(user.getId(), Status.PAID)).thenReturn(Collections.emptyList());
+        when(expenseRepository.findPageByUserInvolvedAndStatus(eq(user.getId()), eq(Status.PAID), any(Limit.class))).thenReturn(Collections.emptyList());
 
         Exception exception = assertThrows(ExpenseNotFoundException.class, () -> {
-            expenseService.getExpensesPaid(token);
+            expenseService.getExpensesPaid(user, null, null);
         });
 
         assertTrue(exception.getMessage().contains("Não há despesas pagas no momento."));
     }
+
+    @Test
+    @DisplayName("Deve retornar o cursor da próxima página quando houver mais despesas que o tamanho da página")
+    public void testGetExpenses_NextCursor() {
+
+        User user = new User();
+        user.setId(1L);
+
+        ExpenseDto expense1 = new ExpenseDto(UUID.randomUUID(), "Description", BigDecimal.valueOf(100.00), Status.PENDING, LocalDate.of(2024, 8, 20));
+        ExpenseDto expense2 = new ExpenseDto(UUID.randomUUID(), "Description", BigDecimal.valueOf(100.00), Status.PENDING, LocalDate.of(2024, 8, 22));
+
+        when(expenseRepository.findPageByUserInvolved(user.getId(), Limit.of(2)))
+                .thenReturn(new ArrayList<>(List.of(expense1, expense2)));
+
+        ExpensePageDto result = expenseService.getExpenses(user, null, 1);
+
+        assertEquals(1, result.expenses().size());
+        assertEquals(ExpenseCursor.of(expense1).encode(), result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve buscar a página seguinte a partir do cursor informado")
+    public void testGetExpenses_AfterCursor() {
+
+        User user = new User();
+        user.setId(1L);
+
+        ExpenseCursor cursor = new ExpenseCursor(LocalDate.of(2024, 8, 20), UUID.randomUUID());
+
+        when(expenseRepository.findPageByUserInvolvedAfter(user.getId(), cursor.date(), cursor.id(),
+                Limit.of(ExpenseService.DEFAULT_PAGE_SIZE + 1))).thenReturn(Collections.emptyList());
+
+        ExpensePageDto result = expenseService.getExpenses(user, cursor.encode(), null);
+
+        assertTrue(result.expenses().isEmpty());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve lançar InvalidRequestException quando o cursor ou o tamanho da página forem inválidos")
+    public void testGetExpenses_InvalidPage() {
+
+        User user = new User();
+        user.setId(1L);
+
+        assertThrows(InvalidRequestException.class, () -> expenseService.getExpenses(user, "cursor-invalido", null));
+        assertThrows(InvalidRequestException.class, () -> expenseService.getExpenses(user, null, 0));
+        assertThrows(InvalidRequestException.class,
+                () -> expenseService.getExpenses(user, null, ExpenseService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar os filtros no banco, fixando o status da listagem de pendentes")
+    public void testGetExpensesPending_Filtered() {
+
+        User user = new User();
+        user.setId(1L);
+
+        ExpenseFilterDto filter = new ExpenseFilterDto(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31),
+                null, null, Set.of(Status.PAID), null);
+        ExpenseDto expense = new ExpenseDto(UUID.randomUUID(), "Mercado", BigDecimal.valueOf(250.40), Status.PENDING, LocalDate.of(2024, 5, 20));
+
+        when(expenseRepository.findFilteredPage(1L, filter.withStatus(Status.PENDING), null, Limit.of(ExpenseService.DEFAULT_PAGE_SIZE + 1)))
+                .thenReturn(List.of(expense));
+
+        ExpensePageDto result = expenseService.getExpensesPending(user, filter, null, null);
+
+        assertEquals(List.of(expense), result.expenses());
+        verify(expenseRepository, never()).findPageByUserInvolvedAndStatus(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar InvalidRequestException quando os filtros forem inconsistentes")
+    public void testGetExpenses_InvalidFilter() {
+
+        User user = new User();
+        user.setId(1L);
+
+        ExpenseFilterDto invertedDates = new ExpenseFilterDto(LocalDate.of(2024, 5, 31), LocalDate.of(2024, 5, 1), null, null, null, null);
+        ExpenseFilterDto invertedAmounts = new ExpenseFilterDto(null, null, BigDecimal.TEN, BigDecimal.ONE, null, null);
+        ExpenseFilterDto longDescription = new ExpenseFilterDto(null, null, null, null, null,
+                "x".repeat(ExpenseService.MAX_DESCRIPTION_FILTER_LENGTH + 1));
+
+        assertThrows(InvalidRequestException.class, () -> expenseService.getExpenses(user, invertedDates, null, null));
+        assertThrows(InvalidRequestException.class, () -> expenseService.getExpenses(user, invertedAmounts, null, null));
+        assertThrows(InvalidRequestException.class, () -> expenseService.getExpenses(user, longDescription, null, null));
+        verifyNoInteractions(expenseRepository);
+    }
 }
\ No newline at end of file
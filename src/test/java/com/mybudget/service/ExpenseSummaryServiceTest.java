@@ -0,0 +1,135 @@
+package com.mybudget.service;
+
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.ExpenseSummaryDto;
+import com.mybudget.domain.dto.MonthlySummaryDto;
+import com.mybudget.domain.dto.StatusSummaryDto;
+import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.repository.ExpenseArchiveRepository;
+import com.mybudget.domain.repository.ExpenseRepository;
+import com.mybudget.domain.repository.UserExpenseSummaryRepository;
+import com.mybudget.domain.service.ExpenseSummaryService;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExpenseSummaryServiceTest {
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @Mock
+    private ExpenseArchiveRepository expenseArchiveRepository;
+
+    @Mock
+    private UserExpenseSummaryRepository summaryRepository;
+
+    @InjectMocks
+    private ExpenseSummaryService expenseSummaryService;
+
+    @Test
+    @DisplayName("Deve ler os totais de tb_user_expense_summary quando o período não for informado")
+    public void testGetSummary_WithoutPeriod() {
+
+        User user = new User();
+        user.setId(1L);
+        LocalDate minDate = LocalDate.of(1000, 1, 1);
+        LocalDate maxDate = LocalDate.of(9999, 12, 31);
+        List<StatusSummaryDto> statuses = List.of(new StatusSummaryDto(Status.PAID, BigDecimal.TEN, 1));
+
+        when(summaryRepository.findStatusesByUser(1L)).thenReturn(statuses);
+        when(summaryRepository.findMonthsByUser(1L)).thenReturn(List.of());
+        when(expenseRepository.findTopByAmount(1L, minDate, maxDate, Limit.of(ExpenseSummaryService.DEFAULT_TOP))).thenReturn(List.of());
+
+        ExpenseSummaryDto result = expenseSummaryService.getSummary(user, null, null, null);
+
+        assertNull(result.from());
+        assertNull(result.to());
+        assertEquals(statuses, result.statuses());
+        verify(expenseRepository, never()).summarizeByStatus(any(), any(), any());
+        verify(expenseRepository, never()).summarizeByMonth(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve somar as despesas arquivadas aos totais e às maiores despesas do período")
+    public void testGetSummary_IncludesArchived() {
+
+        User user = new User();
+        user.setId(1L);
+        LocalDate from = LocalDate.of(2023, 1, 1);
+        LocalDate to = LocalDate.of(2024, 12, 31);
+        ExpenseDto rent = new ExpenseDto(UUID.randomUUID(), "Aluguel", new BigDecimal("1500.00"), Status.PAID, LocalDate.of(2023, 3, 1));
+        ExpenseDto market = new ExpenseDto(UUID.randomUUID(), "Mercado", new BigDecimal("300.00"), Status.PAID, LocalDate.of(2024, 3, 1));
+        ExpenseDto water = new ExpenseDto(UUID.randomUUID(), "Água", new BigDecimal("80.00"), Status.PENDING, LocalDate.of(2024, 3, 2));
+
+        when(expenseRepository.summarizeByStatus(1L, from, to)).thenReturn(List.of(
+                new StatusSummaryDto(Status.PENDING, new BigDecimal("80.00"), 1),
+                new StatusSummaryDto(Status.PAID, new BigDecimal("300.00"), 1)));
+        when(expenseArchiveRepository.summarizeByStatus(1L, from, to)).thenReturn(List.of(
+                new StatusSummaryDto(Status.PAID, new BigDecimal("1500.00"), 1)));
+        when(expenseRepository.summarizeByMonth(1L, from, to)).thenReturn(List.of(
+                new MonthlySummaryDto(2024, 3, Status.PENDING, new BigDecimal("80.00"), 1),
+                new MonthlySummaryDto(2024, 3, Status.PAID, new BigDecimal("300.00"), 1)));
+        when(expenseArchiveRepository.summarizeByMonth(1L, from, to)).thenReturn(List.of(
+                new MonthlySummaryDto(2023, 3, Status.PAID, new BigDecimal("1500.00"), 1)));
+        when(expenseRepository.findTopByAmount(1L, from, to, Limit.of(2))).thenReturn(List.of(market, water));
+        when(expenseArchiveRepository.findTopByAmount(1L, from, to, Limit.of(2))).thenReturn(List.of(rent));
+
+        ExpenseSummaryDto result = expenseSummaryService.getSummary(user, from, to, 2);
+
+        assertEquals(List.of(
+                new StatusSummaryDto(Status.PENDING, new BigDecimal("80.00"), 1),
+                new StatusSummaryDto(Status.PAID, new BigDecimal("1800.00"), 2)), result.statuses());
+        assertEquals(List.of(
+                new MonthlySummaryDto(2023, 3, Status.PAID, new BigDecimal("1500.00"), 1),
+                new MonthlySummaryDto(2024, 3, Status.PENDING, new BigDecimal("80.00"), 1),
+                new MonthlySummaryDto(2024, 3, Status.PAID, new BigDecimal("300.00"), 1)), result.months());
+        assertEquals(List.of(rent, market), result.topExpenses());
+    }
+
+    @Test
+    @DisplayName("Não deve buscar as maiores despesas quando top for zero")
+    public void testGetSummary_WithoutTopExpenses() {
+
+        User user = new User();
+        user.setId(1L);
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 12, 31);
+
+        ExpenseSummaryDto result = expenseSummaryService.getSummary(user, from, to, 0);
+
+        assertTrue(result.topExpenses().isEmpty());
+        verify(expenseRepository).summarizeByMonth(1L, from, to);
+        verify(expenseRepository, never()).findTopByAmount(any(), any(), any(), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar InvalidRequestException para um período ou top inválido")
+    public void testGetSummary_InvalidRequest() {
+
+        User user = new User();
+        user.setId(1L);
+        LocalDate from = LocalDate.of(2024, 12, 31);
+        LocalDate to = LocalDate.of(2024, 1, 1);
+
+        assertThrows(InvalidRequestException.class, () -> expenseSummaryService.getSummary(user, from, to, null));
+        assertThrows(InvalidRequestException.class, () -> expenseSummaryService.getSummary(user, null, null, ExpenseSummaryService.MAX_TOP + 1));
+        verifyNoInteractions(expenseRepository, expenseArchiveRepository, summaryRepository);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.mybudget.service;
+
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.expense.ExpenseChangedEvent;
+import com.mybudget.domain.expense.ExpenseTombstone;
+import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.repository.ExpenseRepository;
+import com.mybudget.domain.repository.ExpenseTombstoneRepository;
+import com.mybudget.domain.service.ExpenseSyncService;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExpenseSyncServiceTest {
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @Mock
+    private ExpenseTombstoneRepository tombstoneRepository;
+
+    @InjectMocks
+    private ExpenseSyncService expenseSyncService;
+
+    @Test
+    @DisplayName("Deve registrar a exclusão de cada despesa removida pelo ExpenseService")
+    @SuppressWarnings("unchecked")
+    public void testOnExpenseChanged_Deleted() {
+
+        ExpenseDto expense = expense(Status.PAID);
+
+        expenseSyncService.onExpenseChanged(ExpenseChangedEvent.deleted(1L, expense));
+
+        ArgumentCaptor<List<ExpenseTombstone>> captor = ArgumentCaptor.forClass(List.class);
+        verify(tombstoneRepository).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(expense.id(), captor.getValue().get(0).getId());
+        assertEquals(1L, captor.getValue().get(0).getUserId());
+        assertNotNull(captor.getValue().get(0).getDeletedAt());
+    }
+
+    @Test
+    @DisplayName("Não deve registrar exclusão ao criar ou atualizar despesas")
+    public void testOnExpenseChanged_CreatedOrUpdated() {
+
+        ExpenseDto before = expense(Status.PENDING);
+        ExpenseDto after = new ExpenseDto(before.id(), before.description(), before.amount(), Status.PAID, before.date());
+
+        expenseSyncService.onExpenseChanged(ExpenseChangedEvent.created(1L, List.of(before)));
+        expenseSyncService.onExpenseChanged(ExpenseChangedEvent.updated(1L, before, after));
+
+        verify(tombstoneRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar marca de sincronização inválida")
+    public void testGetChanges_InvalidWatermark() {
+
+        User user = new User();
+        user.setId(1L);
+
+        assertThrows(InvalidRequestException.class, () -> expenseSyncService.getChanges(user, "inválida", null));
+        verifyNoInteractions(expenseRepository, tombstoneRepository);
+    }
+
+    private static ExpenseDto expense(Status status) {
+        return new ExpenseDto(UUID.randomUUID(), "Mercado", BigDecimal.TEN, status, LocalDate.of(2024, 6, 1));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.mybudget.service;
+
+import com.mybudget.domain.expense.ExpenseArchivedEvent;
+import com.mybudget.domain.expense.ExpenseChangedEvent;
+import com.mybudget.domain.service.ExpenseVersionService;
+import com.mybudget.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A versão fica em tb_user_expense_version, então outra instância da API (aqui, o JdbcTemplate) lê o mesmo ETag.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(ExpenseVersionService.class)
+public class ExpenseVersionServiceTest {
+
+    @Autowired
+    private ExpenseVersionService expenseVersionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (1, 'User 1', 'user1@email.com', 'password', 'USER')");
+        jdbcTemplate.update("INSERT INTO tb_user (id, name, email, password, user_role) VALUES (2, 'User 2', 'user2@email.com', 'password', 'USER')");
+    }
+
+    @Test
+    @DisplayName("Deve manter o mesmo ETag enquanto as despesas do usuário não forem alteradas")
+    public void testGetETag_Stable() {
+
+        User user = user(1L);
+
+        String eTag = expenseVersionService.getETag(user);
+
+        assertEquals("\"0\"", eTag);
+        assertEquals(eTag, expenseVersionService.getETag(user));
+    }
+
+    @Test
+    @DisplayName("Deve trocar o ETag apenas do usuário cujas despesas foram alteradas ou arquivadas")
+    public void testOnExpenseChanged_ChangesOnlyUserVersion() {
+
+        User user = user(1L);
+        User other = user(2L);
+
+        String eTag = expenseVersionService.getETag(user);
+        String otherETag = expenseVersionService.getETag(other);
+
+        expenseVersionService.onExpenseChanged(ExpenseChangedEvent.created(user.getId(), List.of()));
+        String changed = expenseVersionService.getETag(user);
+
+        assertNotEquals(eTag, changed);
+        assertEquals(otherETag, expenseVersionService.getETag(other));
+
+        expenseVersionService.onExpenseArchived(new ExpenseArchivedEvent(user.getId(), List.of()));
+
+        assertNotEquals(changed, expenseVersionService.getETag(user));
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT version FROM tb_user_expense_version WHERE user_id = 1", Long.class));
+    }
+
+    private static User user(Long id) {
+
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
\ No newline at end of file
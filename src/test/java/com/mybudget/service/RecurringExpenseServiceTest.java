@@ -0,0 +1,174 @@
+package com.mybudget.service;
+
+import com.mybudget.domain.dto.RecurringExpenseDto;
+import com.mybudget.domain.expense.Frequency;
+import com.mybudget.domain.repository.RecurringExpenseRepository;
+import com.mybudget.domain.repository.UserRepository;
+import com.mybudget.domain.service.RecurringExpenseScheduler;
+import com.mybudget.domain.service.RecurringExpenseService;
+import com.mybudget.domain.service.UserExpenseSummaryService;
+import com.mybudget.domain.user.User;
+import com.mybudget.infra.exception.ExpenseNotFoundException;
+import com.mybudget.infra.exception.InvalidRequestException;
+import com.mybudget.infra.exception.RecurringExpenseLockedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Lança despesas recorrentes pelo RecurringExpenseScheduler sobre o H2, em blocos de um modelo, e confere as
+ * despesas geradas, o ponto de retomada (next_date), a reserva entre nós e os totais do usuário.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class RecurringExpenseServiceTest {
+
+    private static final long USER_ID = 500L;
+
+    @Autowired
+    private RecurringExpenseService recurringExpenseService;
+
+    @Autowired
+    private RecurringExpenseScheduler recurringExpenseScheduler;
+
+    @Autowired
+    private RecurringExpenseRepository recurringExpenseRepository;
+
+    @Autowired
+    private UserExpenseSummaryService userExpenseSummaryService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    private LocalDate today;
+
+    @BeforeEach
+    public void setUp() {
+
+        jdbcTemplate.update("DELETE FROM tb_recurring_expense");
+        jdbcTemplate.update("DELETE FROM tb_user_expense_summary WHERE user_id = ?", USER_ID);
+        jdbcTemplate.update("DELETE FROM tb_expense WHERE user_id = ?", USER_ID);
+        jdbcTemplate.update("MERGE INTO tb_user (id, name, email, password, user_role) KEY (id) VALUES (?, 'Recurring', 'recurring@email.com', 'password', 'USER')", USER_ID);
+
+        ReflectionTestUtils.setField(recurringExpenseScheduler, "chunkSize", 1);
+        ReflectionTestUtils.setField(recurringExpenseScheduler, "maxChunks", 20);
+        ReflectionTestUtils.setField(recurringExpenseScheduler, "chunkPause", Duration.ZERO);
+
+        user = userRepository.findById(USER_ID).orElseThrow();
+        today = LocalDate.now();
+    }
+
+    @Test
+    @DisplayName("Deve lançar as ocorrências vencidas em blocos, avançar next_date e manter os totais")
+    public void testRun_GeneratesDueExpenses() {
+
+        LocalDate monthlyStart = today.minusMonths(2);
+        RecurringExpenseDto rent = recurringExpenseService.newRecurringExpense(user,
+                new RecurringExpenseDto(null, "Aluguel", new BigDecimal("1500.00"), Frequency.MONTHLY, null, monthlyStart, null));
+        RecurringExpenseDto gym = recurringExpenseService.newRecurringExpense(user,
+                new RecurringExpenseDto(null, "Academia", new BigDecimal("30.00"), Frequency.WEEKLY, null, today.minusWeeks(1), null));
+
+        assertEquals(monthlyStart, rent.nextDate());
+
+        assertEquals(5, recurringExpenseScheduler.run());
+
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_expense WHERE user_id = ? AND description = 'Aluguel' AND status = 'PENDING'", Integer.class, USER_ID));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_expense WHERE user_id = ? AND description = 'Academia'", Integer.class, USER_ID));
+        assertEquals(monthlyStart.plusMonths(3), recurringExpenseRepository.findById(rent.id()).orElseThrow().getNextDate());
+        assertEquals(today.plusWeeks(1), recurringExpenseRepository.findById(gym.id()).orElseThrow().getNextDate());
+        assertNull(recurringExpenseRepository.findById(rent.id()).orElseThrow().getLeaseToken());
+        assertTrue(userExpenseSummaryService.check(USER_ID).isEmpty());
+
+        // Nada mais vence até a próxima ocorrência: a execução seguinte não lança nada.
+        assertEquals(0, recurringExpenseScheduler.run());
+    }
+
+    @Test
+    @DisplayName("Deve manter o modelo com um único nó até a reserva expirar")
+    public void testClaim_LeaseIsExclusive() {
+
+        recurringExpenseService.newRecurringExpense(user,
+                new RecurringExpenseDto(null, "Internet", new BigDecimal("99.90"), Frequency.MONTHLY, null, today, null));
+
+        UUID first = recurringExpenseService.claimDue(today, 10);
+
+        assertNotNull(first);
+        assertNull(recurringExpenseService.claimDue(today, 10));
+
+        jdbcTemplate.update("UPDATE tb_recurring_expense SET lease_until = DATEADD('MINUTE', -1, CURRENT_TIMESTAMP(6)) WHERE user_id = ?", USER_ID);
+        UUID second = recurringExpenseService.claimDue(today, 10);
+
+        assertNotNull(second);
+        assertEquals(0, recurringExpenseService.generateClaimed(first, today));
+        assertEquals(1, recurringExpenseService.generateClaimed(second, today));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_expense WHERE user_id = ?", Integer.class, USER_ID));
+    }
+
+    @Test
+    @DisplayName("Deve calcular a primeira ocorrência de uma expressão cron e rejeitar expressões inválidas")
+    public void testNewRecurringExpense_Cron() {
+
+        RecurringExpenseDto bill = recurringExpenseService.newRecurringExpense(user,
+                new RecurringExpenseDto(null, "Cartão", new BigDecimal("800.00"), Frequency.CRON, "0 0 0 10 * *", today, null));
+
+        LocalDate expected = today.getDayOfMonth() <= 10 ? today.withDayOfMonth(10) : today.plusMonths(1).withDayOfMonth(10);
+        assertEquals(expected, bill.nextDate());
+
+        assertThrows(InvalidRequestException.class, () -> recurringExpenseService.newRecurringExpense(user,
+                new RecurringExpenseDto(null, "Cartão", new BigDecimal("800.00"), Frequency.CRON, "todo dia 10", today, null)));
+        assertThrows(InvalidRequestException.class, () -> recurringExpenseService.newRecurringExpense(user,
+                new RecurringExpenseDto(null, "Cartão", BigDecimal.ZERO, Frequency.MONTHLY, null, today, null)));
+    }
+
+    @Test
+    @DisplayName("Deve lançar ExpenseNotFoundException ao excluir um modelo de outro usuário")
+    public void testDeleteRecurringExpense_OtherUser() {
+
+        RecurringExpenseDto rent = recurringExpenseService.newRecurringExpense(user,
+                new RecurringExpenseDto(null, "Aluguel", new BigDecimal("1500.00"), Frequency.MONTHLY, null, today, null));
+
+        User other = new User();
+        other.setId(USER_ID + 1);
+
+        assertThrows(ExpenseNotFoundException.class, () -> recurringExpenseService.deleteRecurringExpense(other, rent.id()));
+
+        recurringExpenseService.deleteRecurringExpense(user, rent.id());
+        assertTrue(recurringExpenseService.getRecurringExpenses(user).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve recusar a exclusão de um modelo reservado até o bloco ser gravado")
+    public void testDeleteRecurringExpense_Claimed() {
+
+        RecurringExpenseDto rent = recurringExpenseService.newRecurringExpense(user,
+                new RecurringExpenseDto(null, "Aluguel", new BigDecimal("1500.00"), Frequency.MONTHLY, null, today, null));
+        RecurringExpenseDto gym = recurringExpenseService.newRecurringExpense(user,
+                new RecurringExpenseDto(null, "Academia", new BigDecimal("30.00"), Frequency.MONTHLY, null, today, null));
+
+        UUID token = recurringExpenseService.claimDue(today, 10);
+
+        assertThrows(RecurringExpenseLockedException.class, () -> recurringExpenseService.deleteRecurringExpense(user, rent.id()));
+        assertEquals(2, recurringExpenseService.generateClaimed(token, today));
+
+        recurringExpenseService.deleteRecurringExpense(user, rent.id());
+        assertEquals(1, recurringExpenseService.getRecurringExpenses(user).size());
+        assertEquals(gym.id(), recurringExpenseService.getRecurringExpenses(user).get(0).id());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.mybudget.service;
+
+import com.mybudget.domain.dto.ExpenseDto;
+import com.mybudget.domain.dto.ExpenseStatusBatchDto;
+import com.mybudget.domain.dto.ExpenseSummaryMismatchDto;
+import com.mybudget.domain.dto.MonthlySummaryDto;
+import com.mybudget.domain.dto.UpdateExpenseDto;
+import com.mybudget.domain.expense.Status;
+import com.mybudget.domain.repository.UserExpenseSummaryRepository;
+import com.mybudget.domain.repository.UserRepository;
+import com.mybudget.domain.service.ExpenseService;
+import com.mybudget.domain.service.UserExpenseSummaryService;
+import com.mybudget.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Grava despesas pelo ExpenseService e confere tb_user_expense_summary contra tb_expense.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class UserExpenseSummaryServiceTest {
+
+    private static final long USER_ID = 100L;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private UserExpenseSummaryService userExpenseSummaryService;
+
+    @Autowired
+    private UserExpenseSummaryRepository summaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+
+        jdbcTemplate.update("DELETE FROM tb_user_expense_summary WHERE user_id = ?", USER_ID);
+        jdbcTemplate.update("DELETE FROM tb_expense WHERE user_id = ?", USER_ID);
+        jdbcTemplate.update("MERGE INTO tb_user (id, name, email, password, user_role) KEY (id) VALUES (?, 'Summary', 'summary@email.com', 'password', 'USER')", USER_ID);
+
+        user = userRepository.findById(USER_ID).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Deve manter os totais por mês e status ao registrar, atualizar e excluir despesas")
+    public void testSummary_FollowsExpenseChanges() {
+
+        ExpenseDto rent = expenseService.newExpense(user, new ExpenseDto(null, "Aluguel", new BigDecimal("1500.00"), null, null));
+        expenseService.newExpenses(user, List.of(
+                new ExpenseDto(null, "Mercado", new BigDecimal("250.40"), null, null),
+                new ExpenseDto(null, "Internet", new BigDecimal("99.90"), null, null)));
+
+        expenseService.updateExpense(user, rent.id(), new UpdateExpenseDto(new BigDecimal("1600.00"), null, Status.PAID));
+
+        LocalDate today = LocalDate.now();
+        assertEquals(List.of(
+                new MonthlySummaryDto(today.getYear(), today.getMonthValue(), Status.PENDING, new BigDecimal("350.30"), 2),
+                new MonthlySummaryDto(today.getYear(), today.getMonthValue(), Status.PAID, new BigDecimal("1600.00"), 1)),
+                summaryRepository.findMonthsByUser(USER_ID));
+
+        expenseService.deleteExpense(user, rent.id());
+
+        assertEquals(List.of(
+                new MonthlySummaryDto(today.getYear(), today.getMonthValue(), Status.PENDING, new BigDecimal("350.30"), 2)),
+                summaryRepository.findMonthsByUser(USER_ID));
+        assertTrue(userExpenseSummaryService.check(USER_ID).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve manter os totais ao alterar o status de despesas em lote")
+    public void testSummary_FollowsStatusBatch() {
+
+        List<ExpenseDto> created = expenseService.newExpenses(user, List.of(
+                new ExpenseDto(null, "Aluguel", new BigDecimal("1500.00"), null, null),
+                new ExpenseDto(null, "Internet", new BigDecimal("99.90"), null, null)));
+
+        expenseService.updateStatuses(user, new ExpenseStatusBatchDto(List.of(created.get(0).id(), created.get(1).id()), null, Status.PAID));
+        expenseService.updateStatuses(user, new ExpenseStatusBatchDto(null, LocalDate.now().plusDays(1), Status.PENDING));
+
+        LocalDate today = LocalDate.now();
+        assertEquals(List.of(
+                new MonthlySummaryDto(today.getYear(), today.getMonthValue(), Status.PENDING, new BigDecimal("1599.90"), 2)),
+                summaryRepository.findMonthsByUser(USER_ID));
+        assertTrue(userExpenseSummaryService.check(USER_ID).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve apontar divergências com tb_expense e corrigi-las ao reconstruir")
+    public void testCheckAndRebuild() {
+
+        expenseService.newExpense(user, new ExpenseDto(null, "Mercado", new BigDecimal("250.40"), null, null));
+        jdbcTemplate.update("UPDATE tb_user_expense_summary SET total_amount = 1, expense_count = 5 WHERE user_id = ?", USER_ID);
+        jdbcTemplate.update("INSERT INTO tb_user_expense_summary VALUES (?, 2001, 1, 'PAID', 10.00, 1)", USER_ID);
+
+        List<ExpenseSummaryMismatchDto> mismatches = userExpenseSummaryService.check(USER_ID);
+
+        assertEquals(2, mismatches.size());
+        assertEquals(new BigDecimal("250.40"), mismatches.get(0).expectedTotal());
+        assertEquals(5, mismatches.get(0).actualCount());
+        assertEquals(2001, mismatches.get(1).year());
+        assertEquals(0, mismatches.get(1).expectedCount());
+
+        assertEquals(1, userExpenseSummaryService.rebuild(USER_ID).rows());
+        assertTrue(userExpenseSummaryService.check(USER_ID).isEmpty());
+    }
+}
\ No newline at end of file
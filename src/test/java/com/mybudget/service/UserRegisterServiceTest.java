@@ -5,6 +5,7 @@ import com.mybudget.domain.repository.UserRepository;
 import com.mybudget.domain.service.UserRegisterService;
 import com.mybudget.domain.service.validation.ValidateUserRegister;
 import com.mybudget.domain.user.User;
+import com.mybudget.infra.exception.PasswordHashingUnavailableException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,6 +28,9 @@ public class UserRegisterServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ValidateUserRegister validateUserRegister;
+
     @InjectMocks
     private UserRegisterService userRegisterService;
 
@@ -63,4 +67,17 @@ public class UserRegisterServiceTest {
         Exception exception = assertThrows(RuntimeException.class, () -> userRegisterService.register(userDto));
         assertTrue(exception.getMessage().contains("Ocorreu um erro inesperado. Por favor, tente novamente."));
     }
+
+    @Test
+    @DisplayName("Deve repassar a indisponibilidade do pool de hashing ao registrar um usuário")
+    public void testUserRegister_HashingUnavailable() {
+
+        UserDto userDto = new UserDto(null,"Joao Pedro", "joao@email.com", "123456");
+
+        when(passwordEncoder.encode(userDto.password()))
+                .thenThrow(new PasswordHashingUnavailableException("Muitas autenticações em andamento. Tente novamente em instantes."));
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> userRegisterService.register(userDto));
+        verify(userRepository, never()).save(any(User.class));
+    }
 }
\ No newline at end of file